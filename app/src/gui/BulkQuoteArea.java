@@ -0,0 +1,354 @@
+package gui;
+
+import control.BulkQuoter;
+import control.Calculator;
+import control.QuoteStatus;
+import data.Constants;
+import data.Tariff;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.StandardOpenOption;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import javafx.application.Platform;
+import javafx.beans.property.ReadOnlyStringWrapper;
+import javafx.beans.value.ObservableValue;
+import javafx.concurrent.Task;
+import javafx.geometry.Insets;
+import javafx.geometry.Pos;
+import javafx.scene.control.Button;
+import javafx.scene.control.Label;
+import javafx.scene.control.ProgressBar;
+import javafx.scene.control.TableColumn;
+import javafx.scene.control.TableView;
+import javafx.scene.control.Tooltip;
+import javafx.scene.layout.BorderPane;
+import javafx.scene.layout.HBox;
+import javafx.scene.text.Font;
+import javafx.scene.text.FontWeight;
+import javafx.stage.FileChooser;
+import javafx.util.Callback;
+
+/**
+ * The BulkQuoteArea class represents the GUI component that quotes all packets of a manifest
+ * and shows the results in a table.
+ *
+ * <p>The manifest is quoted by a {@link BulkQuoter} on a virtual thread. The results are stored column by column
+ * in {@link BulkResults} and published once per batch, the table only reads the values of the visible rows.
+ * So the user interface stays responsive for manifests with millions of rows.</p>
+ *
+ * @version 0.1
+ */
+public class BulkQuoteArea extends BorderPane {
+
+    // Runs every bulk quote on its own virtual thread, off the JavaFX application thread
+    private static final ExecutorService BULK_EXECUTOR = Executors.newVirtualThreadPerTaskExecutor();
+
+    // Button to open a manifest
+    private Button openButton = new Button(GuiConstants.Buttons.OPEN_MANIFEST_BUTTON);
+
+    // Button to cancel the running bulk quote
+    private Button cancelButton = new Button(GuiConstants.Buttons.CANCEL_BUTTON);
+
+    // Progress of the running bulk quote by bytes read
+    private ProgressBar progressBar = new ProgressBar(0);
+
+    // Label for the number of quoted rows and the throughput
+    private Label statusLabel = new Label();
+
+    // The rows shown by the table, only changed on the JavaFX application thread
+    private final BulkRowList rowList = new BulkRowList();
+
+    // Table of the results, it only creates cells for the visible rows. Built with the first bulk quote
+    private TableView<Integer> table;
+
+    // The calculator shared by all bulk quotes, it holds the tariff in memory
+    private final Calculator calc = new Calculator();
+
+    // The running bulk quote or null, only used on the JavaFX application thread
+    private BulkQuoteTask pendingQuote;
+
+    /**
+     * The {@code BulkQuoteTask} quotes a manifest and adds the rows to its results.
+     * The table is updated at most once per frame, no matter how many batches are published in between.
+     */
+    private final class BulkQuoteTask extends Task<Long> implements BulkQuoter.RowListener {
+
+        // The manifest to quote
+        private final File manifest;
+
+        // The results of this quote, shown by the table while it is the current one
+        private final BulkResults results;
+
+        // True while an update of the table is scheduled and has not run yet
+        private final AtomicBoolean updateScheduled = new AtomicBoolean();
+
+        // The open manifest, used for the progress
+        private FileChannel channel;
+
+        // Start of the quote for the throughput
+        private long startNanos;
+
+        /**
+         * Constructs a new task to quote a manifest.
+         *
+         * @param manifest the manifest to quote
+         * @param results the results to add the rows to
+         */
+        BulkQuoteTask(File manifest, BulkResults results) {
+            this.manifest = manifest;
+            this.results = results;
+        }
+
+        /**
+         * Quotes all rows of the manifest.
+         *
+         * @return the number of quoted rows
+         * @throws Exception if the manifest or the tariff cannot be read
+         */
+        @Override
+        protected Long call() throws Exception {
+            startNanos = System.nanoTime();
+            try (FileChannel input = FileChannel.open(manifest.toPath(), StandardOpenOption.READ)) {
+                channel = input;
+                new BulkQuoter(calc, this).quote(input);
+            }
+            return (long) results.publish();
+        }
+
+        /**
+         * Adds a row to the results and reports a rejected row in the messages area.
+         *
+         * @param in the buffer with the id of the row
+         * @param idStart the index of the first byte of the id
+         * @param idEnd the index after the last byte of the id
+         * @param tier the tier or tier code of the row
+         * @param costsCents the shipping costs in euro cents
+         */
+        @Override
+        public void row(ByteBuffer in, int idStart, int idEnd, int tier, long costsCents) {
+            results.add(in, idStart, idEnd, tier, costsCents);
+            if (tier < 0) {
+                // the messages area takes messages from any thread and drops them if they come in too fast
+                String id = StandardCharsets.UTF_8.decode(in.slice(idStart, idEnd - idStart)).toString();
+                PackageCalculator.messagesArea.setMessage(GuiConstants.Messages.ROW_REJECTED_MSG.formatted(id, statusText(tier)));
+            }
+        }
+
+        /**
+         * Publishes the rows of the batch, schedules an update of the table and reports the progress.
+         *
+         * @throws IOException if the position in the manifest cannot be read
+         * @throws InterruptedIOException if the task was cancelled
+         */
+        @Override
+        public void batchQuoted() throws IOException {
+            if (isCancelled()) {
+                throw new InterruptedIOException(GuiConstants.Bulk.CANCELLED.formatted(results.publish()));
+            }
+            int rows = results.publish();
+            // only one update is pending at a time, it adds all rows published until it runs
+            if (updateScheduled.compareAndSet(false, true)) {
+                Platform.runLater(() -> {
+                    updateScheduled.set(false);
+                    if (rowList.getResults() == results) {
+                        rowList.update();
+                    }
+                });
+            }
+            updateProgress(channel.position(), channel.size());
+            updateMessage(GuiConstants.Bulk.PROGRESS.formatted(rows, rowsPerSecond(rows)));
+        }
+
+        /**
+         * Returns the throughput since the start of the quote.
+         *
+         * @param rows the number of quoted rows
+         * @return the rows per second
+         */
+        double rowsPerSecond(long rows) {
+            return rows * 1e9 / Math.max(1, System.nanoTime() - startNanos);
+        }
+
+        /**
+         * Returns the duration since the start of the quote.
+         *
+         * @return the milliseconds
+         */
+        long elapsedMillis() {
+            return (System.nanoTime() - startNanos) / 1_000_000;
+        }
+    }
+
+    /**
+     * Lets the user choose a manifest and quotes it.
+     */
+    private void openClicked() {
+        FileChooser fileChooser = new FileChooser();
+        fileChooser.setTitle(GuiConstants.Bulk.OPEN_MANIFEST_TITLE);
+        fileChooser.getExtensionFilters().add(new FileChooser.ExtensionFilter(GuiConstants.Bulk.CSV_FILES, GuiConstants.Bulk.CSV_PATTERN));
+        File manifest = fileChooser.showOpenDialog(getScene() == null ? null : getScene().getWindow());
+        if (manifest != null) {
+            quote(manifest);
+        }
+    }
+
+    /**
+     * Quotes all packets of a manifest and shows the results in the table.
+     * A running bulk quote is cancelled, its rows are replaced by the rows of the new manifest.
+     *
+     * @param manifest the manifest to quote
+     */
+    public void quote(File manifest) {
+        if (pendingQuote != null) {
+            pendingQuote.cancel();
+        }
+
+        if (table == null) {
+            buildTable();
+        }
+        BulkResults results = new BulkResults();
+        rowList.setResults(results);
+        BulkQuoteTask task = new BulkQuoteTask(manifest, results);
+
+        progressBar.progressProperty().bind(task.progressProperty());
+        statusLabel.textProperty().bind(task.messageProperty());
+        cancelButton.setDisable(false);
+
+        task.setOnSucceeded(_ -> {
+            long rows = task.getValue();
+            rowList.update();
+            finished(task, GuiConstants.Bulk.DONE.formatted(rows, results.getValidRows(), task.elapsedMillis(), task.rowsPerSecond(rows)));
+            PackageCalculator.messagesArea.setMessage(statusLabel.getText());
+        });
+        task.setOnCancelled(_ -> {
+            // the rows quoted until the cancel are kept
+            if (rowList.getResults() == results) {
+                rowList.update();
+            }
+            finished(task, GuiConstants.Bulk.CANCELLED.formatted(results.size()));
+        });
+        task.setOnFailed(_ -> {
+            finished(task, task.getMessage());
+            PackageCalculator.messagesArea.setMessage(task.getException().getMessage()); // show error message to user
+        });
+        pendingQuote = task;
+        BULK_EXECUTOR.execute(task);
+    }
+
+    /**
+     * Shows the final status of a bulk quote, if it is still the current one.
+     *
+     * @param task the finished task
+     * @param status the final status
+     */
+    private void finished(BulkQuoteTask task, String status) {
+        if (pendingQuote != task) {
+            return;
+        }
+        pendingQuote = null;
+        progressBar.progressProperty().unbind();
+        statusLabel.textProperty().unbind();
+        statusLabel.setText(status);
+        cancelButton.setDisable(true);
+    }
+
+    /**
+     * Builds the table of the results and shows it instead of the placeholder.
+     */
+    private void buildTable() {
+        table = new TableView<>(rowList);
+
+        // columns of the table, the values are only read for the visible rows
+        table.getColumns().add(column(GuiConstants.Labels.ID_COLUMN, BulkResults::id));
+        table.getColumns().add(column(GuiConstants.Labels.TIER_COLUMN, (results, row) ->
+            results.tier(row) >= 0 ? Integer.toString(results.tier(row)) : ""));
+        table.getColumns().add(column(GuiConstants.Labels.COSTS_COLUMN, (results, row) ->
+            results.tier(row) >= 0 ? Tariff.formatCents(results.costsCents(row)) + Constants.Symbols.EURO : ""));
+        table.getColumns().add(column(GuiConstants.Labels.STATUS_COLUMN, (results, row) -> statusText(results.tier(row))));
+        table.setColumnResizePolicy(TableView.CONSTRAINED_RESIZE_POLICY_FLEX_LAST_COLUMN);
+        table.setPlaceholder(new Label(GuiConstants.Labels.BULK_PLACEHOLDER));
+        this.setCenter(table);
+    }
+
+    /**
+     * Creates a column of the table whose text is computed from the results when a cell becomes visible.
+     *
+     * @param header the header of the column
+     * @param text the text of a row of the results
+     * @return the column
+     */
+    private TableColumn<Integer, String> column(String header, RowText text) {
+        TableColumn<Integer, String> column = new TableColumn<>(header);
+        Callback<TableColumn.CellDataFeatures<Integer, String>, ObservableValue<String>> factory =
+            cell -> new ReadOnlyStringWrapper(text.of(rowList.getResults(), cell.getValue())).getReadOnlyProperty();
+        column.setCellValueFactory(factory);
+        // sorting would need a value for every row
+        column.setSortable(false);
+        return column;
+    }
+
+    /**
+     * The text of a cell of the table.
+     */
+    private interface RowText {
+        /**
+         * Returns the text of a row.
+         *
+         * @param results the results of the bulk quote
+         * @param row the index of the row
+         * @return the text of the cell
+         */
+        String of(BulkResults results, int row);
+    }
+
+    /**
+     * Returns the status text of a tier.
+     *
+     * @param tier the tier or tier code of a row
+     * @return the status text
+     */
+    private static String statusText(int tier) {
+        return tier == BulkQuoter.TIER_WRONG_FORMAT ? Constants.Bulk.STATUS_WRONG_FORMAT : QuoteStatus.ofTier(tier).getText();
+    }
+
+    /**
+     * Constructs a new BulkQuoteArea object that initializes and arranges
+     * the user interface components (buttons and progress) for the bulk quote. The table is built with the first quote.
+     */
+    public BulkQuoteArea() {
+        // Set standard padding between elements
+        this.setPadding(new Insets(20, 20, 20, 20));
+
+        // header label
+        Label headerLabel = new Label(GuiConstants.Labels.BULK_LABEL);
+        headerLabel.setFont(Font.font(GuiConstants.Styles.LABEL_FONT, FontWeight.BOLD, 28));
+
+        // buttons, progress and status in one line
+        cancelButton.setDisable(true);
+        openButton.setOnAction(_ -> openClicked());
+        cancelButton.setOnAction(_ -> {
+            if (pendingQuote != null) {
+                pendingQuote.cancel();
+            }
+        });
+        HBox controls = new HBox(15, headerLabel, openButton, cancelButton, progressBar, statusLabel);
+        controls.setAlignment(Pos.CENTER_LEFT);
+        controls.setPadding(new Insets(0, 0, 15, 0));
+        this.setTop(controls);
+
+        // the table is only built when it is needed, until then the placeholder is shown
+        this.setCenter(new Label(GuiConstants.Labels.BULK_PLACEHOLDER));
+
+        // Add tooltips to the buttons
+        openButton.setTooltip(new Tooltip(GuiConstants.Tooltips.TOOLTIP_OPEN_MANIFEST));
+        cancelButton.setTooltip(new Tooltip(GuiConstants.Tooltips.TOOLTIP_CANCEL_BULK));
+    }
+}
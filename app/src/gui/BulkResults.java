@@ -0,0 +1,165 @@
+package gui;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+/**
+ * The {@code BulkResults} class stores the results of a bulk quote column by column in primitive arrays,
+ * so that a million rows need no object per row or cell.
+ *
+ * <p>The rows are stored in chunks of {@value #CHUNK_SIZE} rows, a chunk is never copied when more rows are added.
+ * One thread adds the rows and publishes them with {@link #publish()}, any other thread may read the published rows
+ * at the same time without locks.</p>
+ */
+final class BulkResults {
+
+    /** number of bits of the index of a row in its chunk */
+    private static final int CHUNK_BITS = 14;
+
+    /** number of rows per chunk */
+    private static final int CHUNK_SIZE = 1 << CHUNK_BITS;
+
+    /** the columns of a chunk */
+    private static final class Chunk {
+        /** the tiers or tier codes of the rows */
+        final int[] tiers = new int[CHUNK_SIZE];
+
+        /** the shipping costs of the rows in euro cents */
+        final long[] costs = new long[CHUNK_SIZE];
+
+        /** the end of the id of every row in {@link #ids}, the id starts at the end of the previous id */
+        final int[] idEnds = new int[CHUNK_SIZE];
+
+        /** the UTF-8 bytes of all ids of the chunk, replaced by a larger copy when it is full */
+        volatile byte[] ids = new byte[CHUNK_SIZE * 8];
+    }
+
+    /** the chunks, replaced by a larger copy when it is full */
+    private volatile Chunk[] chunks = new Chunk[16];
+
+    /** number of published rows */
+    private volatile int size;
+
+    /** number of added rows, only used by the adding thread */
+    private int added;
+
+    /** number of rows with valid shipping costs, only used by the adding thread */
+    private long validRows;
+
+    /**
+     * Adds a row. It can only be read after it was published.
+     *
+     * @param in the buffer with the id of the row
+     * @param idStart the index of the first byte of the id
+     * @param idEnd the index after the last byte of the id
+     * @param tier the tier or tier code of the row
+     * @param costsCents the shipping costs of the row in euro cents
+     */
+    void add(ByteBuffer in, int idStart, int idEnd, int tier, long costsCents) {
+        int index = added & (CHUNK_SIZE - 1);
+        int chunkIndex = added >>> CHUNK_BITS;
+        Chunk[] currentChunks = chunks;
+        if (chunkIndex == currentChunks.length) {
+            currentChunks = Arrays.copyOf(currentChunks, currentChunks.length * 2);
+            chunks = currentChunks;
+        }
+        Chunk chunk = currentChunks[chunkIndex];
+        if (chunk == null) {
+            chunk = new Chunk();
+            currentChunks[chunkIndex] = chunk;
+        }
+
+        int idLength = idEnd - idStart;
+        int idStartInChunk = index == 0 ? 0 : chunk.idEnds[index - 1];
+        byte[] ids = chunk.ids;
+        if (idStartInChunk + idLength > ids.length) {
+            ids = Arrays.copyOf(ids, Math.max(ids.length * 2, idStartInChunk + idLength));
+            chunk.ids = ids;
+        }
+        in.get(idStart, ids, idStartInChunk, idLength);
+        chunk.idEnds[index] = idStartInChunk + idLength;
+        chunk.tiers[index] = tier;
+        chunk.costs[index] = costsCents;
+        if (tier >= 0) {
+            validRows++;
+        }
+        added++;
+    }
+
+    /**
+     * Publishes all added rows to the reading threads.
+     *
+     * @return the number of published rows
+     */
+    int publish() {
+        size = added;
+        return added;
+    }
+
+    /**
+     * Returns the number of published rows.
+     *
+     * @return the number of rows
+     */
+    int size() {
+        return size;
+    }
+
+    /**
+     * Returns the number of added rows with valid shipping costs. Only for the adding thread.
+     *
+     * @return the number of valid rows
+     */
+    long getValidRows() {
+        return validRows;
+    }
+
+    /**
+     * Returns the id of a published row.
+     *
+     * @param row the index of the row
+     * @return the id
+     */
+    String id(int row) {
+        Chunk chunk = chunk(row);
+        int index = row & (CHUNK_SIZE - 1);
+        int start = index == 0 ? 0 : chunk.idEnds[index - 1];
+        return new String(chunk.ids, start, chunk.idEnds[index] - start, StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Returns the tier of a published row.
+     *
+     * @param row the index of the row
+     * @return the tier or tier code
+     */
+    int tier(int row) {
+        return chunk(row).tiers[row & (CHUNK_SIZE - 1)];
+    }
+
+    /**
+     * Returns the shipping costs of a published row.
+     *
+     * @param row the index of the row
+     * @return the shipping costs in euro cents
+     */
+    long costsCents(int row) {
+        return chunk(row).costs[row & (CHUNK_SIZE - 1)];
+    }
+
+    /**
+     * Returns the chunk of a published row.
+     *
+     * @param row the index of the row
+     * @return the chunk
+     * @throws IndexOutOfBoundsException if the row is not published
+     */
+    private Chunk chunk(int row) {
+        // reading the size first makes the published rows visible
+        if (row < 0 || row >= size) {
+            throw new IndexOutOfBoundsException(row);
+        }
+        return chunks[row >>> CHUNK_BITS];
+    }
+}
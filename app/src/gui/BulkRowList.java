@@ -0,0 +1,106 @@
+package gui;
+
+import java.util.AbstractList;
+import java.util.List;
+
+import javafx.collections.ObservableListBase;
+
+/**
+ * The {@code BulkRowList} is the list of the rows of a {@link BulkResults} shown by a table.
+ * Its items are the indexes of the rows, the table reads the values of the visible rows from the results.
+ *
+ * <p>The list is only changed on the JavaFX application thread: {@link #update()} adds all rows published since
+ * the last update with a single change, so the table is updated once per update and not once per row.</p>
+ */
+final class BulkRowList extends ObservableListBase<Integer> {
+
+    /** the results of the rows */
+    private BulkResults results = new BulkResults();
+
+    /** the number of rows in the list */
+    private int size;
+
+    /**
+     * Shows the rows of other results and removes all current rows.
+     *
+     * @param newResults the results to show
+     */
+    void setResults(BulkResults newResults) {
+        int removed = size;
+        results = newResults;
+        size = 0;
+        if (removed > 0) {
+            beginChange();
+            nextRemove(0, indexes(removed));
+            endChange();
+        }
+        update();
+    }
+
+    /**
+     * Returns the results of the rows.
+     *
+     * @return the results
+     */
+    BulkResults getResults() {
+        return results;
+    }
+
+    /**
+     * Adds all rows published since the last update.
+     */
+    void update() {
+        int oldSize = size;
+        int newSize = results.size();
+        if (newSize > oldSize) {
+            size = newSize;
+            beginChange();
+            nextAdd(oldSize, newSize);
+            endChange();
+        }
+    }
+
+    /**
+     * Returns the index of a row.
+     *
+     * @param index the index in the list
+     * @return the index of the row in the results
+     */
+    @Override
+    public Integer get(int index) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException(index);
+        }
+        return index;
+    }
+
+    /**
+     * Returns the number of rows in the list.
+     *
+     * @return the number of rows
+     */
+    @Override
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Returns the list of the removed indexes without creating them.
+     *
+     * @param count the number of removed rows
+     * @return the indexes from 0 to {@code count - 1}
+     */
+    private static List<Integer> indexes(int count) {
+        return new AbstractList<>() {
+            @Override
+            public Integer get(int index) {
+                return index;
+            }
+
+            @Override
+            public int size() {
+                return count;
+            }
+        };
+    }
+}
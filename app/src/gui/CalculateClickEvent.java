@@ -0,0 +1,50 @@
+package gui;
+
+import data.Constants;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * The {@code CalculateClickEvent} is the flight recorder event of a click on the calculate button
+ * of the {@link CalculatorArea}, from the click until the result is shown.
+ */
+@Name(GuiConstants.Events.CALCULATE_CLICK)
+@Label("Calculate Click")
+@Category({Constants.Events.CATEGORY, "GUI"})
+@Description("A click on the calculate button until the result is shown")
+@StackTrace(false)
+final class CalculateClickEvent extends Event {
+
+    /** whether the shipping costs could be calculated */
+    @Label("Success")
+    boolean success;
+
+    /** the shown shipping costs */
+    @Label("Shipping Costs")
+    String shippingCosts;
+
+    /** the shown message */
+    @Label("Message")
+    String message;
+
+    /**
+     * Records the event, if it is enabled and exceeds its threshold.
+     *
+     * @param success true if the shipping costs could be calculated
+     * @param shippingCosts the shown shipping costs
+     * @param message the shown message
+     */
+    void report(boolean success, String shippingCosts, String message) {
+        if (shouldCommit()) {
+            this.success = success;
+            this.shippingCosts = shippingCosts;
+            this.message = message;
+            commit();
+        }
+    }
+}
@@ -0,0 +1,349 @@
+package gui;
+
+import control.Calculator;
+import control.QuoteResult;
+import data.Exceptions.CSVWrongFormatException;
+import data.Constants;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import javafx.animation.PauseTransition;
+import javafx.concurrent.Task;
+import javafx.geometry.Insets;
+import javafx.geometry.Pos;
+import javafx.scene.control.Button;
+import javafx.scene.control.CheckBox;
+import javafx.scene.control.Label;
+import javafx.scene.control.TextField;
+import javafx.scene.layout.GridPane;
+import javafx.scene.text.Font;
+import javafx.scene.text.FontWeight;
+import javafx.scene.control.Tooltip;
+import javafx.scene.paint.Color;
+import javafx.scene.effect.DropShadow;
+import javafx.util.Duration;
+
+/**
+ * The CalculatorArea class represents the GUI component responsible for
+ * calculating shipping costs based on user input of package dimensions and weight.
+ * 
+ * @version 0.3
+ */
+public class CalculatorArea extends GridPane {
+
+    // Input fields for package dimensions and weight
+    private TextField lengthTextField = new TextField();
+    private TextField widthTextField  = new TextField();
+    private TextField heightTextField = new TextField();
+    private TextField weightTextField = new TextField();
+    
+    // Label to display the calculated shipping cost
+    private Label shippingCostLabel = new Label(GuiConstants.Symbols.QUESTIONMARK);
+    
+    // Button to trigger the calculation
+    private Button calcButton = new Button(GuiConstants.Buttons.CALCULATE_BUTTON);
+
+    // Value of an input that is empty or not numeric
+    private static final long INVALID_INPUT = Long.MIN_VALUE;
+
+    // Pause after the last key stroke before a live quote is calculated
+    private static final Duration LIVE_QUOTE_DELAY = Duration.millis(300);
+
+    // Runs every quote on its own virtual thread, off the JavaFX application thread
+    private static final ExecutorService QUOTE_EXECUTOR = Executors.newVirtualThreadPerTaskExecutor();
+
+    // Check box to recalculate the shipping costs while typing
+    private CheckBox liveQuoteCheckBox = new CheckBox(GuiConstants.Labels.LIVE_QUOTE_LABEL);
+
+    // The calculator shared by all quotes, it holds the tariff in memory
+    private final Calculator calc = new Calculator();
+
+    // Waits until the user stopped typing before a live quote, created on the JavaFX application thread
+    private PauseTransition debounce;
+
+    // The running quote or null, only used on the JavaFX application thread
+    private Task<QuoteResult> pendingQuote;
+
+    // The generation of the latest quote request, only used on the JavaFX application thread
+    private long generation;
+
+    /**
+     * Checks the user input for package dimensions and weight.
+     * If an input is not numeric or empty, the error is shown in the messages area.
+     * 
+     * @return An array of integers containing the package dimensions and weight or null if an input is invalid.
+     */
+    private int[] checkInput() {
+        TextField[] textFields = {lengthTextField, widthTextField, heightTextField, weightTextField};
+        String[] labels = {GuiConstants.Labels.LENGTH_LABEL, GuiConstants.Labels.WIDTH_LABEL, GuiConstants.Labels.HEIGHT_LABEL, GuiConstants.Labels.WEIGHT_LABEL};
+        int[] packageValues = new int[textFields.length];
+
+        for (int i = 0; i < textFields.length; i++) {
+            // Get user input value
+            long value = parseInput(textFields[i].getText());
+            if (value == INVALID_INPUT) {
+                shippingCostLabel.setText(GuiConstants.Symbols.QUESTIONMARK);
+                PackageCalculator.messagesArea.setMessage(Constants.Messages.ERROR_PREFIX + GuiConstants.Messages.OUT_OF_BOUNDS_ERROR_1 + labels[i] + GuiConstants.Messages.OUT_OF_BOUNDS_ERROR_2);
+                return null;
+            }
+            packageValues[i] = (int) value;
+        }
+        return packageValues;
+    }
+
+    /**
+     * Parses an input as integer without creating an exception for invalid input.
+     * 
+     * @param text the text of an input field
+     * @return the integer value or {@link #INVALID_INPUT} if the text is empty, not numeric or too large
+     */
+    private static long parseInput(String text) {
+        boolean negative = text.startsWith("-");
+        int start = (negative || text.startsWith("+")) ? 1 : 0;
+        // Check if the text is empty or has more digits than an integer
+        if (text.length() == start || text.length() - start > 10) {
+            return INVALID_INPUT;
+        }
+        long value = 0;
+        for (int i = start; i < text.length(); i++) {
+            char c = text.charAt(i);
+            if (c < '0' || c > '9') {
+                return INVALID_INPUT;
+            }
+            value = value * 10 + (c - '0');
+        }
+        value = negative ? -value : value;
+        return (value < Integer.MIN_VALUE || value > Integer.MAX_VALUE) ? INVALID_INPUT : value;
+    }
+
+    /**
+     * Handles a click on the calculate button and records it as {@link CalculateClickEvent}.
+     */
+    private void calculateClicked() {
+        CalculateClickEvent event = new CalculateClickEvent();
+        event.begin();
+        if (debounce != null) {
+            // the click already calculates the current input
+            debounce.stop();
+        }
+        calcShippingCosts(event);
+    }
+
+    /**
+     * Recalculates the shipping costs after the user stopped typing, if the live quote is enabled.
+     */
+    private void inputChanged() {
+        if (liveQuoteCheckBox.isSelected()) {
+            if (debounce == null) {
+                debounce = new PauseTransition(LIVE_QUOTE_DELAY);
+                debounce.setOnFinished(_ -> liveQuote());
+            }
+            // restart the pause, so that only the last change of a quick sequence is calculated
+            debounce.playFromStart();
+        }
+    }
+
+    /**
+     * Calculates the shipping costs of the input while typing. Incomplete input is not reported as error.
+     */
+    private void liveQuote() {
+        TextField[] textFields = {lengthTextField, widthTextField, heightTextField, weightTextField};
+        for (TextField textField : textFields) {
+            if (textField.getText().isEmpty()) {
+                // drop a running quote of older input
+                generation++;
+                shippingCostLabel.setText(GuiConstants.Symbols.QUESTIONMARK);
+                return;
+            }
+        }
+        calcShippingCosts(null);
+    }
+
+    /**
+     * Calculates the shipping costs based on the package dimensions and weight entered by the user.
+     * The input is checked on the JavaFX application thread, the quote itself runs as {@link Task} on a virtual thread,
+     * so that loading the tariff never blocks the user interface. A quote of older input is cancelled, its result is
+     * never shown.
+     *
+     * @param event the event of the click on the calculate button or null for a live quote
+     */
+    private void calcShippingCosts(CalculateClickEvent event) {
+        // every request gets a new generation, results of older generations are dropped
+        long requestGeneration = ++generation;
+        if (pendingQuote != null) {
+            pendingQuote.cancel();
+            pendingQuote = null;
+        }
+
+        //check user input
+        int[] packageValues = checkInput();
+        if (packageValues == null) {
+            report(event, false);
+            return;
+        }
+
+        Task<QuoteResult> task = new Task<>() {
+            @Override
+            protected QuoteResult call() throws CSVWrongFormatException {
+                // Calculate the shipping costs with the tariff held in memory
+                return calc.quote(packageValues[0], packageValues[1], packageValues[2], packageValues[3]);
+            }
+        };
+        task.setOnSucceeded(_ -> {
+            if (requestGeneration == generation) {
+                pendingQuote = null;
+                report(event, showResult(task.getValue()));
+                PackageCalculator.startupTimer.mark(StartupTimer.Phase.FIRST_QUOTE);
+            }
+        });
+        task.setOnFailed(_ -> {
+            if (requestGeneration == generation) {
+                pendingQuote = null;
+                shippingCostLabel.setText(GuiConstants.Symbols.QUESTIONMARK);
+                PackageCalculator.messagesArea.setMessage(task.getException().getMessage()); // show error message to user
+                report(event, false);
+            }
+        });
+        pendingQuote = task;
+        QUOTE_EXECUTOR.execute(task);
+    }
+
+    /**
+     * Shows the result of a quote. Invalid packets are reported by the status of the {@link QuoteResult}
+     * instead of an exception.
+     *
+     * @param result the result of the quote
+     * @return true if the shipping costs are shown, false if the packet was rejected
+     */
+    private boolean showResult(QuoteResult result) {
+        MessagesArea messagesArea = PackageCalculator.messagesArea;
+
+        if (result.status().getMessage() != null) {
+            // Label for the shipping costs
+            shippingCostLabel.setText(GuiConstants.Symbols.QUESTIONMARK);
+
+            // show error message to user in the messages area
+            messagesArea.setMessage(result.status().getMessage());
+            return false;
+        }
+
+        // Display the result with the price text formatted once per tariff
+        shippingCostLabel.setText(result.priceText());
+
+        // show success message to user with the price in the messages area
+        messagesArea.setMessage(GuiConstants.Messages.CALCULATION_SUCCESSFUL_MSG + result.priceText());
+        return true;
+    }
+
+    /**
+     * Records the event of a click on the calculate button, after its result is shown.
+     *
+     * @param event the event or null for a live quote
+     * @param success true if the shipping costs are shown
+     */
+    private void report(CalculateClickEvent event, boolean success) {
+        if (event != null) {
+            event.report(success, shippingCostLabel.getText(), PackageCalculator.messagesArea.getMessage());
+        }
+    }
+
+    /**
+     * Constructs a new CalculatorArea object that initializes and arranges
+     * the user interface components (input fields, labels, and buttons) for shipping cost calculation.
+     */
+    public CalculatorArea() {
+        // Set standard padding between elements
+        this.setPadding(new Insets(20, 20, 20, 20));
+        this.setHgap(15);
+        this.setVgap(15);
+        
+        // Center the grid in the window
+        this.setAlignment(Pos.CENTER);
+        
+        // header label
+        Label headerLabel = new Label(GuiConstants.Labels.CALCULATOR_LABEL);
+        headerLabel.setFont(Font.font(GuiConstants.Styles.LABEL_FONT, FontWeight.BOLD, 28));  // Increased font size
+        this.add(headerLabel, 1, 0, 3, 1);
+
+        // labels for the input fields
+        Label lengthLabel = new Label(GuiConstants.Labels.LENGTH_LABEL);
+        Label widthLabel = new Label(GuiConstants.Labels.WIDTH_LABEL);
+        Label heightLabel = new Label(GuiConstants.Labels.HEIGHT_LABEL);
+        Label weightLabel = new Label(GuiConstants.Labels.WEIGHT_LABEL);
+        
+        // label style
+        lengthLabel.setStyle(GuiConstants.Styles.LABEL_STYLE_CALCAREA);
+        widthLabel.setStyle(GuiConstants.Styles.LABEL_STYLE_CALCAREA);
+        heightLabel.setStyle(GuiConstants.Styles.LABEL_STYLE_CALCAREA);
+        weightLabel.setStyle(GuiConstants.Styles.LABEL_STYLE_CALCAREA);
+
+        this.add(lengthLabel, 1, 1);
+        this.add(widthLabel, 1, 2);
+        this.add(heightLabel, 1, 3);
+        this.add(weightLabel, 1, 4);
+
+        // Add input fields for dimensions and weight with larger font size
+        this.add(lengthTextField, 2, 1);
+        this.add(widthTextField,  2, 2);
+        this.add(heightTextField, 2, 3);
+        this.add(weightTextField, 2, 4);
+
+        // Add unit labels (mm and g)
+        Label mmLabel1 = new Label(GuiConstants.Measurements.MM);
+        Label mmLabel2 = new Label(GuiConstants.Measurements.MM);
+        Label mmLabel3 = new Label(GuiConstants.Measurements.MM);
+        Label gLabel = new Label(GuiConstants.Measurements.G);
+
+        // Apply minimal style to the unit labels with increased font size
+        mmLabel1.setStyle(GuiConstants.Styles.LABEL_STYLE_CALCAREA);
+        mmLabel2.setStyle(GuiConstants.Styles.LABEL_STYLE_CALCAREA);
+        mmLabel3.setStyle(GuiConstants.Styles.LABEL_STYLE_CALCAREA);
+        gLabel.setStyle(GuiConstants.Styles.LABEL_STYLE_CALCAREA);
+
+        this.add(mmLabel1, 3, 1);
+        this.add(mmLabel2, 3, 2);
+        this.add(mmLabel3, 3, 3);
+        this.add(gLabel, 3, 4);
+            
+        // Add shipping cost calculation line with label, result, and button
+        Label shippingCostsLabel = new Label(GuiConstants.Labels.SHIPPING_COSTS_LABEL);
+        shippingCostsLabel.setStyle(GuiConstants.Styles.LABEL_STYLE_CALCAREA);
+
+        this.add(shippingCostsLabel, 1, 5);
+        this.add(shippingCostLabel, 2, 5);
+
+        // Style the calculate button with a smooth transition effect
+        calcButton.setStyle(GuiConstants.Styles.STYLE_CALCBTN);
+        calcButton.setEffect(new DropShadow(5, Color.GRAY));
+        this.add(calcButton, 3, 5);
+
+        // Add hover effect for the calculate button
+        calcButton.setOnMouseEntered(_ -> calcButton.setStyle(GuiConstants.Styles.STYLE_CALCBTN_HOVER));
+        calcButton.setOnMouseExited(_ -> calcButton.setStyle(GuiConstants.Styles.STYLE_CALCBTN));
+
+        // Set the action listener for the calculate button
+        calcButton.setOnAction(_ -> calculateClicked());
+
+        // Add the live quote: every change of an input restarts the pause before the quote
+        liveQuoteCheckBox.setStyle(GuiConstants.Styles.LABEL_STYLE_CALCAREA);
+        this.add(liveQuoteCheckBox, 2, 6);
+        for (TextField textField : new TextField[] {lengthTextField, widthTextField, heightTextField, weightTextField}) {
+            textField.textProperty().addListener((_, _, _) -> inputChanged());
+        }
+        liveQuoteCheckBox.selectedProperty().addListener((_, _, selected) -> {
+            if (selected) {
+                inputChanged();
+            }
+        });
+
+        // Add tooltips to input fields, labels & Button
+        lengthTextField.setTooltip(new Tooltip(GuiConstants.Tooltips.TOOLTIP_LENGTH_TF));
+        widthTextField.setTooltip(new Tooltip(GuiConstants.Tooltips.TOOLTIP_WIDTH_TF));
+        heightTextField.setTooltip(new Tooltip(GuiConstants.Tooltips.TOOLTIP_HEIGHT_TF));
+        weightTextField.setTooltip(new Tooltip(GuiConstants.Tooltips.TOOLTIP_WEIGHT_TF));
+        shippingCostsLabel.setTooltip(new Tooltip(GuiConstants.Tooltips.TOOLTIP_SHIPPINGCOSTS_LABEL));
+        calcButton.setTooltip(new Tooltip(GuiConstants.Tooltips.TOOLTIP_CALCBUTTON));
+        liveQuoteCheckBox.setTooltip(new Tooltip(GuiConstants.Tooltips.TOOLTIP_LIVE_QUOTE));
+    }
+}
@@ -0,0 +1,151 @@
+package gui;
+
+import data.Tariff;
+import data.TariffCache;
+import data.Exceptions.CSVWrongFormatException;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+
+import javafx.application.Platform;
+import javafx.beans.property.ReadOnlyStringWrapper;
+import javafx.scene.Scene;
+import javafx.scene.control.Alert;
+import javafx.scene.control.Alert.AlertType;
+import javafx.scene.control.TableColumn;
+import javafx.scene.control.TableView;
+import javafx.scene.layout.VBox;
+import javafx.scene.text.Text;
+import javafx.stage.Modality;
+import javafx.stage.Stage;
+
+/**
+ * The {@code InfoDialog} shows the shipping costs of the tariff, the version and the authors of the application.
+ *
+ * <p>The dialog is built once, when it is shown for the first time, and reused afterwards. Its rows are created from the
+ * tariff held in memory by the {@link TariffCache} and only replaced when the cache loads a changed tariff,
+ * so showing the dialog never reads the csv file again.</p>
+ */
+final class InfoDialog {
+
+    /** the cache of the tariff shown by the dialog */
+    private final TariffCache cache;
+
+    /** the dialog window, null until it is shown for the first time */
+    private Stage stage;
+
+    /** the table of the tiers */
+    private TableView<String[]> table;
+
+    /** the tariff whose rows are shown, only used on the JavaFX application thread */
+    private Tariff shownTariff;
+
+    /**
+     * Constructs a new info dialog. Nothing is built until the dialog is shown.
+     *
+     * @param cache the cache of the tariff shown by the dialog
+     */
+    InfoDialog(TariffCache cache) {
+        this.cache = cache;
+    }
+
+    /**
+     * Shows the dialog, it is built on the first call.
+     * The tariff is only loaded if the cache did not load it yet.
+     */
+    void show() {
+        if (stage == null) {
+            build();
+        }
+        try {
+            showTariff(cache.getTariff());
+        } catch (CSVWrongFormatException e) {
+            // show error messsage as alert
+            Alert alert = new Alert(AlertType.ERROR);
+            alert.setTitle(GuiConstants.Dialogs.ERROR_DIALOG_TITLE);
+            alert.setHeaderText(GuiConstants.Dialogs.INFO_ERROR_DIALOG_HEADER);
+            alert.setContentText(GuiConstants.Dialogs.INFO_ERROR_DIALOG_CONTENT);
+            alert.showAndWait();
+        }
+        stage.show();
+        stage.toFront();
+    }
+
+    /**
+     * Builds the dialog and follows the changes of the tariff.
+     */
+    private void build() {
+        stage = new Stage();
+        stage.setTitle(GuiConstants.Dialogs.INFO_TITLE);
+        stage.initModality(Modality.APPLICATION_MODAL);
+
+        // create table
+        table = new TableView<>();
+        table.getColumns().add(column(GuiConstants.TableHeaders.PACKET_SIZE_HEADER, 0));
+        table.getColumns().add(column(GuiConstants.TableHeaders.PACKET_WEIGHT_HEADER, 1));
+        table.getColumns().add(column(GuiConstants.TableHeaders.GIRTH_HEADER, 2));
+        table.getColumns().add(column(GuiConstants.TableHeaders.SHIPPING_COSTS_HEADER, 3));
+
+        VBox vbox = new VBox(20);
+        vbox.getChildren().add(table);
+        vbox.getChildren().add(new Text(GuiConstants.Metadata.INFO_TEXT));
+        stage.setResizable(false); // make the dialog non-resizable
+        stage.setScene(new Scene(vbox, 495, 216));
+
+        // the cache notifies on its loading thread, the rows are replaced on the JavaFX application thread
+        cache.addListener(tariff -> Platform.runLater(() -> showTariff(tariff)));
+    }
+
+    /**
+     * Creates a column that shows a value of the rows.
+     *
+     * @param header the header of the column
+     * @param index the index of the value in a row
+     * @return the column
+     */
+    private static TableColumn<String[], String> column(String header, int index) {
+        TableColumn<String[], String> column = new TableColumn<>(header);
+        column.setCellValueFactory(data -> new ReadOnlyStringWrapper(data.getValue()[index]).getReadOnlyProperty());
+        return column;
+    }
+
+    /**
+     * Shows the rows of a tariff, if they are not shown yet.
+     *
+     * @param tariff the tariff to show
+     */
+    private void showTariff(Tariff tariff) {
+        if (tariff != shownTariff) {
+            shownTariff = tariff;
+            table.getItems().setAll(rowsOf(tariff));
+        }
+    }
+
+    /**
+     * Creates one row per tier of a tariff.
+     *
+     * @param tariff the tariff
+     * @return the rows with size, weight, girth and shipping costs
+     */
+    private static List<String[]> rowsOf(Tariff tariff) {
+        List<Tariff.Tier> tiers = tariff.getTiers();
+        List<String[]> rows = new ArrayList<>(tiers.size());
+        for (int i = 0; i < tiers.size(); i++) {
+            Tariff.Tier tier = tiers.get(i);
+            String girth = GuiConstants.Measurements.NO_GIRTH;
+            if (tier.maxGirth() != Tariff.NO_LIMIT) {
+                // the girth is shown in cm
+                girth = String.format(GuiConstants.Measurements.GIRTH_SIZE_FORMAT,
+                    BigDecimal.valueOf(tier.maxGirth(), 1).stripTrailingZeros().toPlainString());
+            }
+            rows.add(new String[]{
+                String.format(GuiConstants.Measurements.PACKET_SIZE_FORMAT, tier.maxLength(), tier.maxWidth(), tier.maxHeight()),
+                String.format(GuiConstants.Measurements.PACKET_WEIGHT_FORMAT, tier.maxWeight()),
+                girth,
+                tariff.getPriceText(i)
+            });
+        }
+        return rows;
+    }
+}
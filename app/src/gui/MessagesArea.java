@@ -0,0 +1,184 @@
+package gui;
+
+import control.MessageLog;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import javafx.animation.AnimationTimer;
+import javafx.application.Platform;
+import javafx.collections.ObservableList;
+import javafx.scene.control.Label;
+import javafx.scene.control.ListView;
+import javafx.scene.control.Tooltip;
+import javafx.scene.layout.BorderPane;
+
+/**
+ * This class represents the messages area of the application.
+ *
+ * <p>The messages are written to a lock-free {@link MessageLog}, so any thread can add messages, e.g. thousands of
+ * rejected rows of a bulk quote per second. While messages are pending, an {@link AnimationTimer} drains the log once
+ * per pulse and adds all messages written since the last pulse with a single change, so the list is updated at most
+ * at the frame rate. A message that is still being written is added by the next pulse, when the log is drained
+ * completely the timer stops until the next message. Only the newest {@value #MAX_LINES} lines are kept, the dropped
+ * and collapsed messages are counted below the list.</p>
+ *
+ * @author Jeremias Matt
+ * @version 0.2
+ */
+public class MessagesArea extends BorderPane {
+
+    // Number of messages the producers can be ahead of the list before the oldest are dropped
+    private static final int LOG_CAPACITY = 4096;
+
+    // Number of lines kept in the list
+    private static final int MAX_LINES = 1000;
+
+    // The messages written by any thread
+    private final MessageLog log = new MessageLog(LOG_CAPACITY);
+
+    // True while the log has messages that the next pulse adds to the list
+    private final AtomicBoolean updateScheduled = new AtomicBoolean();
+
+    // Drains the log once per pulse, created on the JavaFX application thread when the first message is added
+    private AnimationTimer pulseTimer;
+
+    // List of the last messages, the newest at the bottom
+    private ListView<String> listView = new ListView<>();
+
+    // Label for the dropped and collapsed messages
+    private Label countersLabel = new Label();
+
+    // The lines of an update, only used on the JavaFX application thread
+    private final List<String> newLines = new ArrayList<>();
+
+    /**
+     * Receives the messages of the log and collects them for the list.
+     */
+    private final MessageLog.Sink sink = new MessageLog.Sink() {
+
+        /**
+         * Collects a new line.
+         *
+         * @param text the message
+         */
+        @Override
+        public void append(String text) {
+            newLines.add(text);
+        }
+
+        /**
+         * Replaces the last line with the message and its repeat count.
+         *
+         * @param text the repeated message
+         * @param count how often the message was added in a row
+         */
+        @Override
+        public void repeated(String text, long count) {
+            String line = GuiConstants.Messages.REPEATED_MSG.formatted(text, count);
+            if (!newLines.isEmpty()) {
+                newLines.set(newLines.size() - 1, line);
+            }
+            else if (!listView.getItems().isEmpty()) {
+                listView.getItems().set(listView.getItems().size() - 1, line);
+            }
+        }
+    };
+
+    /**
+     * Constructs a new messages area.
+     * Sets a welcome message.
+     */
+    public MessagesArea() {
+        this.setCenter(listView);
+        this.setBottom(countersLabel);
+        listView.setTooltip(new Tooltip(GuiConstants.Tooltips.TOOLTIP_MSGAREA));
+        listView.setStyle(GuiConstants.Styles.STYLE_MSGAREA);
+        countersLabel.setTooltip(new Tooltip(GuiConstants.Tooltips.TOOLTIP_LOG_COUNTERS));
+
+        // the welcome message is shown right away, the application thread may not run yet
+        log.add(GuiConstants.Messages.WELCOME_MSG);
+        update();
+    }
+
+    /**
+     * Adds a message to the messages area. Can be called from any thread, it never blocks.
+     *
+     * @param text the message to add
+     */
+    public void setMessage(String text) {
+        log.add(text);
+        // the timer is only started once until the log is drained, it adds all messages written until the next pulse
+        if (updateScheduled.compareAndSet(false, true)) {
+            Platform.runLater(this::startPulseTimer);
+        }
+    }
+
+    /**
+     * Starts the timer that drains the log once per pulse. Must be called on the JavaFX application thread.
+     */
+    private void startPulseTimer() {
+        if (pulseTimer == null) {
+            pulseTimer = new AnimationTimer() {
+
+                /**
+                 * Adds the messages written since the last pulse and stops the timer when the log is drained.
+                 *
+                 * @param now the time of the pulse in nanoseconds
+                 */
+                @Override
+                public void handle(long now) {
+                    // cleared before draining, so a message added meanwhile starts the timer again
+                    updateScheduled.set(false);
+                    if (update()) {
+                        stop();
+                    }
+                    else {
+                        // a message that was still being written is added by the next pulse
+                        updateScheduled.set(true);
+                    }
+                }
+            };
+        }
+        pulseTimer.start();
+    }
+
+    /**
+     * Retrieves the last message, even if it is not shown in the list yet.
+     *
+     * @return the last message
+     */
+    public String getMessage() {
+        return log.getLast();
+    }
+
+    /**
+     * Clears the messages shown in the list. Must be called on the JavaFX application thread.
+     */
+    public void clearMessage() {
+        listView.getItems().clear();
+    }
+
+    /**
+     * Adds all messages written since the last update to the list with a single change
+     * and removes the oldest lines.
+     *
+     * @return true if the log was drained completely, false if a message was still being written
+     */
+    private boolean update() {
+        boolean complete = log.drain(sink);
+
+        ObservableList<String> items = listView.getItems();
+        if (!newLines.isEmpty()) {
+            items.addAll(newLines.size() > MAX_LINES ? newLines.subList(newLines.size() - MAX_LINES, newLines.size()) : newLines);
+            newLines.clear();
+            if (items.size() > MAX_LINES) {
+                items.remove(0, items.size() - MAX_LINES);
+            }
+            listView.scrollTo(items.size() - 1);
+        }
+        countersLabel.setText(GuiConstants.Messages.LOG_COUNTERS.formatted(log.getDroppedCount(), log.getCollapsedCount()));
+        return complete;
+    }
+}
@@ -1,6 +1,7 @@
 package gui;
 
-import data.Constants;
+import data.TariffCache;
+import data.Exceptions.CSVWrongFormatException;
 
 import javafx.application.Application;
 import javafx.geometry.Orientation;
@@ -19,12 +20,17 @@ import javafx.stage.Stage;
 public class PackageCalculator extends Application {
 
     /** The application name */
-    public static final String APPNAME = Constants.Labels.APP_NAME;
+    public static final String APPNAME = GuiConstants.Labels.APP_NAME;
+
+    /** init the startup timer before the areas, so that their construction is measured */
+    static final StartupTimer startupTimer = new StartupTimer();
     
     /** init Toolbar GUI Area */
     public static final ToolbarArea toolbarArea = new ToolbarArea();
     /** init Calculator GUI Area */
     public static final CalculatorArea calculatorArea = new CalculatorArea();
+    /** init Bulk Quote GUI Area */
+    public static final BulkQuoteArea bulkQuoteArea = new BulkQuoteArea();
     /** init Messages GUI Area */
     public static final MessagesArea messagesArea = new MessagesArea();
 
@@ -51,11 +57,12 @@ public class PackageCalculator extends Application {
     public void start(Stage primaryStage) {
         // Remember the primary stage for further use
         this.primaryStage = primaryStage;
+        startupTimer.mark(StartupTimer.Phase.START);
 
-        // Create a horizontal split pane for calculator and inspector areas
+        // Create a horizontal split pane for the calculator and bulk quote areas
         SplitPane lr2SplitPane = new SplitPane();
-        lr2SplitPane.getItems().addAll(calculatorArea);
-        lr2SplitPane.setDividerPositions(0.8f, 0.2f);
+        lr2SplitPane.getItems().addAll(calculatorArea, bulkQuoteArea);
+        lr2SplitPane.setDividerPositions(0.4f);
         
         // Create a vertical split pane for the editor/inspector and messages areas
         SplitPane tdSplitPane = new SplitPane();
@@ -71,9 +78,45 @@ public class PackageCalculator extends Application {
         // Show the main pane on the primary stage
         Rectangle2D screenBounds = Screen.getPrimary().getVisualBounds();
         Scene scene = new Scene(mainPane, screenBounds.getWidth(), screenBounds.getHeight(), true);
+        markFirstFrame(scene);
         primaryStage.setTitle(APPNAME);
         primaryStage.setScene(scene);
         primaryStage.show();
+
+        // Load the tariff while the first frame is rendered, so that the first quote does not wait for the csv file
+        Thread.ofVirtual().name("tariff-preload").start(PackageCalculator::preloadTariff);
+    }
+
+    /**
+     * Marks the first frame in the startup timer, after the scene was laid out for the first time.
+     *
+     * @param scene the scene of the main window
+     */
+    private static void markFirstFrame(Scene scene) {
+        Runnable firstFrame = new Runnable() {
+            /**
+             * Marks the first frame and stops listening.
+             */
+            @Override
+            public void run() {
+                startupTimer.mark(StartupTimer.Phase.FIRST_FRAME);
+                scene.removePostLayoutPulseListener(this);
+            }
+        };
+        scene.addPostLayoutPulseListener(firstFrame);
+    }
+
+    /**
+     * Loads the tariff into the shared cache. An error is shown in the messages area,
+     * the calculation shows it again when the tariff is needed.
+     */
+    private static void preloadTariff() {
+        try {
+            TariffCache.getDefault().getTariff();
+            startupTimer.mark(StartupTimer.Phase.TARIFF_LOADED);
+        } catch (CSVWrongFormatException e) {
+            messagesArea.setMessage(e.getMessage());
+        }
     }
 
     /**
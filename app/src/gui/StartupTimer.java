@@ -0,0 +1,108 @@
+package gui;
+
+import java.lang.management.ManagementFactory;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * The {@code StartupTimer} measures the phases of the start of the application, from the start of the JVM
+ * to the first frame and the first quote.
+ *
+ * <p>Every phase is only marked once, from any thread. With the system property
+ * {@value GuiConstants.Startup#REPORT_PROPERTY}{@code =true} the times are printed as soon as the first quote is shown.
+ * The start of the JVM is only read for the report, so the timer itself does not load the management classes.</p>
+ */
+final class StartupTimer {
+
+    /**
+     * The phases of the start.
+     */
+    enum Phase {
+        /** the classes of the application are loaded */
+        LAUNCH(GuiConstants.Startup.PHASE_LAUNCH),
+        /** the JavaFX application is started */
+        START(GuiConstants.Startup.PHASE_START),
+        /** the main window is laid out for the first time */
+        FIRST_FRAME(GuiConstants.Startup.PHASE_FIRST_FRAME),
+        /** the tariff is loaded in the background */
+        TARIFF_LOADED(GuiConstants.Startup.PHASE_TARIFF_LOADED),
+        /** the result of the first quote is shown */
+        FIRST_QUOTE(GuiConstants.Startup.PHASE_FIRST_QUOTE);
+
+        /** the name of the phase in the report */
+        private final String text;
+
+        /**
+         * Constructs a phase.
+         *
+         * @param text the name of the phase in the report
+         */
+        Phase(String text) {
+            this.text = text;
+        }
+    }
+
+    /** value of a phase that was not marked yet */
+    private static final long NOT_MARKED = Long.MIN_VALUE;
+
+    /** wall clock and nano time when the timer was created, to convert the marks to the time of the JVM start */
+    private final long createdMillis = System.currentTimeMillis();
+    private final long createdNanos = System.nanoTime();
+
+    /** the nano time of every phase or {@link #NOT_MARKED} */
+    private final AtomicLongArray marks = new AtomicLongArray(Phase.values().length);
+
+    /** true if the report is printed after the first quote */
+    private final boolean report = Boolean.getBoolean(GuiConstants.Startup.REPORT_PROPERTY);
+
+    /**
+     * Constructs a new timer and marks the launch of the application.
+     */
+    StartupTimer() {
+        for (int i = 0; i < marks.length(); i++) {
+            marks.set(i, NOT_MARKED);
+        }
+        mark(Phase.LAUNCH);
+    }
+
+    /**
+     * Marks a phase, if it was not marked yet. The report is printed when the first quote is marked.
+     *
+     * @param phase the reached phase
+     */
+    void mark(Phase phase) {
+        if (marks.compareAndSet(phase.ordinal(), NOT_MARKED, System.nanoTime()) && phase == Phase.FIRST_QUOTE && report) {
+            System.out.print(getReport());
+        }
+    }
+
+    /**
+     * Returns the time of a phase since the start of the JVM.
+     *
+     * @param phase the phase
+     * @return the milliseconds or -1 if the phase was not reached yet
+     */
+    long millisSinceJvmStart(Phase phase) {
+        long nanos = marks.get(phase.ordinal());
+        if (nanos == NOT_MARKED) {
+            return -1;
+        }
+        long jvmStartMillis = ManagementFactory.getRuntimeMXBean().getStartTime();
+        return createdMillis + (nanos - createdNanos) / 1_000_000 - jvmStartMillis;
+    }
+
+    /**
+     * Returns the report of all phases.
+     *
+     * @return the report with one line per phase
+     */
+    String getReport() {
+        StringBuilder text = new StringBuilder(GuiConstants.Startup.REPORT_HEADER).append(System.lineSeparator());
+        for (Phase phase : Phase.values()) {
+            long millis = millisSinceJvmStart(phase);
+            text.append(millis < 0
+                ? GuiConstants.Startup.REPORT_MISSING.formatted(phase.text)
+                : GuiConstants.Startup.REPORT_LINE.formatted(phase.text, millis));
+        }
+        return text.toString();
+    }
+}
@@ -0,0 +1,218 @@
+package gui;
+
+import data.TariffCache;
+
+import javafx.scene.Scene;
+import javafx.scene.control.Button;
+import javafx.scene.control.ToolBar;
+import javafx.scene.layout.Pane;
+import javafx.stage.Modality;
+import javafx.stage.Stage;
+import javafx.scene.control.Alert;
+import javafx.scene.control.Alert.AlertType;
+import javafx.scene.control.ButtonType;
+import java.util.Optional;
+import java.io.IOException;
+import java.net.URISyntaxException;
+import javafx.scene.control.Tooltip;
+import javafx.scene.image.Image;
+import javafx.scene.image.ImageView;
+import javafx.scene.input.MouseEvent;
+
+
+/**
+ * The {@code ToolbarArea} class represents the toolbar of the PackageCalculator application.
+ * It contains buttons for various actions like opening the settings, showing information, opening the project repo, and exiting the
+ * application.
+ * 
+ * @author Jeremias Matt
+ * @version 0.1
+ */
+public class ToolbarArea extends ToolBar {
+
+    // The info dialog, built on the first click and reused afterwards
+    private final InfoDialog infoDialog = new InfoDialog(TariffCache.getDefault());
+
+    // The settings window, built on the first click and reused afterwards
+    private Stage settingsStage;
+
+    /**
+     * Exits the PackageCalculator application after displaying a confirmation (YES, NO) dialog.
+     */
+    private void exitPackageCalculator() {
+        Alert alert = new Alert(AlertType.CONFIRMATION);
+        alert.setTitle(GuiConstants.Dialogs.EXIT_DIALOG_TITLE);
+        alert.setHeaderText(GuiConstants.Dialogs.EXIT_DIALOG_HEADER);
+        alert.getButtonTypes().setAll(ButtonType.YES, ButtonType.NO);
+
+        Optional<ButtonType> result = alert.showAndWait();
+        if (result.isPresent() && result.get() == ButtonType.YES) {
+            System.exit(0);
+        }
+    }
+
+    /**
+     * Opens the project repo after an Opt-In dialog
+     */
+    private void openProjectRepo() {
+        Alert alert = new Alert(AlertType.CONFIRMATION);
+        alert.setTitle(GuiConstants.Dialogs.ABOUT_TITLE);
+        alert.setHeaderText(GuiConstants.Dialogs.ABOUT_HEADER);
+        alert.getButtonTypes().setAll(ButtonType.YES, ButtonType.NO);
+
+        Optional<ButtonType> result = alert.showAndWait();
+
+        if (result.isPresent() && result.get() == ButtonType.YES) {
+            try {
+                java.awt.Desktop.getDesktop().browse(new java.net.URI(GuiConstants.Metadata.PROJECT_REPO_URI));
+            }
+            catch (IOException | URISyntaxException e) {
+                // show error messsage as alert
+                Alert errorAlert = new Alert(AlertType.ERROR);
+                errorAlert.setTitle(GuiConstants.Dialogs.ERROR_DIALOG_TITLE);
+                errorAlert.setHeaderText(GuiConstants.Dialogs.ABOUT_ERROR_HEADER);
+                errorAlert.setContentText(GuiConstants.Dialogs.ABOUT_ERROR_CONTENT);
+                errorAlert.showAndWait();
+            }
+        }
+    }
+
+    /**
+     * Opens the settings window. It is built on the first call and reused afterwards,
+     * so the icons are only loaded when the settings are opened.
+     */
+    private void openSettingsWindow() {
+        if (settingsStage == null) {
+            settingsStage = buildSettingsWindow();
+        }
+        settingsStage.show();
+        settingsStage.toFront();
+    }
+
+    /**
+     * Builds the settings window.
+     *
+     * @return the settings window
+     */
+    @SuppressWarnings("java:S1135")
+    private Stage buildSettingsWindow() {
+        final int minWidth = 433;
+        final int minHeight = 216;
+        Stage settingsStage = new Stage();
+        settingsStage.setTitle(GuiConstants.Dialogs.SETTINGS_TITLE);
+        settingsStage.initModality(Modality.APPLICATION_MODAL);
+        Pane pane = new Pane();
+        Scene settingsScene = new Scene(pane, minWidth, minHeight);
+        settingsStage.setMinWidth(minWidth); // set min width
+        settingsStage.setMinHeight(minHeight); // set min height
+        settingsStage.setScene(settingsScene);
+
+        // different Buttons for settings
+        // TODO: the idea is to have several buttons for different settings, i.e dark mode, language, etc. 
+        // Right now, only the dark mode button is implemented as a mock object for demonstration purposes.
+        darkModeToggleButton(pane);
+
+        return settingsStage;
+    }
+
+    /**
+     * This button can toggle between dark and white mode of the system.
+     * It's only for demonstration purposes and doesn't work yet.
+     * 
+     * @param pane the pane to which the button will be added
+     */
+    private void darkModeToggleButton(Pane pane) {
+        Button newButton = new Button();
+
+        // Set icon for the button
+        ImageView icon = new ImageView(new Image(GuiConstants.FilePaths.DARKMODE_ICON_PATH));
+        icon.setFitHeight(30); // set height of the icon
+        icon.setFitWidth(30); // set width of the icon
+        newButton.setGraphic(icon);
+
+        // Set the position of the button using coordinates
+        newButton.setLayoutX(15); // Set X coordinate
+        newButton.setLayoutY(15); // Set Y coordinate
+
+        // Add button to the VBox
+        pane.getChildren().add(newButton);
+    }
+
+    /**
+     * Constructs a new {@code ToolbarArea} and initializes its buttons.
+     * Each button is configured with an associated action listener to perform 
+     * specific tasks such as opening a project, creating a new file, or displaying the info dialog.
+     */
+    public ToolbarArea() {
+        // initialize all buttons for ToolbarArea
+        Button exitButton = new Button(GuiConstants.Buttons.EXIT_BUTTON);
+        Button settingsButton = new Button(GuiConstants.Buttons.SETTINGS_BUTTON);
+        Button aboutButton = new Button(GuiConstants.Buttons.ABOUT_BUTTON);
+        Button infoButton = new Button(GuiConstants.Buttons.INFO_BUTTON);
+
+        // Set button size and styling directly
+        double buttonWidth = 120;
+        double buttonHeight = 40;
+
+        // button style for all buttons
+        exitButton.setStyle(GuiConstants.Styles.STYLE_BTN_TBAREA);
+        settingsButton.setStyle(GuiConstants.Styles.STYLE_BTN_TBAREA);
+        aboutButton.setStyle(GuiConstants.Styles.STYLE_BTN_TBAREA);
+        infoButton.setStyle(GuiConstants.Styles.STYLE_BTN_TBAREA);
+
+        // Set button sizes
+        exitButton.setPrefWidth(buttonWidth);
+        exitButton.setPrefHeight(buttonHeight);
+        settingsButton.setPrefWidth(buttonWidth);
+        settingsButton.setPrefHeight(buttonHeight);
+        aboutButton.setPrefWidth(buttonWidth);
+        aboutButton.setPrefHeight(buttonHeight);
+        infoButton.setPrefWidth(buttonWidth);
+        infoButton.setPrefHeight(buttonHeight);
+
+        // button hover effect
+        applyHoverEffect(exitButton);
+        applyHoverEffect(settingsButton);
+        applyHoverEffect(aboutButton);
+        applyHoverEffect(infoButton);
+
+        // action listeners for the buttons
+        exitButton.setOnAction(_ -> exitPackageCalculator());
+        settingsButton.setOnAction(_ -> openSettingsWindow());
+        aboutButton.setOnAction(_ -> openProjectRepo());
+        infoButton.setOnAction(_ -> infoDialog.show());
+
+        // add buttons in the toolbar
+        ImageView packageIcon = new ImageView();
+        // the icon is decoded in the background, the toolbar is shown without waiting for it
+        Image image = new Image(GuiConstants.FilePaths.ICON_PATH, true);
+        packageIcon.setImage(image);
+        packageIcon.setFitHeight(30);
+        packageIcon.setFitWidth(30);
+        this.getItems().add(packageIcon);
+        this.getItems().add(exitButton);
+        this.getItems().add(new javafx.scene.control.Separator());
+        this.getItems().add(settingsButton);
+        this.getItems().add(aboutButton);
+        this.getItems().add(infoButton);
+
+        // Add tooltips to the buttons
+        exitButton.setTooltip(new Tooltip(GuiConstants.Tooltips.TOOLTIP_EXIT_BTN));
+        settingsButton.setTooltip(new Tooltip(GuiConstants.Tooltips.TOOLTIP_SETTINGS_BTN));
+        aboutButton.setTooltip(new Tooltip(GuiConstants.Tooltips.TOOLTIP_ABOUT_BTN));
+        infoButton.setTooltip(new Tooltip(GuiConstants.Tooltips.TOOLTIP_INFO_BTN));
+    }
+
+    /**
+     * This method applies a hover effect to the button, changing the background color.
+     */
+    private void applyHoverEffect(Button button) {
+        button.addEventHandler(MouseEvent.MOUSE_ENTERED, (MouseEvent _) -> 
+            button.setStyle(button.getStyle() + GuiConstants.Styles.STYLE_BTN_HOVER_TBAREA)
+        );
+
+        button.addEventHandler(MouseEvent.MOUSE_EXITED, (MouseEvent _) -> 
+            button.setStyle(button.getStyle().replace(GuiConstants.Styles.STYLE_BTN_HOVER_TBAREA, GuiConstants.Styles.STYLE_BTN_TBAREA))
+        );
+    }
+}
@@ -0,0 +1,16 @@
+/**
+ * The JavaFX user interface of the PackageCalculator on top of the {@code packagecalculator.engine} module.
+ */
+module packagecalculator.gui {
+    requires packagecalculator.engine;
+    requires javafx.controls;
+    // the project repo is opened in the browser
+    requires java.desktop;
+    // the startup timer reads the start of the JVM
+    requires java.management;
+    // the calculate click event
+    requires jdk.jfr;
+
+    // JavaFX creates the application by reflection
+    exports gui to javafx.graphics;
+}
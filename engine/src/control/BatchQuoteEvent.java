@@ -0,0 +1,106 @@
+package control;
+
+import data.Constants;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * The {@code BatchQuoteEvent} is the flight recorder event of a batch of packets quoted by the {@link Calculator}
+ * with parallel arrays. The rows are only counted per tier while the event is enabled.
+ */
+@Name(Constants.Events.BATCH_QUOTE)
+@Label("Batch Quote")
+@Category({Constants.Events.CATEGORY, "Calculator"})
+@Description("A batch of packets quoted by the calculator")
+@StackTrace(false)
+final class BatchQuoteEvent extends Event {
+
+    /** the number of rows of the batch */
+    @Label("Rows")
+    int rows;
+
+    /** the number of rows with valid shipping costs */
+    @Label("Valid Rows")
+    int validRows;
+
+    /** the number of rows with negative values or zeros */
+    @Label("Non-Positive Rows")
+    int nonPositiveRows;
+
+    /** the number of rows whose dimensions or weight are out of bounds */
+    @Label("Out Of Bounds Rows")
+    int outOfBoundsRows;
+
+    /** the number of rows that do not fit into any tier */
+    @Label("Rows Without Tier")
+    int noTierRows;
+
+    /** the number of rows per tier */
+    @Label("Tier Mix")
+    @Description("Number of rows per tier index, e.g. 0:120 1:30")
+    String tierMix;
+
+    /** the number of rows per tier, not recorded as field */
+    private transient int[] tierCounts;
+
+    /**
+     * Prepares counting the rows, if the event is enabled.
+     *
+     * @param tierCount the number of tiers of the tariff
+     * @return true if the rows have to be counted with {@link #count(int)}
+     */
+    boolean startCounting(int tierCount) {
+        if (!isEnabled()) {
+            return false;
+        }
+        tierCounts = new int[tierCount];
+        return true;
+    }
+
+    /**
+     * Counts a row of the batch.
+     *
+     * @param tier the tier or the negative tier code of the row
+     */
+    void count(int tier) {
+        if (tier >= 0) {
+            tierCounts[tier]++;
+        }
+        else if (tier == Calculator.TIER_NON_POSITIVE) {
+            nonPositiveRows++;
+        }
+        else if (tier == Calculator.TIER_OUT_OF_BOUNDS) {
+            outOfBoundsRows++;
+        }
+        else {
+            noTierRows++;
+        }
+    }
+
+    /**
+     * Records the event, if it is enabled and exceeds its threshold.
+     *
+     * @param rows the number of rows of the batch
+     * @param validRows the number of rows with valid shipping costs
+     */
+    void report(int rows, int validRows) {
+        // the recording may have been started during the batch
+        if (tierCounts != null && shouldCommit()) {
+            this.rows = rows;
+            this.validRows = validRows;
+            StringBuilder mix = new StringBuilder();
+            for (int i = 0; i < tierCounts.length; i++) {
+                if (tierCounts[i] > 0) {
+                    mix.append(mix.isEmpty() ? "" : " ").append(i).append(':').append(tierCounts[i]);
+                }
+            }
+            tierMix = mix.toString();
+            commit();
+        }
+    }
+}
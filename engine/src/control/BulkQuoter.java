@@ -0,0 +1,637 @@
+package control;
+
+import data.Constants;
+import data.CsvByteParser;
+import data.Exceptions.CSVWrongFormatException;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * The {@code BulkQuoter} class calculates the shipping costs for a whole manifest of packets without a GUI.
+ *
+ * <p>The manifest is a csv file with one packet per line ({@code ID;length;width;height;weight}, in mm and g).
+ * It is streamed through a fixed size buffer, so the memory used does not depend on the size of the file.
+ * The packets are calculated in batches by {@link Calculator} and for each line a result line
+ * ({@code ID;TIER;COSTS;STATUS}) is written or the result is passed to a {@link RowListener}.
+ * An optional header line at the beginning of the manifest (a first line whose values contain no digits) is skipped.</p>
+ *
+ * <p>An instance is not thread-safe, every thread needs its own instance.</p>
+ */
+public class BulkQuoter {
+
+    /** size of the read and write buffers in bytes, a line with its line break has to fit into it */
+    static final int BUFFER_SIZE = 1 << 16;
+
+    /** maximum number of rows that are calculated together */
+    private static final int BATCH_SIZE = 4096;
+
+    /** number of values after the id of a line */
+    private static final int VALUES_PER_LINE = 4;
+
+    /** tier code for lines that cannot be read */
+    public static final int TIER_WRONG_FORMAT = Integer.MIN_VALUE;
+
+    /** the delimiter of the csv file */
+    private static final byte DELIMITER = (byte) Constants.Symbols.CSV_DELIMITER.charAt(0);
+
+    /** the status texts of the result lines */
+    private static final byte[] STATUS_OK = bytes(Constants.Bulk.STATUS_OK);
+    private static final byte[] STATUS_NON_POSITIVE = bytes(Constants.Bulk.STATUS_NON_POSITIVE);
+    private static final byte[] STATUS_OUT_OF_BOUNDS = bytes(Constants.Bulk.STATUS_OUT_OF_BOUNDS);
+    private static final byte[] STATUS_NO_TIER = bytes(Constants.Bulk.STATUS_NO_TIER);
+    private static final byte[] STATUS_WRONG_FORMAT = bytes(Constants.Bulk.STATUS_WRONG_FORMAT);
+
+    /**
+     * The {@code RowListener} receives the results of a manifest row by row instead of result lines,
+     * e.g. to show them in a table.
+     */
+    public interface RowListener {
+
+        /**
+         * Receives the result of a row. The id refers to the input buffer and is only valid during the call.
+         *
+         * @param in the buffer with the id of the row
+         * @param idStart the index of the first byte of the id
+         * @param idEnd the index after the last byte of the id
+         * @param tier the tier of the row, a negative tier code of the {@link Calculator}
+         *        or {@link BulkQuoter#TIER_WRONG_FORMAT} if the line cannot be read
+         * @param costsCents the shipping costs in euro cents, 0 if the row is invalid
+         * @throws IOException if the result cannot be stored
+         */
+        void row(ByteBuffer in, int idStart, int idEnd, int tier, long costsCents) throws IOException;
+
+        /**
+         * Is called after all rows of a batch were received, so that they can be published at once.
+         *
+         * @throws IOException if the results cannot be stored or the quote should be stopped
+         */
+        default void batchQuoted() throws IOException {
+            // nothing to publish by default
+        }
+    }
+
+    /** the calculator used for the batches */
+    private final Calculator calculator;
+
+    /** the channel the result lines are written to or null if a listener receives the rows */
+    private final WritableByteChannel output;
+
+    /** the listener that receives the rows or null if result lines are written */
+    private final RowListener rowListener;
+
+    /** buffer for the result lines (twice the read buffer, so that every line fits) */
+    private final ByteBuffer outBuffer = ByteBuffer.allocate(2 * BUFFER_SIZE);
+
+    /** the values of the readable rows of the current batch, which are passed to the calculator */
+    private final int[] lengths = new int[BATCH_SIZE];
+    private final int[] widths = new int[BATCH_SIZE];
+    private final int[] heights = new int[BATCH_SIZE];
+    private final int[] weights = new int[BATCH_SIZE];
+    private final int[] tiers = new int[BATCH_SIZE];
+    private final long[] costs = new long[BATCH_SIZE];
+
+    /** start and end of the ids of the current batch in {@link #batchInput} */
+    private final int[] idStarts = new int[BATCH_SIZE];
+    private final int[] idEnds = new int[BATCH_SIZE];
+
+    /** the index of every row of the current batch in the values or -1 if its line cannot be read */
+    private final int[] valueIndexes = new int[BATCH_SIZE];
+
+    /** number of readable rows in the current batch */
+    private int batchValues;
+
+    /** the buffer the ids of the current batch refer to */
+    private ByteBuffer batchInput;
+
+    /** number of rows in the current batch */
+    private int batchRows;
+
+    /** true as long as the first line may still be a header line */
+    private boolean headerAllowed;
+
+    /** number of rows and valid rows that were calculated */
+    private long rows;
+    private long validRows;
+
+    /**
+     * Constructs a new bulk quoter.
+     *
+     * @param calculator the calculator used for the shipping costs
+     * @param output the channel the result lines are written to
+     */
+    public BulkQuoter(Calculator calculator, WritableByteChannel output) {
+        this(calculator, output, true);
+    }
+
+    /**
+     * Constructs a new bulk quoter.
+     *
+     * @param calculator the calculator used for the shipping costs
+     * @param output the channel the result lines are written to
+     * @param headerAllowed true if the first line may be a header line, false if the input starts in the middle of a manifest
+     */
+    BulkQuoter(Calculator calculator, WritableByteChannel output, boolean headerAllowed) {
+        this.calculator = calculator;
+        this.output = output;
+        this.rowListener = null;
+        this.headerAllowed = headerAllowed;
+    }
+
+    /**
+     * Constructs a new bulk quoter that passes the results to a listener instead of writing result lines.
+     *
+     * @param calculator the calculator used for the shipping costs
+     * @param rowListener the listener that receives the rows
+     */
+    public BulkQuoter(Calculator calculator, RowListener rowListener) {
+        this.calculator = calculator;
+        this.output = null;
+        this.rowListener = rowListener;
+        this.headerAllowed = true;
+    }
+
+    /**
+     * Calculates the shipping costs of all lines of the input and writes the result lines.
+     * The input is read in chunks of {@link #BUFFER_SIZE} bytes.
+     *
+     * @param input the channel of the manifest
+     * @throws IOException if the input cannot be read or the output cannot be written
+     * @throws CSVWrongFormatException if the csv file with the shipping costs cannot be found or read
+     */
+    public void quote(ReadableByteChannel input) throws IOException, CSVWrongFormatException {
+        ByteBuffer inBuffer = ByteBuffer.allocate(BUFFER_SIZE);
+        boolean skipLine = false;
+
+        while (input.read(inBuffer) >= 0) {
+            int lineEnd = lastLineEnd(inBuffer, inBuffer.position());
+            if (lineEnd < 0 && !inBuffer.hasRemaining()) {
+                // the line does not fit into the buffer: report it once and skip the rest of it
+                if (!skipLine) {
+                    int idEnd = 0;
+                    while (idEnd < inBuffer.position() && inBuffer.get(idEnd) != DELIMITER) {
+                        idEnd++;
+                    }
+                    addWrongFormat(inBuffer, 0, idEnd);
+                    skipLine = true;
+                }
+                inBuffer.clear();
+                continue;
+            }
+            if (lineEnd >= 0) {
+                int from = 0;
+                if (skipLine) {
+                    from = nextLineStart(inBuffer, 0, lineEnd);
+                    skipLine = false;
+                }
+                processLines(inBuffer, from, lineEnd);
+
+                // the ids of the batch are overwritten by compacting the buffer
+                quoteBatch();
+                inBuffer.limit(inBuffer.position()).position(lineEnd);
+                inBuffer.compact();
+            }
+        }
+
+        // the last line does not need to end with a line break
+        if (inBuffer.position() > 0 && !skipLine) {
+            processLines(inBuffer, 0, inBuffer.position());
+        }
+        finish();
+    }
+
+    /**
+     * Parses all lines in the given range of the buffer and adds them to the current batch.
+     * The range has to end at the end of a line. The ids refer to the buffer, so the buffer must not be
+     * changed until {@link #quoteBatch()} was called. A line that would not fit into the read buffer of
+     * {@link #quote(ReadableByteChannel)} cannot be read either, so both ways give the same result.
+     *
+     * @param in the buffer with the lines
+     * @param from the index of the first byte of the first line
+     * @param to the index after the last byte of the last line
+     * @throws IOException if the output cannot be written
+     * @throws CSVWrongFormatException if the csv file with the shipping costs cannot be found or read
+     */
+    void processLines(ByteBuffer in, int from, int to) throws IOException, CSVWrongFormatException {
+        if (batchInput != in) {
+            quoteBatch();
+            batchInput = in;
+        }
+        int lineStart = from;
+        while (lineStart < to) {
+            int lineEnd = lineStart;
+            while (lineEnd < to && in.get(lineEnd) != '\n') {
+                lineEnd++;
+            }
+            int contentEnd = lineEnd;
+            if (contentEnd > lineStart && in.get(contentEnd - 1) == '\r') {
+                contentEnd--;
+            }
+            if (lineEnd - lineStart >= BUFFER_SIZE) {
+                // the id is searched in the part of the line that fits into the read buffer
+                int idEnd = lineStart;
+                while (idEnd < lineStart + BUFFER_SIZE && in.get(idEnd) != DELIMITER) {
+                    idEnd++;
+                }
+                headerAllowed = false;
+                addRow(in, lineStart, idEnd, true);
+            }
+            else if (contentEnd > lineStart) {
+                parseLine(in, lineStart, contentEnd);
+            }
+            lineStart = lineEnd + 1;
+        }
+    }
+
+    /**
+     * Calculates the rows of the current batch and writes all result lines to the output
+     * or passes them to the listener.
+     *
+     * @throws IOException if the output cannot be written
+     * @throws CSVWrongFormatException if the csv file with the shipping costs cannot be found or read
+     */
+    public void finish() throws IOException, CSVWrongFormatException {
+        quoteBatch();
+        flush();
+    }
+
+    /**
+     * Writes the header line of the result file.
+     *
+     * @throws IOException if the output cannot be written
+     */
+    public void writeHeader() throws IOException {
+        ensureCapacity(Constants.Bulk.RESULT_HEADER.length() + 1);
+        outBuffer.put(bytes(Constants.Bulk.RESULT_HEADER)).put((byte) '\n');
+    }
+
+    /**
+     * Returns the number of rows that were calculated.
+     *
+     * @return the number of rows
+     */
+    public long getRows() {
+        return rows;
+    }
+
+    /**
+     * Returns the number of rows with valid shipping costs.
+     *
+     * @return the number of valid rows
+     */
+    public long getValidRows() {
+        return validRows;
+    }
+
+    /**
+     * Parses a single line ({@code ID;length;width;height;weight}) and adds it to the current batch.
+     *
+     * @param in the buffer with the line
+     * @param start the index of the first byte of the line
+     * @param end the index after the last byte of the line (without the line break)
+     * @throws IOException if the output cannot be written
+     * @throws CSVWrongFormatException if the csv file with the shipping costs cannot be found or read
+     */
+    private void parseLine(ByteBuffer in, int start, int end) throws IOException, CSVWrongFormatException {
+        boolean mayBeHeader = headerAllowed;
+        headerAllowed = false;
+
+        int idEnd = start;
+        while (idEnd < end && in.get(idEnd) != DELIMITER) {
+            idEnd++;
+        }
+        // the values are written to the next free index and only kept if the line can be read
+        int index = batchValues;
+        boolean valid = idEnd < end;
+        int pos = idEnd + 1;
+        for (int i = 0; i < VALUES_PER_LINE && valid; i++) {
+            int valueEnd = pos;
+            while (valueEnd < end && in.get(valueEnd) != DELIMITER) {
+                valueEnd++;
+            }
+            long value = CsvByteParser.decodeInt(in, pos, valueEnd);
+            // every value needs digits and all but the last value end with a delimiter
+            valid = value != CsvByteParser.INVALID && ((i < VALUES_PER_LINE - 1) ? valueEnd < end : valueEnd == end);
+            // values that do not fit into an int are out of bounds anyway
+            setValue(index, i, (int) Math.max(-Integer.MAX_VALUE, Math.min(Integer.MAX_VALUE, value)));
+            pos = valueEnd + 1;
+        }
+
+        if (!valid && mayBeHeader && isHeader(in, idEnd, end)) {
+            // the first line is a header line, it is not part of the result
+            return;
+        }
+        addRow(in, start, idEnd, !valid);
+    }
+
+    /**
+     * Checks if a line that cannot be read is a header line: it has values after the id, but none of them
+     * contains a digit. A malformed first data line (e.g. {@code P1;10;x;5;100}) is not a header line.
+     *
+     * @param in the buffer with the line
+     * @param idEnd the index after the last byte of the id
+     * @param end the index after the last byte of the line
+     * @return true if the line is a header line
+     */
+    private static boolean isHeader(ByteBuffer in, int idEnd, int end) {
+        if (idEnd >= end) {
+            return false;
+        }
+        for (int pos = idEnd + 1; pos < end; pos++) {
+            byte b = in.get(pos);
+            if (b >= '0' && b <= '9') {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Sets a value of a readable row in the current batch.
+     *
+     * @param row the index of the row in the values
+     * @param index the index of the value (0 = length, 1 = width, 2 = height, 3 = weight)
+     * @param value the value
+     */
+    private void setValue(int row, int index, int value) {
+        switch (index) {
+            case 0 -> lengths[row] = value;
+            case 1 -> widths[row] = value;
+            case 2 -> heights[row] = value;
+            default -> weights[row] = value;
+        }
+    }
+
+    /**
+     * Adds a line that cannot be read to the current batch.
+     *
+     * @param in the buffer with the line
+     * @param idStart the index of the first byte of the id
+     * @param idEnd the index after the last byte of the id
+     * @throws IOException if the output cannot be written
+     * @throws CSVWrongFormatException if the csv file with the shipping costs cannot be found or read
+     */
+    private void addWrongFormat(ByteBuffer in, int idStart, int idEnd) throws IOException, CSVWrongFormatException {
+        if (batchInput != in) {
+            quoteBatch();
+            batchInput = in;
+        }
+        headerAllowed = false;
+        addRow(in, idStart, idEnd, true);
+        // the buffer is reused for the rest of the line, so the batch is calculated now
+        quoteBatch();
+    }
+
+    /**
+     * Adds the current row to the batch and calculates the batch if it is full.
+     *
+     * @param in the buffer with the line
+     * @param idStart the index of the first byte of the id
+     * @param idEnd the index after the last byte of the id
+     * @param isWrongFormat true if the line cannot be read
+     * @throws IOException if the output cannot be written
+     * @throws CSVWrongFormatException if the csv file with the shipping costs cannot be found or read
+     */
+    private void addRow(ByteBuffer in, int idStart, int idEnd, boolean isWrongFormat)
+            throws IOException, CSVWrongFormatException {
+        int row = batchRows;
+        idStarts[row] = idStart;
+        idEnds[row] = idEnd;
+        // lines that cannot be read are not quoted, so they are neither counted in the metrics nor recorded
+        valueIndexes[row] = isWrongFormat ? -1 : batchValues++;
+        batchRows++;
+        if (batchRows == BATCH_SIZE) {
+            quoteBatch();
+        }
+    }
+
+    /**
+     * Calculates the rows of the current batch and writes their result lines to the output buffer.
+     *
+     * @throws IOException if the output cannot be written
+     * @throws CSVWrongFormatException if the csv file with the shipping costs cannot be found or read
+     */
+    private void quoteBatch() throws IOException, CSVWrongFormatException {
+        if (batchRows == 0) {
+            return;
+        }
+        if (batchValues > 0) {
+            validRows += calculator.calcShippingCosts(lengths, widths, heights, weights, 0, batchValues, tiers, costs);
+        }
+        rows += batchRows;
+
+        for (int row = 0; row < batchRows; row++) {
+            int index = valueIndexes[row];
+            int tier = index < 0 ? TIER_WRONG_FORMAT : tiers[index];
+            long costsCents = index < 0 ? 0 : costs[index];
+            if (rowListener != null) {
+                rowListener.row(batchInput, idStarts[row], idEnds[row], tier, costsCents);
+            }
+            else {
+                writeResult(row, tier, costsCents);
+            }
+        }
+        batchRows = 0;
+        batchValues = 0;
+        if (rowListener != null) {
+            rowListener.batchQuoted();
+        }
+    }
+
+    /**
+     * Writes the result line of a row ({@code ID;TIER;COSTS;STATUS}) to the output buffer.
+     *
+     * @param row the row in the batch
+     * @param tier the tier of the row or a negative tier code
+     * @param costsCents the shipping costs of the row in euro cents
+     * @throws IOException if the output cannot be written
+     */
+    private void writeResult(int row, int tier, long costsCents) throws IOException {
+        int idLength = idEnds[row] - idStarts[row];
+        ensureCapacity(idLength + 64);
+        outBuffer.put(batchInput.slice(idStarts[row], idLength));
+        outBuffer.put(DELIMITER);
+        if (tier >= 0) {
+            putNumber(tier);
+            outBuffer.put(DELIMITER);
+            putCents(costsCents);
+            outBuffer.put(DELIMITER);
+            outBuffer.put(STATUS_OK);
+        }
+        else {
+            outBuffer.put(DELIMITER);
+            outBuffer.put(DELIMITER);
+            outBuffer.put(statusOf(tier));
+        }
+        outBuffer.put((byte) '\n');
+    }
+
+    /**
+     * Returns the status text of a negative tier code.
+     *
+     * @param tier the tier code
+     * @return the status text as bytes
+     */
+    private static byte[] statusOf(int tier) {
+        return switch (tier) {
+            case Calculator.TIER_NON_POSITIVE -> STATUS_NON_POSITIVE;
+            case Calculator.TIER_OUT_OF_BOUNDS -> STATUS_OUT_OF_BOUNDS;
+            case Calculator.TIER_NONE -> STATUS_NO_TIER;
+            default -> STATUS_WRONG_FORMAT;
+        };
+    }
+
+    /**
+     * Writes a non-negative number as decimal digits to the output buffer.
+     *
+     * @param number the number
+     */
+    private void putNumber(long number) {
+        if (number >= 10) {
+            putNumber(number / 10);
+        }
+        outBuffer.put((byte) ('0' + number % 10));
+    }
+
+    /**
+     * Writes an amount of euro cents as a decimal number with two decimal places to the output buffer.
+     *
+     * @param cents the amount in euro cents
+     */
+    private void putCents(long cents) {
+        putNumber(cents / 100);
+        outBuffer.put((byte) '.');
+        outBuffer.put((byte) ('0' + (cents / 10) % 10));
+        outBuffer.put((byte) ('0' + cents % 10));
+    }
+
+    /**
+     * Flushes the output buffer if less than the given number of bytes are remaining.
+     *
+     * @param bytes the number of bytes that will be written
+     * @throws IOException if the output cannot be written
+     */
+    private void ensureCapacity(int bytes) throws IOException {
+        if (outBuffer.remaining() < bytes) {
+            flush();
+        }
+    }
+
+    /**
+     * Writes the output buffer to the output channel.
+     *
+     * @throws IOException if the output cannot be written
+     */
+    private void flush() throws IOException {
+        if (output == null) {
+            // the rows were passed to the listener
+            return;
+        }
+        outBuffer.flip();
+        while (outBuffer.hasRemaining()) {
+            output.write(outBuffer);
+        }
+        outBuffer.clear();
+    }
+
+    /**
+     * Returns the index after the last line break in the buffer.
+     *
+     * @param buffer the buffer
+     * @param end the index after the last byte to search
+     * @return the index after the last line break or -1 if there is none
+     */
+    private static int lastLineEnd(ByteBuffer buffer, int end) {
+        for (int i = end - 1; i >= 0; i--) {
+            if (buffer.get(i) == '\n') {
+                return i + 1;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Returns the index after the first line break in the given range of the buffer.
+     *
+     * @param buffer the buffer
+     * @param from the index of the first byte to search
+     * @param to the index after the last byte to search
+     * @return the index after the first line break or {@code to} if there is none
+     */
+    static int nextLineStart(ByteBuffer buffer, int from, int to) {
+        for (int i = from; i < to; i++) {
+            if (buffer.get(i) == '\n') {
+                return i + 1;
+            }
+        }
+        return to;
+    }
+
+    /**
+     * Converts a text into its bytes.
+     *
+     * @param text the text
+     * @return the UTF-8 bytes of the text
+     */
+    private static byte[] bytes(String text) {
+        return text.getBytes(StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Calculates the shipping costs of a manifest file and writes the result file.
+     * With the option {@code --parallel} the manifest is calculated on all cores by {@link ParallelBulkQuoter}.
+     * At the end the number of rows and the throughput are printed.
+     *
+     * @param args the optional {@code --parallel} option, the path of the manifest and the path of the result file
+     */
+    public static void main(String[] args) {
+        boolean parallel = args.length == 3 && args[0].equals(Constants.Bulk.PARALLEL_OPTION);
+        if (args.length != 2 && !parallel) {
+            System.err.println(Constants.Bulk.USAGE);
+            System.exit(2);
+        }
+        Path manifest = Path.of(args[args.length - 2]);
+        Path result = Path.of(args[args.length - 1]);
+
+        long start = System.nanoTime();
+        try (FileChannel output = FileChannel.open(result, StandardOpenOption.CREATE,
+                StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)) {
+            BulkQuoter quoter = new BulkQuoter(new Calculator(), output);
+            quoter.writeHeader();
+            if (parallel) {
+                quoter.flush();
+                ParallelBulkQuoter parallelQuoter = new ParallelBulkQuoter(new Calculator());
+                parallelQuoter.quote(manifest, output);
+                printReport(parallelQuoter.getRows(), parallelQuoter.getValidRows(), System.nanoTime() - start);
+            }
+            else {
+                try (FileChannel input = FileChannel.open(manifest, StandardOpenOption.READ)) {
+                    quoter.quote(input);
+                }
+                printReport(quoter.getRows(), quoter.getValidRows(), System.nanoTime() - start);
+            }
+        }
+        catch (IOException | CSVWrongFormatException e) {
+            System.err.println(Constants.Messages.ERROR_PREFIX + e.getMessage());
+            System.exit(1);
+        }
+    }
+
+    /**
+     * Prints the number of rows and the throughput of a bulk run.
+     *
+     * @param rows the number of rows
+     * @param validRows the number of valid rows
+     * @param nanos the duration of the run in nanoseconds
+     */
+    static void printReport(long rows, long validRows, long nanos) {
+        double rowsPerSecond = rows / Math.max(nanos / 1e9, 1e-9);
+        System.out.printf(Constants.Bulk.REPORT, rows, validRows, nanos / 1_000_000, rowsPerSecond);
+    }
+}
@@ -0,0 +1,495 @@
+package control;
+
+import control.Exceptions.PacketOutOfBoundsException;
+import data.ImmutablePacket;
+import data.Packet;
+import data.Exceptions.CSVWrongFormatException;
+import data.Tariff;
+import data.TariffCache;
+import data.TariffVersions;
+
+import java.time.Instant;
+import java.util.Arrays;
+
+/**
+ * The {@code Calculator} class provides functionality to calculate shipping costs 
+ * for a given packet based on its dimensions and weight. 
+ * 
+ * <p>This class uses a CSV file to import the tariff and determines the cost 
+ * by comparing the packet's properties against the limits of the tiers in the tariff. 
+ * The CSV file is read only once and then held in memory by a {@link TariffCache}. </p>
+ */
+public class Calculator {
+
+	/** tier code for packets with negative values or zeros */
+	public static final int TIER_NON_POSITIVE = -1;
+
+	/** tier code for packets whose dimensions or weight are out of bounds */
+	public static final int TIER_OUT_OF_BOUNDS = -2;
+
+	/** tier code for packets that do not fit into any tier */
+	public static final int TIER_NONE = -3;
+
+	/** the cache holding the shipping costs */
+	private final TariffCache tariffCache;
+
+	/** the memo of already calculated tiers or null */
+	private final QuoteMemo quoteMemo;
+
+	/** the metrics of the quotes or null */
+	private final QuoteMetrics quoteMetrics;
+
+	/** the preallocated results of the tiers of the last used tariff */
+	private volatile TierResults tierResults;
+
+	/**
+	 * The preallocated results of the tiers of a tariff.
+	 * 
+	 * @param tariff the tariff
+	 * @param results one result per tier
+	 */
+	private record TierResults(Tariff tariff, QuoteResult[] results) {
+	}
+
+	/**
+	 * Constructs a calculator that uses the default shipping costs file.
+	 */
+	public Calculator() {
+		this(TariffCache.getDefault());
+	}
+
+	/**
+	 * Constructs a calculator that uses the shipping costs of the given cache.
+	 * 
+	 * @param tariffCache the cache holding the shipping costs
+	 */
+	public Calculator(TariffCache tariffCache) {
+		this(tariffCache, null);
+	}
+
+	/**
+	 * Constructs a calculator that uses the shipping costs of the given cache and remembers the tiers
+	 * of calculated packets in the given memo.
+	 * 
+	 * @param tariffCache the cache holding the shipping costs
+	 * @param quoteMemo the memo of calculated tiers or null to calculate every packet
+	 */
+	public Calculator(TariffCache tariffCache, QuoteMemo quoteMemo) {
+		this(tariffCache, quoteMemo, null);
+	}
+
+	/**
+	 * Constructs a calculator that uses the shipping costs of the given cache, remembers the tiers
+	 * of calculated packets in the given memo and records every quote in the given metrics.
+	 * 
+	 * @param tariffCache the cache holding the shipping costs
+	 * @param quoteMemo the memo of calculated tiers or null to calculate every packet
+	 * @param quoteMetrics the metrics of the quotes or null to record nothing
+	 */
+	public Calculator(TariffCache tariffCache, QuoteMemo quoteMemo, QuoteMetrics quoteMetrics) {
+		this.tariffCache = tariffCache;
+		this.quoteMemo = quoteMemo;
+		this.quoteMetrics = quoteMetrics;
+	}
+
+	/**
+	 * Returns the cache holding the shipping costs.
+	 * 
+	 * @return the tariff cache
+	 */
+	public TariffCache getTariffCache() {
+		return tariffCache;
+	}
+
+	/**
+	 * Returns the memo of calculated tiers.
+	 * 
+	 * @return the memo or null if every packet is calculated
+	 */
+	public QuoteMemo getQuoteMemo() {
+		return quoteMemo;
+	}
+
+	/**
+	 * Returns the metrics of the quotes.
+	 * 
+	 * @return the metrics or null if nothing is recorded
+	 */
+	public QuoteMetrics getQuoteMetrics() {
+		return quoteMetrics;
+	}
+
+	/** 
+	 * This method calculates the shipping costs for a given pack.
+	 * 
+	 * <p>The dimensions of the given pack are sorted in place (length -> width -> height). 
+	 * Use {@link #calcShippingCosts(ImmutablePacket)} if the packet must not be changed
+	 * and {@link #quote(int, int, int, int)} if invalid packets should not throw an exception. </p>
+	 * 
+	 * @param pack The packet with its properties for which the shipping costs should be calculated (in mm and g)
+	 * @return The shipping costs (in €) for the given packet as a decimal number
+	 * @throws CSVWrongFormatException if the csv file with the shipping costs cannot be found or read
+	 * @throws PacketOutOfBoundsException if the values of the pack are negative or out of bounds
+	 * @see Packet
+	 */
+	public double calcShippingCosts(Packet pack) throws CSVWrongFormatException, PacketOutOfBoundsException {
+		long start = startTime();
+		Tariff tariff;
+
+		try	{
+			// get the tariff held in memory (the csv file is only read once)
+			tariff = tariffCache.getTariff();
+		}
+		catch (CSVWrongFormatException e) {
+			// throw an exception if the csv file cannot be found or read
+			throw new CSVWrongFormatException(e.getMessage());
+		}
+
+		// sort the packet values in ascending order (length -> width -> height)
+		sortPackageValues(pack);
+
+		// return the shipping costs of the packet in € or throw an exception if it is out of bounds
+		return checkResult(quote(tariff, pack.getLength(), pack.getWidth(), pack.getHeight(), pack.getWeight(), start));
+	}
+
+	/** 
+	 * This method calculates the shipping costs for a given immutable pack.
+	 * The pack is not changed, so one instance can be calculated by many threads at once.
+	 * 
+	 * @param pack The packet in canonical sorted form for which the shipping costs should be calculated (in mm and g)
+	 * @return The shipping costs (in €) for the given packet as a decimal number
+	 * @throws CSVWrongFormatException if the csv file with the shipping costs cannot be found or read
+	 * @throws PacketOutOfBoundsException if the values of the pack are negative or out of bounds
+	 * @see ImmutablePacket
+	 */
+	public double calcShippingCosts(ImmutablePacket pack) throws CSVWrongFormatException, PacketOutOfBoundsException {
+		return checkResult(quote(pack));
+	}
+
+	/**
+	 * This method quotes a given immutable pack. Invalid packets are reported by the status of the result,
+	 * no exception is created for them.
+	 * 
+	 * @param pack The packet in canonical sorted form for which the shipping costs should be calculated (in mm and g)
+	 * @return the preallocated result with the status, the tier and the shipping costs (in €)
+	 * @throws CSVWrongFormatException if the csv file with the shipping costs cannot be found or read
+	 * @see QuoteResult
+	 */
+	public QuoteResult quote(ImmutablePacket pack) throws CSVWrongFormatException {
+		long start = startTime();
+		// the dimensions are already sorted
+		return quote(tariffCache.getTariff(), pack.length(), pack.width(), pack.height(), pack.weight(), start);
+	}
+
+	/**
+	 * This method quotes a packet given by its values. The dimensions may be in any order.
+	 * Invalid packets are reported by the status of the result, no exception and no object is created.
+	 * 
+	 * @param length a dimension of the packet (in mm)
+	 * @param width a dimension of the packet (in mm)
+	 * @param height a dimension of the packet (in mm)
+	 * @param weight the weight of the packet (in g)
+	 * @return the preallocated result with the status, the tier and the shipping costs (in €)
+	 * @throws CSVWrongFormatException if the csv file with the shipping costs cannot be found or read
+	 * @see QuoteResult
+	 */
+	public QuoteResult quote(int length, int width, int height, int weight) throws CSVWrongFormatException {
+		long start = startTime();
+		// sort the dimensions without an array (largest -> middle -> smallest)
+		int largest = Math.max(length, Math.max(width, height));
+		int smallest = Math.min(length, Math.min(width, height));
+		int middle = length + width + height - largest - smallest;
+
+		return quote(tariffCache.getTariff(), largest, middle, smallest, weight, start);
+	}
+
+	/**
+	 * This method quotes a packet with the tariff version that applied at its shipment date, e.g. to price a past
+	 * shipment again. The version is resolved once, so the whole quote uses the same tariff even if a new version
+	 * is published meanwhile. The dimensions may be in any order.
+	 * 
+	 * @param tariffVersions the versions of the tariff
+	 * @param shipmentDate the instant the packet is shipped
+	 * @param length a dimension of the packet (in mm)
+	 * @param width a dimension of the packet (in mm)
+	 * @param height a dimension of the packet (in mm)
+	 * @param weight the weight of the packet (in g)
+	 * @return the preallocated result with the status, the tier and the shipping costs (in €)
+	 * @throws IllegalArgumentException if no tariff version applies at the shipment date
+	 * @see TariffVersions#getTariff(Instant)
+	 */
+	public QuoteResult quoteAt(TariffVersions tariffVersions, Instant shipmentDate, int length, int width, int height,
+			int weight) {
+		long start = startTime();
+		int largest = Math.max(length, Math.max(width, height));
+		int smallest = Math.min(length, Math.min(width, height));
+		int middle = length + width + height - largest - smallest;
+
+		return quote(tariffVersions.getTariff(shipmentDate), largest, middle, smallest, weight, start);
+	}
+
+	/**
+	 * This method returns the start time of a quote that is measured.
+	 * 
+	 * @return the current time in nanoseconds or 0 if the quotes are not measured
+	 */
+	private long startTime() {
+		// the clock is only read if the quotes are measured
+		return quoteMetrics == null ? 0 : System.nanoTime();
+	}
+
+	/**
+	 * This method quotes a packet with sorted dimensions. If the quotes are measured, the latency from the start
+	 * of the public method, including getting the tariff, to the finished result is recorded.
+	 * 
+	 * @param tariff the tariff with the limits and tiers
+	 * @param length the largest dimension of the packet (in mm)
+	 * @param width the middle dimension of the packet (in mm)
+	 * @param height the smallest dimension of the packet (in mm)
+	 * @param weight the weight of the packet (in g)
+	 * @param start the start time of the quote from {@link #startTime()}
+	 * @return the preallocated result of the packet
+	 */
+	private QuoteResult quote(Tariff tariff, int length, int width, int height, int weight, long start) {
+		// the event is only created while it is enabled in a recording
+		QuoteEvent event = QuoteEvent.beginIfEnabled();
+
+		int tier = lookupTier(tariff, length, width, height, weight);
+		QuoteResult result = resultOf(tariff, tier);
+		if (event != null) {
+			event.report(result);
+		}
+		if (tier < 0) {
+			ValidationFailureEvent.report(tier, length, width, height, weight);
+		}
+
+		QuoteMetrics metrics = quoteMetrics;
+		if (metrics != null) {
+			metrics.record(tier, System.nanoTime() - start);
+		}
+		return result;
+	}
+
+	/**
+	 * This method returns the preallocated result of a tier.
+	 * 
+	 * @param tariff the tariff
+	 * @param tier the tier index or a negative tier code
+	 * @return the preallocated result of the tier
+	 */
+	private QuoteResult resultOf(Tariff tariff, int tier) {
+		if (tier >= 0) {
+			return tierResultsOf(tariff)[tier];
+		}
+		if (tier == TIER_NON_POSITIVE) {
+			return QuoteResult.NON_POSITIVE;
+		}
+		if (tier == TIER_OUT_OF_BOUNDS) {
+			return QuoteResult.OUT_OF_BOUNDS;
+		}
+		return QuoteResult.NO_TIER;
+	}
+
+	/**
+	 * This method returns the preallocated results of the tiers of a tariff.
+	 * They are created once per tariff, concurrent callers may create them twice, which does no harm.
+	 * 
+	 * @param tariff the tariff
+	 * @return one result per tier with its shipping costs
+	 */
+	private QuoteResult[] tierResultsOf(Tariff tariff) {
+		TierResults current = tierResults;
+		if (current == null || current.tariff() != tariff) {
+			QuoteResult[] results = new QuoteResult[tariff.getTierCount()];
+			for (int i = 0; i < results.length; i++) {
+				results[i] = new QuoteResult(QuoteStatus.OK, i, tariff.getShippingCostsCents(i), tariff.getPriceText(i));
+			}
+			current = new TierResults(tariff, results);
+			tierResults = current;
+		}
+		return current.results();
+	}
+
+	/**
+	 * This method calculates the shipping costs for a batch of packets given as parallel arrays.
+	 * 
+	 * <p>For every row {@code i} in {@code [offset, offset + count)} the tier index is written to {@code tiers[i]}
+	 * and the shipping costs in euro cents to {@code costs[i]}. Invalid rows get one of the negative tier codes
+	 * ({@link #TIER_NON_POSITIVE}, {@link #TIER_OUT_OF_BOUNDS}, {@link #TIER_NONE}) and costs of 0.
+	 * No objects are created per row and no exception is thrown for invalid rows, the results are the same as
+	 * {@link #calcShippingCosts(Packet)} would return for each row. The input arrays are not modified.</p>
+	 * 
+	 * @param lengths the lengths of the packets (in mm)
+	 * @param widths the widths of the packets (in mm)
+	 * @param heights the heights of the packets (in mm)
+	 * @param weights the weights of the packets (in g)
+	 * @param offset the index of the first row to calculate
+	 * @param count the number of rows to calculate
+	 * @param tiers the output array for the tier indexes
+	 * @param costs the output array for the shipping costs (in euro cents)
+	 * @return the number of rows with valid shipping costs
+	 * @throws CSVWrongFormatException if the csv file with the shipping costs cannot be found or read
+	 */
+	public int calcShippingCosts(int[] lengths, int[] widths, int[] heights, int[] weights, int offset, int count,
+			int[] tiers, long[] costs) throws CSVWrongFormatException {
+		// the shipping costs are held in euro cents by the tariff
+		Tariff tariff = tariffCache.getTariff();
+		QuoteMetrics metrics = quoteMetrics;
+		BatchQuoteEvent event = new BatchQuoteEvent();
+		event.begin();
+		boolean counting = event.startCounting(tariff.getTierCount());
+
+		int validRows = 0;
+		int end = offset + count;
+		for (int i = offset; i < end; i++) {
+			int a = lengths[i];
+			int b = widths[i];
+			int c = heights[i];
+
+			// sort the dimensions without an array (largest -> middle -> smallest)
+			int length = Math.max(a, Math.max(b, c));
+			int height = Math.min(a, Math.min(b, c));
+			int width = a + b + c - length - height;
+
+			int tier = lookupTier(tariff, length, width, height, weights[i]);
+			tiers[i] = tier;
+			if (metrics != null) {
+				// the rows of a batch are counted, but not measured one by one
+				metrics.recordTier(tier);
+			}
+			if (counting) {
+				event.count(tier);
+			}
+			if (tier >= 0) {
+				costs[i] = tariff.getShippingCostsCents(tier);
+				validRows++;
+			}
+			else {
+				costs[i] = 0;
+				ValidationFailureEvent.report(tier, length, width, height, weights[i]);
+			}
+		}
+		event.report(count, validRows);
+		return validRows;
+	}
+
+	/**
+	 * This method calculates the shipping costs for a batch of packets given as parallel arrays.
+	 * All rows of the arrays are calculated.
+	 * 
+	 * @param lengths the lengths of the packets (in mm)
+	 * @param widths the widths of the packets (in mm)
+	 * @param heights the heights of the packets (in mm)
+	 * @param weights the weights of the packets (in g)
+	 * @param tiers the output array for the tier indexes
+	 * @param costs the output array for the shipping costs (in euro cents)
+	 * @return the number of rows with valid shipping costs
+	 * @throws CSVWrongFormatException if the csv file with the shipping costs cannot be found or read
+	 * @see #calcShippingCosts(int[], int[], int[], int[], int, int, int[], long[])
+	 */
+	public int calcShippingCosts(int[] lengths, int[] widths, int[] heights, int[] weights, int[] tiers, long[] costs)
+			throws CSVWrongFormatException {
+		return calcShippingCosts(lengths, widths, heights, weights, 0, lengths.length, tiers, costs);
+	}
+
+	/**
+	 * This method determines the tier of a packet with the memo, if the calculator has one.
+	 * The dimensions have to be sorted (length >= width >= height).
+	 * 
+	 * @param tariff the tariff with the limits and tiers
+	 * @param length the largest dimension of the packet (in mm)
+	 * @param width the middle dimension of the packet (in mm)
+	 * @param height the smallest dimension of the packet (in mm)
+	 * @param weight the weight of the packet (in g)
+	 * @return the tier index or a negative tier code if the packet is invalid
+	 */
+	private int lookupTier(Tariff tariff, int length, int width, int height, int weight) {
+		if (quoteMemo != null) {
+			return quoteMemo.tier(tariff, length, width, height, weight);
+		}
+		return calcTier(tariff, length, width, height, weight);
+	}
+
+	/**
+	 * This method determines the tier of a packet, which is the index of its price in the shipping costs list.
+	 * The dimensions have to be sorted (length >= width >= height).
+	 * 
+	 * @param tariff the tariff with the limits and tiers
+	 * @param length the largest dimension of the packet (in mm)
+	 * @param width the middle dimension of the packet (in mm)
+	 * @param height the smallest dimension of the packet (in mm)
+	 * @param weight the weight of the packet (in g)
+	 * @return the tier index or a negative tier code if the packet is invalid
+	 */
+	static int calcTier(Tariff tariff, int length, int width, int height, int weight) {
+		int tier = checkValues(tariff, length, width, height, weight);
+		if (tier == 0) {
+			// look up the first matching tier in the precompiled tier table
+			tier = tariff.findTier(length, width, height, weight);
+			if (tier < 0) {
+				tier = TIER_NONE;
+			}
+		}
+		return tier;
+	}
+
+	/**
+	 * This method returns the shipping costs of a result or throws an exception if the packet is negative or out of bounds.
+	 * 
+	 * @param result the result of a quote
+	 * @return the shipping costs (in €), 0 if the packet does not fit into any tier
+	 * @throws PacketOutOfBoundsException if the values of the packet are negative or out of bounds
+	 */
+	private static double checkResult(QuoteResult result) throws PacketOutOfBoundsException {
+		String message = result.status().getMessage();
+		if (message != null) {
+			throw new PacketOutOfBoundsException(message);
+		}
+		return result.shippingCosts();
+	}
+
+	/**
+	 * This method checks if the values of a pack are positive and within the limits of the tariff.
+	 * 
+	 * @param tariff the tariff with the limits
+	 * @param length the largest dimension of the packet
+	 * @param width the middle dimension of the packet
+	 * @param height the smallest dimension of the packet
+	 * @param weight the weight of the packet
+	 * @return 0 if the values are valid, {@link #TIER_NON_POSITIVE} or {@link #TIER_OUT_OF_BOUNDS} otherwise
+	 */
+	private static int checkValues(Tariff tariff, int length, int width, int height, int weight) {
+		// Check if the values are positive and within the allowed range
+		if (((length <= 0) || (width <= 0) || (height <= 0)) || (weight <= 0)) {
+			return TIER_NON_POSITIVE;
+		}
+		if (((length > tariff.getMaxLength()) || (width > tariff.getMaxWidth()) || (height > tariff.getMaxHeight()))
+				|| (weight > tariff.getMaxWeight()))	{
+			return TIER_OUT_OF_BOUNDS;
+		}
+		return 0;
+	}
+
+	/**
+	 * This method sorts the values of a pack in ascending order (length -> width -> height).
+	 * 
+	 * @param pack the packet to be sorted
+	 * @return the sorted packet
+	 * @see Packet
+	 */
+	private Packet sortPackageValues(Packet pack)	{
+		// Create an array with the dimensions
+        int[] dimensions = {pack.getLength(), pack.getWidth(), pack.getHeight()};
+        
+        // Sort the array in ascending order
+        Arrays.sort(dimensions);
+        
+        // Update the pack with the sorted dimensions
+        pack.setLength(dimensions[2]); // Largest value
+        pack.setWidth(dimensions[1]);  // Middle value
+        pack.setHeight(dimensions[0]); // Smallest value
+        
+        // Return the sorted pack
+        return pack;
+	}
+}
\ No newline at end of file
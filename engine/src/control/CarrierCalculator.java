@@ -0,0 +1,132 @@
+package control;
+
+import data.CarrierTariffs;
+import data.Tariff;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * The {@code CarrierCalculator} quotes a packet with several carriers at once and finds the cheapest one.
+ *
+ * <p>All carriers are checked in one pass over the precompiled table of the {@link CarrierTariffs}, instead of one
+ * {@link Calculator} per carrier. The quotes of every tier of every carrier are created once, so a quote of the
+ * cheapest carrier creates no object.</p>
+ */
+public class CarrierCalculator {
+
+    /** the tariffs of the carriers */
+    private final CarrierTariffs carrierTariffs;
+
+    /** the preallocated quote of every row of the carrier tariffs */
+    private final CarrierQuote[] rowQuotes;
+
+    /**
+     * Constructs a calculator for the given carriers.
+     *
+     * @param carrierTariffs the tariffs of the carriers
+     */
+    public CarrierCalculator(CarrierTariffs carrierTariffs) {
+        this.carrierTariffs = carrierTariffs;
+        rowQuotes = new CarrierQuote[carrierTariffs.getRowCount()];
+        List<CarrierTariffs.Carrier> carriers = carrierTariffs.getCarriers();
+        for (int row = 0; row < rowQuotes.length; row++) {
+            int carrier = carrierTariffs.getCarrier(row);
+            int tier = carrierTariffs.getTier(row);
+            Tariff tariff = carriers.get(carrier).tariff();
+            rowQuotes[row] = new CarrierQuote(carrier, carriers.get(carrier).name(),
+                new QuoteResult(QuoteStatus.OK, tier, tariff.getShippingCostsCents(tier), tariff.getPriceText(tier)));
+        }
+    }
+
+    /**
+     * Returns the tariffs of the carriers.
+     *
+     * @return the carrier tariffs
+     */
+    public CarrierTariffs getCarrierTariffs() {
+        return carrierTariffs;
+    }
+
+    /**
+     * Returns the quote of the cheapest carrier for a packet. The dimensions may be in any order.
+     * If two carriers are equally cheap, the first one is taken.
+     *
+     * @param length a dimension of the packet (in mm)
+     * @param width a dimension of the packet (in mm)
+     * @param height a dimension of the packet (in mm)
+     * @param weight the weight of the packet (in g)
+     * @return the preallocated quote of the cheapest carrier or a quote with the rejection reason
+     */
+    public CarrierQuote cheapest(int length, int width, int height, int weight) {
+        // sort the dimensions without an array (largest -> middle -> smallest)
+        int largest = Math.max(length, Math.max(width, height));
+        int smallest = Math.min(length, Math.min(width, height));
+        int middle = length + width + height - largest - smallest;
+
+        if (smallest <= 0 || weight <= 0) {
+            return CarrierQuote.NON_POSITIVE;
+        }
+        int row = carrierTariffs.findCheapestRow(largest, middle, smallest, weight);
+        if (row < 0) {
+            return rejectionOf(largest, middle, smallest, weight);
+        }
+        return rowQuotes[row];
+    }
+
+    /**
+     * Returns the quotes of all carriers that accept a packet, from the cheapest to the most expensive one.
+     * Equally cheap carriers keep their order. The dimensions may be in any order.
+     *
+     * @param length a dimension of the packet (in mm)
+     * @param width a dimension of the packet (in mm)
+     * @param height a dimension of the packet (in mm)
+     * @param weight the weight of the packet (in g)
+     * @return the preallocated quotes of the accepting carriers or a single quote with the rejection reason
+     */
+    public List<CarrierQuote> rank(int length, int width, int height, int weight) {
+        int largest = Math.max(length, Math.max(width, height));
+        int smallest = Math.min(length, Math.min(width, height));
+        int middle = length + width + height - largest - smallest;
+
+        if (smallest <= 0 || weight <= 0) {
+            return List.of(CarrierQuote.NON_POSITIVE);
+        }
+        int[] rows = new int[carrierTariffs.getCarriers().size()];
+        int found = carrierTariffs.findRows(largest, middle, smallest, weight, rows);
+        if (found == 0) {
+            return List.of(rejectionOf(largest, middle, smallest, weight));
+        }
+
+        // insertion sort, the rows are already in carrier order and there are only a few of them
+        for (int i = 1; i < found; i++) {
+            int row = rows[i];
+            long costs = carrierTariffs.getShippingCostsCents(row);
+            int j = i - 1;
+            while (j >= 0 && carrierTariffs.getShippingCostsCents(rows[j]) > costs) {
+                rows[j + 1] = rows[j];
+                j--;
+            }
+            rows[j + 1] = row;
+        }
+        List<CarrierQuote> ranking = new ArrayList<>(found);
+        for (int i = 0; i < found; i++) {
+            ranking.add(rowQuotes[rows[i]]);
+        }
+        return ranking;
+    }
+
+    /**
+     * Returns the reason why no carrier accepts a packet with positive values.
+     *
+     * @param length the largest dimension of the packet (in mm)
+     * @param width the middle dimension of the packet (in mm)
+     * @param height the smallest dimension of the packet (in mm)
+     * @param weight the weight of the packet (in g)
+     * @return {@link CarrierQuote#OUT_OF_BOUNDS} if the packet exceeds the limits of every carrier,
+     *         {@link CarrierQuote#NO_TIER} otherwise
+     */
+    private CarrierQuote rejectionOf(int length, int width, int height, int weight) {
+        return carrierTariffs.isInBounds(length, width, height, weight) ? CarrierQuote.NO_TIER : CarrierQuote.OUT_OF_BOUNDS;
+    }
+}
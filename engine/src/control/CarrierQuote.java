@@ -0,0 +1,32 @@
+package control;
+
+/**
+ * The {@code CarrierQuote} record is the quote of a packet by one of several carriers.
+ *
+ * <p>Quotes are immutable and preallocated by the {@link CarrierCalculator}: there is one quote per tier of every carrier
+ * and one per rejection reason, so a quote creates neither a result nor an exception.</p>
+ *
+ * @param carrier the index of the carrier in the {@link data.CarrierTariffs} or -1 if no carrier accepts the packet
+ * @param carrierName the name of the carrier or null if no carrier accepts the packet
+ * @param result the status, the tier and the shipping costs of the packet with this carrier
+ */
+public record CarrierQuote(int carrier, String carrierName, QuoteResult result) {
+
+    /** quote of a packet with negative values or zeros */
+    public static final CarrierQuote NON_POSITIVE = new CarrierQuote(-1, null, QuoteResult.NON_POSITIVE);
+
+    /** quote of a packet whose dimensions or weight are out of bounds of every carrier */
+    public static final CarrierQuote OUT_OF_BOUNDS = new CarrierQuote(-1, null, QuoteResult.OUT_OF_BOUNDS);
+
+    /** quote of a packet that is within the bounds of a carrier, but does not fit into any tier */
+    public static final CarrierQuote NO_TIER = new CarrierQuote(-1, null, QuoteResult.NO_TIER);
+
+    /**
+     * Checks if a carrier accepts the packet.
+     *
+     * @return true if the status of the result is {@link QuoteStatus#OK}
+     */
+    public boolean isOk() {
+        return result.isOk();
+    }
+}
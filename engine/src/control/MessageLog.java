@@ -0,0 +1,191 @@
+package control;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * The {@code MessageLog} is a bounded ring buffer of messages. Any number of threads can add messages without locks,
+ * a single consumer (e.g. the user interface) takes them out in batches with {@link #drain(Sink)}.
+ *
+ * <p>Every message gets a sequence number from an {@link AtomicLong} and is written to the slot of its sequence.
+ * If the producers are more than {@link #getCapacity()} messages ahead of the consumer, the oldest messages are
+ * overwritten and counted as dropped. Consecutive equal messages are collapsed into one with a repeat count.</p>
+ */
+public class MessageLog {
+
+    /**
+     * The {@code Sink} receives the drained messages in the order they were added.
+     */
+    public interface Sink {
+
+        /**
+         * Receives a new message.
+         *
+         * @param text the message
+         */
+        void append(String text);
+
+        /**
+         * Receives that the last appended message was repeated.
+         *
+         * @param text the repeated message
+         * @param count how often the message was added in a row, at least 2
+         */
+        void repeated(String text, long count);
+    }
+
+    /**
+     * A message with its sequence number.
+     *
+     * @param sequence the sequence number of the message
+     * @param text the message
+     */
+    private record Entry(long sequence, String text) {
+    }
+
+    /** the slots of the ring buffer */
+    private final AtomicReferenceArray<Entry> slots;
+
+    /** mask of the slot of a sequence number */
+    private final int mask;
+
+    /** the sequence number of the next added message */
+    private final AtomicLong tail = new AtomicLong();
+
+    /** the sequence number of the next drained message, only used by the consumer */
+    private long head;
+
+    /** the last drained message, how often it was repeated and how often it was passed to the sink, only used by the consumer */
+    private String previous;
+    private long repeats;
+    private long reportedRepeats;
+
+    /** the last added message */
+    private volatile String last;
+
+    /** number of messages that were overwritten before they were drained, written by the consumer */
+    private volatile long droppedCount;
+
+    /** number of messages that were collapsed into the previous message, written by the consumer */
+    private volatile long collapsedCount;
+
+    /**
+     * Constructs a new message log.
+     *
+     * @param capacity the number of messages that can be added before the oldest is dropped, rounded up to a power of two
+     * @throws IllegalArgumentException if the capacity is not positive or too large
+     */
+    public MessageLog(int capacity) {
+        if (capacity <= 0 || capacity > 1 << 30) {
+            throw new IllegalArgumentException(Integer.toString(capacity));
+        }
+        int size = Integer.highestOneBit(capacity) == capacity ? capacity : Integer.highestOneBit(capacity) << 1;
+        this.slots = new AtomicReferenceArray<>(size);
+        this.mask = size - 1;
+    }
+
+    /**
+     * Adds a message. Can be called from any thread, it never blocks.
+     *
+     * @param text the message
+     */
+    public void add(String text) {
+        long sequence = tail.getAndIncrement();
+        slots.set((int) (sequence & mask), new Entry(sequence, text));
+        last = text;
+    }
+
+    /**
+     * Passes all messages added since the last drain to the sink. Must only be called by one thread at a time.
+     *
+     * @param sink the sink that receives the messages
+     * @return true if all messages were drained, false if a message is still being added and has to be drained later
+     */
+    public boolean drain(Sink sink) {
+        long end = tail.get();
+        if (end - head > slots.length()) {
+            // the oldest messages were already overwritten
+            droppedCount += end - slots.length() - head;
+            head = end - slots.length();
+        }
+        long collapsed = 0;
+        boolean complete = true;
+        while (head < end) {
+            Entry entry = slots.get((int) (head & mask));
+            if (entry == null || entry.sequence() < head) {
+                // the producer got its sequence number but did not write the message yet
+                complete = false;
+                break;
+            }
+            if (entry.sequence() > head) {
+                // overwritten while draining
+                droppedCount++;
+                head++;
+                continue;
+            }
+            if (entry.text().equals(previous)) {
+                repeats++;
+                collapsed++;
+            }
+            else {
+                flushRepeats(sink);
+                sink.append(entry.text());
+                previous = entry.text();
+                repeats = 1;
+                reportedRepeats = 1;
+            }
+            head++;
+        }
+        flushRepeats(sink);
+        collapsedCount += collapsed;
+        return complete;
+    }
+
+    /**
+     * Passes the repeat count of the previous message to the sink, if it was repeated since it was passed last.
+     *
+     * @param sink the sink that receives the repeat count
+     */
+    private void flushRepeats(Sink sink) {
+        if (repeats != reportedRepeats) {
+            sink.repeated(previous, repeats);
+            reportedRepeats = repeats;
+        }
+    }
+
+    /**
+     * Returns the last added message, whether it was drained or not.
+     *
+     * @return the last message or null if no message was added
+     */
+    public String getLast() {
+        return last;
+    }
+
+    /**
+     * Returns the number of messages that can be added before the oldest is dropped.
+     *
+     * @return the capacity
+     */
+    public int getCapacity() {
+        return slots.length();
+    }
+
+    /**
+     * Returns the number of messages that were overwritten before they were drained.
+     *
+     * @return the number of dropped messages
+     */
+    public long getDroppedCount() {
+        return droppedCount;
+    }
+
+    /**
+     * Returns the number of messages that were collapsed into an equal previous message.
+     *
+     * @return the number of collapsed messages
+     */
+    public long getCollapsedCount() {
+        return collapsedCount;
+    }
+}
@@ -0,0 +1,260 @@
+package control;
+
+import data.Constants;
+import data.Exceptions.CSVWrongFormatException;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.Serial;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.RecursiveTask;
+
+/**
+ * The {@code ParallelBulkQuoter} class calculates the shipping costs of a manifest file on all cores.
+ *
+ * <p>The manifest is memory-mapped and split into chunks that end at line breaks. Every chunk is calculated
+ * by a fork-join task with its own {@link BulkQuoter}, which uses the same tier logic of {@link Calculator}
+ * as the single-threaded path. The results of the chunks are written in the order of the input. Only a
+ * limited number of chunks is calculated ahead, so the memory used does not depend on the size of the file.
+ * A line that does not fit into the read buffer of the single-threaded path is reported as wrong format
+ * as well, so a chunk is at most one buffer longer than the chunk size.</p>
+ */
+public class ParallelBulkQuoter {
+
+    /** default size of a chunk in bytes */
+    public static final int DEFAULT_CHUNK_SIZE = 8 << 20;
+
+    /** number of bytes read at once when searching for the end of a line */
+    private static final int SEARCH_SIZE = 4096;
+
+    /** largest chunk size, so that a chunk with the rest of its last line can still be mapped */
+    public static final int MAX_CHUNK_SIZE = Integer.MAX_VALUE - BulkQuoter.BUFFER_SIZE;
+
+    /** the calculator used for the chunks */
+    private final Calculator calculator;
+
+    /** the size of a chunk in bytes (chunks are extended to the next line break) */
+    private final int chunkSize;
+
+    /** the pool calculating the chunks */
+    private final ForkJoinPool pool;
+
+    /** number of rows and valid rows that were calculated */
+    private long rows;
+    private long validRows;
+
+    /**
+     * Constructs a new parallel bulk quoter that uses the common fork-join pool.
+     *
+     * @param calculator the calculator used for the shipping costs
+     */
+    public ParallelBulkQuoter(Calculator calculator) {
+        this(calculator, DEFAULT_CHUNK_SIZE, ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Constructs a new parallel bulk quoter.
+     *
+     * @param calculator the calculator used for the shipping costs
+     * @param chunkSize the size of a chunk in bytes, from 1 to {@link #MAX_CHUNK_SIZE}
+     * @param pool the pool calculating the chunks
+     * @throws IllegalArgumentException if the chunk size is not positive or too large
+     */
+    public ParallelBulkQuoter(Calculator calculator, int chunkSize, ForkJoinPool pool) {
+        if (chunkSize <= 0 || chunkSize > MAX_CHUNK_SIZE) {
+            throw new IllegalArgumentException(Constants.Exceptions.CHUNK_SIZE + chunkSize);
+        }
+        this.calculator = calculator;
+        this.chunkSize = chunkSize;
+        this.pool = pool;
+    }
+
+    /**
+     * Calculates the shipping costs of all lines of the manifest and writes the result lines in input order.
+     *
+     * @param manifest the path of the manifest
+     * @param output the channel the result lines are written to
+     * @throws IOException if the manifest cannot be read or the output cannot be written
+     * @throws CSVWrongFormatException if the csv file with the shipping costs cannot be found or read
+     */
+    public void quote(Path manifest, WritableByteChannel output) throws IOException, CSVWrongFormatException {
+        try (FileChannel input = FileChannel.open(manifest, StandardOpenOption.READ)) {
+            long size = input.size();
+            int window = 2 * pool.getParallelism();
+            Deque<ForkJoinTask<ChunkResult>> pending = new ArrayDeque<>();
+
+            long start = 0;
+            while (start < size) {
+                long position = Math.min(start + chunkSize, size);
+                long end = lineAlignedEnd(input, position, size, BulkQuoter.BUFFER_SIZE);
+                long next = end;
+                if (end < 0) {
+                    // the line is too long: the chunk ends with its beginning, which is reported, the rest is skipped
+                    end = position + BulkQuoter.BUFFER_SIZE;
+                    next = lineAlignedEnd(input, end, size, Long.MAX_VALUE);
+                }
+                pending.addLast(pool.submit(new ChunkTask(input, start, end)));
+                start = next;
+
+                // write finished chunks in order, so only a window of chunks is held in memory
+                if (pending.size() >= window) {
+                    write(pending.removeFirst(), output);
+                }
+            }
+            while (!pending.isEmpty()) {
+                write(pending.removeFirst(), output);
+            }
+        }
+    }
+
+    /**
+     * Returns the number of rows that were calculated.
+     *
+     * @return the number of rows
+     */
+    public long getRows() {
+        return rows;
+    }
+
+    /**
+     * Returns the number of rows with valid shipping costs.
+     *
+     * @return the number of valid rows
+     */
+    public long getValidRows() {
+        return validRows;
+    }
+
+    /**
+     * Waits for a chunk and writes its result lines.
+     *
+     * @param task the task of the chunk
+     * @param output the channel the result lines are written to
+     * @throws IOException if the chunk cannot be read or the output cannot be written
+     * @throws CSVWrongFormatException if the csv file with the shipping costs cannot be found or read
+     */
+    private void write(ForkJoinTask<ChunkResult> task, WritableByteChannel output) throws IOException, CSVWrongFormatException {
+        ChunkResult result = task.join();
+        if (result.ioError() != null) {
+            throw result.ioError();
+        }
+        if (result.csvError() != null) {
+            throw result.csvError();
+        }
+        result.output().writeTo(Channels.newOutputStream(output));
+        rows += result.rows();
+        validRows += result.validRows();
+    }
+
+    /**
+     * Returns the position after the line break of the line containing the byte before the given position.
+     *
+     * @param input the channel of the manifest
+     * @param position the position to start searching
+     * @param size the size of the manifest
+     * @param maxLength the number of bytes after the position that are searched
+     * @return the position after the line break, the size of the manifest if there is none
+     *         or -1 if there is no line break within the searched bytes
+     * @throws IOException if the manifest cannot be read
+     */
+    private static long lineAlignedEnd(FileChannel input, long position, long size, long maxLength) throws IOException {
+        ByteBuffer search = ByteBuffer.allocate(SEARCH_SIZE);
+        long pos = position;
+        // a chunk always ends after the line break of the line containing its last byte
+        if (pos > 0) {
+            pos--;
+        }
+        long searchEnd = size - pos > maxLength ? pos + maxLength + 1 : size;
+        while (pos < searchEnd) {
+            search.clear();
+            search.limit((int) Math.min(SEARCH_SIZE, searchEnd - pos));
+            int read = input.read(search, pos);
+            if (read <= 0) {
+                break;
+            }
+            int lineStart = BulkQuoter.nextLineStart(search, 0, read);
+            if (lineStart < read || search.get(read - 1) == '\n') {
+                return pos + lineStart;
+            }
+            pos += read;
+        }
+        return searchEnd < size ? -1 : size;
+    }
+
+    /**
+     * The result of a chunk.
+     *
+     * @param output the result lines of the chunk
+     * @param rows the number of rows of the chunk
+     * @param validRows the number of valid rows of the chunk
+     * @param ioError the error reading the chunk or null
+     * @param csvError the error of the shipping costs or null
+     */
+    private record ChunkResult(ByteArrayOutputStream output, long rows, long validRows,
+            IOException ioError, CSVWrongFormatException csvError) {
+    }
+
+    /**
+     * A fork-join task that maps a chunk of the manifest and calculates its lines.
+     */
+    private class ChunkTask extends RecursiveTask<ChunkResult> {
+
+        /** the tasks are never serialized, but the fork-join task is serializable */
+        @Serial
+        private static final long serialVersionUID = 1L;
+
+        /** the channel of the manifest */
+        private final transient FileChannel input;
+
+        /** start and end position of the chunk */
+        private final long start;
+        private final long end;
+
+        /**
+         * Constructs a new chunk task.
+         *
+         * @param input the channel of the manifest
+         * @param start the position of the first byte of the chunk
+         * @param end the position after the last byte of the chunk
+         */
+        ChunkTask(FileChannel input, long start, long end) {
+            this.input = input;
+            this.start = start;
+            this.end = end;
+        }
+
+        /**
+         * Maps the chunk and calculates its lines.
+         *
+         * @return the result of the chunk
+         */
+        @Override
+        protected ChunkResult compute() {
+            ByteArrayOutputStream output = new ByteArrayOutputStream((int) (end - start));
+            // only the first chunk may start with a header line
+            BulkQuoter quoter = new BulkQuoter(calculator, Channels.newChannel(output), start == 0);
+            try {
+                MappedByteBuffer chunk = input.map(FileChannel.MapMode.READ_ONLY, start, end - start);
+                quoter.processLines(chunk, 0, chunk.limit());
+                quoter.finish();
+            }
+            catch (IOException e) {
+                return new ChunkResult(output, 0, 0, e, null);
+            }
+            catch (CSVWrongFormatException e) {
+                return new ChunkResult(output, 0, 0, null, e);
+            }
+            return new ChunkResult(output, quoter.getRows(), quoter.getValidRows(), null, null);
+        }
+    }
+}
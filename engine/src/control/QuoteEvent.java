@@ -0,0 +1,66 @@
+package control;
+
+import data.Constants;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Enabled;
+import jdk.jfr.Event;
+import jdk.jfr.EventType;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * The {@code QuoteEvent} is the flight recorder event of a single quote of the {@link Calculator}.
+ *
+ * <p>A quote takes nanoseconds, even reading the clock would slow it down noticeably. So the event is disabled by default
+ * and only enabled by the settings file {@code misc/jfr/packagecalculator.jfc}. While it is disabled, a quote only
+ * reads the enabled flag of its event type, neither the event is created nor the clock is read.</p>
+ */
+@Name(Constants.Events.QUOTE)
+@Label("Quote")
+@Category({Constants.Events.CATEGORY, "Calculator"})
+@Description("A single packet quoted by the calculator")
+@Enabled(false)
+@StackTrace(false)
+final class QuoteEvent extends Event {
+
+    /** the type of the event, to check if it is enabled before an event is created */
+    private static final EventType TYPE = EventType.getEventType(QuoteEvent.class);
+
+    /** the tier or the negative tier code */
+    @Label("Tier")
+    int tier;
+
+    /** the status of the quote */
+    @Label("Status")
+    String status;
+
+    /**
+     * Creates and begins the event of a quote, if it is enabled in a recording.
+     *
+     * @return the begun event or null if the event is disabled
+     */
+    static QuoteEvent beginIfEnabled() {
+        if (!TYPE.isEnabled()) {
+            return null;
+        }
+        QuoteEvent event = new QuoteEvent();
+        event.begin();
+        return event;
+    }
+
+    /**
+     * Records the event, if it is enabled and exceeds its threshold.
+     *
+     * @param result the result of the quote
+     */
+    void report(QuoteResult result) {
+        if (shouldCommit()) {
+            tier = result.tier();
+            status = result.status().getText();
+            commit();
+        }
+    }
+}
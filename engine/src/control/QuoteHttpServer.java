@@ -0,0 +1,565 @@
+package control;
+
+import data.Constants;
+import data.TariffCache;
+import data.Exceptions.CSVWrongFormatException;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import javax.management.JMException;
+
+/**
+ * The {@code QuoteHttpServer} class serves the shipping costs of the {@link Calculator} over http, e.g. for a shop backend.
+ *
+ * <p>The service only uses {@code com.sun.net.httpserver} of the JDK and handles every request on its own virtual thread.
+ * All requests share one calculator and therefore one tariff held in memory, which is loaded when the service is started.
+ * The endpoint {@code /quote} offers:</p>
+ * <ul>
+ *   <li>{@code GET /quote?length=300&width=200&height=100&weight=500} for a single quote, answered with a JSON object
+ *       like {@code {"tier":0,"costs":3.89,"status":"OK"}}</li>
+ *   <li>{@code POST /quote} with one JSON object per line
+ *       (e.g. {@code {"id":"P1","length":300,"width":200,"height":100,"weight":500}}) for a batch, answered with
+ *       one JSON object per line in the same order</li>
+ * </ul>
+ * <p>Invalid packets are answered with the status of the bulk quoting ({@code NON_POSITIVE}, {@code OUT_OF_BOUNDS},
+ * {@code NO_TIER} or {@code WRONG_FORMAT}) and without tier and costs.</p>
+ *
+ * <p>Small responses are only sent at once if the JVM is started with {@code -Dsun.net.httpserver.nodelay=true},
+ * otherwise they may wait for the delayed acknowledgement of the client. The property applies to every http server of
+ * the JVM, so only {@link #main(String[])} sets it, an application that embeds the service decides itself.</p>
+ */
+public class QuoteHttpServer {
+
+    /** default port of the service */
+    public static final int DEFAULT_PORT = 8080;
+
+    /** maximum size of a batch request in bytes */
+    static final int MAX_BATCH_BYTES = 16 * 1024 * 1024;
+
+    /** tier code of a batch line that cannot be read */
+    private static final int TIER_WRONG_FORMAT = Integer.MIN_VALUE;
+
+    /** http status codes */
+    private static final int HTTP_OK = 200;
+    private static final int HTTP_BAD_REQUEST = 400;
+    private static final int HTTP_METHOD_NOT_ALLOWED = 405;
+    private static final int HTTP_TOO_LARGE = 413;
+    private static final int HTTP_INTERNAL_ERROR = 500;
+
+    /** names of the packet values in queries and JSON objects */
+    private static final String[] VALUE_NAMES = {"length", "width", "height", "weight"};
+
+    /** the calculator shared by all requests */
+    private final Calculator calc;
+
+    /** the http server */
+    private final HttpServer server;
+
+    /** the executor with one virtual thread per request */
+    private final ExecutorService executor;
+
+    /**
+     * Constructs a new service for the given calculator. The service is not started yet.
+     *
+     * @param calc the calculator shared by all requests
+     * @param address the address to listen on, port 0 for any free port
+     * @throws IOException if the address cannot be bound
+     */
+    public QuoteHttpServer(Calculator calc, InetSocketAddress address) throws IOException {
+        this.calc = calc;
+        this.server = HttpServer.create(address, 0);
+        this.executor = Executors.newVirtualThreadPerTaskExecutor();
+        server.setExecutor(executor);
+        server.createContext(Constants.Http.QUOTE_PATH, this::handleQuote);
+    }
+
+    /**
+     * Loads the tariff and starts the service.
+     *
+     * @throws CSVWrongFormatException if the tariff cannot be loaded
+     */
+    public void start() throws CSVWrongFormatException {
+        // load the tariff once, so that no request has to wait for the csv file
+        calc.getTariffCache().getTariff();
+        server.start();
+    }
+
+    /**
+     * Stops the service and waits at most one second for running requests.
+     */
+    public void stop() {
+        server.stop(1);
+        executor.shutdown();
+    }
+
+    /**
+     * Returns the port the service listens on.
+     *
+     * @return the port
+     */
+    public int getPort() {
+        return server.getAddress().getPort();
+    }
+
+    /**
+     * Handles a request of the quoting endpoint.
+     *
+     * @param exchange the request and its response
+     * @throws IOException if the response cannot be sent
+     */
+    private void handleQuote(HttpExchange exchange) throws IOException {
+        try {
+            switch (exchange.getRequestMethod()) {
+                case "GET" -> handleSingleQuote(exchange);
+                case "POST" -> handleBatchQuote(exchange);
+                default -> sendError(exchange, HTTP_METHOD_NOT_ALLOWED, Constants.Http.ERROR_METHOD);
+            }
+        }
+        catch (CSVWrongFormatException e) {
+            sendError(exchange, HTTP_INTERNAL_ERROR, Constants.Http.ERROR_TARIFF);
+        }
+        finally {
+            exchange.close();
+        }
+    }
+
+    /**
+     * Answers a single quote with the packet values of the query.
+     *
+     * @param exchange the request and its response
+     * @throws IOException if the response cannot be sent
+     * @throws CSVWrongFormatException if the tariff cannot be loaded
+     */
+    private void handleSingleQuote(HttpExchange exchange) throws IOException, CSVWrongFormatException {
+        int[] values = new int[VALUE_NAMES.length];
+        boolean[] found = new boolean[VALUE_NAMES.length];
+        String query = exchange.getRequestURI().getRawQuery();
+        if (query != null) {
+            for (String parameter : query.split("&")) {
+                int separator = parameter.indexOf('=');
+                int index = separator < 0 ? -1 : indexOfValue(parameter.substring(0, separator));
+                if (index >= 0) {
+                    try {
+                        values[index] = Integer.parseInt(parameter.substring(separator + 1));
+                        found[index] = true;
+                    } catch (NumberFormatException e) {
+                        // reported as missing parameter below
+                    }
+                }
+            }
+        }
+        for (int i = 0; i < VALUE_NAMES.length; i++) {
+            if (!found[i]) {
+                sendError(exchange, HTTP_BAD_REQUEST, String.format(Constants.Http.ERROR_PARAMETER, VALUE_NAMES[i]));
+                return;
+            }
+        }
+
+        QuoteResult result = calc.quote(values[0], values[1], values[2], values[3]);
+
+        StringBuilder json = new StringBuilder(64);
+        appendResult(json, null, result.tier(), result.shippingCostsCents());
+        send(exchange, HTTP_OK, Constants.Http.CONTENT_TYPE_JSON, json);
+    }
+
+    /**
+     * Answers a batch of packets given as one JSON object per line.
+     * All valid lines are calculated with one call of the batch calculation.
+     *
+     * @param exchange the request and its response
+     * @throws IOException if the request cannot be read or the response cannot be sent
+     * @throws CSVWrongFormatException if the tariff cannot be loaded
+     */
+    private void handleBatchQuote(HttpExchange exchange) throws IOException, CSVWrongFormatException {
+        byte[] body;
+        try (InputStream input = exchange.getRequestBody()) {
+            body = input.readNBytes(MAX_BATCH_BYTES + 1);
+        }
+        if (body.length > MAX_BATCH_BYTES) {
+            sendError(exchange, HTTP_TOO_LARGE, Constants.Http.ERROR_TOO_LARGE);
+            return;
+        }
+        String[] lines = new String(body, StandardCharsets.UTF_8).split("\n");
+
+        // read all lines, only the readable ones go into the value arrays of the batch
+        int rows = 0;
+        int batchValues = 0;
+        String[] ids = new String[lines.length];
+        int[] valueIndexes = new int[lines.length];
+        int[][] values = new int[VALUE_NAMES.length][lines.length];
+        int[] row = new int[VALUE_NAMES.length];
+        for (String line : lines) {
+            if (line.isBlank()) {
+                continue;
+            }
+            JsonLine json = new JsonLine(line);
+            boolean readable = json.read(row);
+            ids[rows] = json.id;
+            if (readable) {
+                for (int i = 0; i < VALUE_NAMES.length; i++) {
+                    values[i][batchValues] = row[i];
+                }
+                valueIndexes[rows] = batchValues++;
+            }
+            else {
+                valueIndexes[rows] = -1;
+            }
+            rows++;
+        }
+
+        int[] tiers = new int[batchValues];
+        long[] costs = new long[batchValues];
+        if (batchValues > 0) {
+            calc.calcShippingCosts(values[0], values[1], values[2], values[3], 0, batchValues, tiers, costs);
+        }
+
+        StringBuilder jsonLines = new StringBuilder(rows * 64);
+        for (int i = 0; i < rows; i++) {
+            int index = valueIndexes[i];
+            if (index < 0) {
+                appendResult(jsonLines, ids[i], TIER_WRONG_FORMAT, 0);
+            }
+            else {
+                appendResult(jsonLines, ids[i], tiers[index], costs[index]);
+            }
+            jsonLines.append('\n');
+        }
+        send(exchange, HTTP_OK, Constants.Http.CONTENT_TYPE_JSON_LINES, jsonLines);
+    }
+
+    /**
+     * Returns the index of a packet value by its name.
+     *
+     * @param name the name of the value
+     * @return the index in {@link #VALUE_NAMES} or -1 if the name is unknown
+     */
+    private static int indexOfValue(String name) {
+        for (int i = 0; i < VALUE_NAMES.length; i++) {
+            if (VALUE_NAMES[i].equals(name)) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Appends the result of a packet as JSON object.
+     *
+     * @param json the builder of the response
+     * @param id the id of the packet or null
+     * @param tier the tier or tier code of the packet
+     * @param cents the shipping costs in euro cents
+     */
+    private static void appendResult(StringBuilder json, String id, int tier, long cents) {
+        json.append('{');
+        if (id != null) {
+            json.append("\"id\":");
+            appendString(json, id);
+            json.append(',');
+        }
+        if (tier >= 0) {
+            json.append("\"tier\":").append(tier)
+                .append(",\"costs\":").append(cents / 100).append('.').append((cents / 10) % 10).append(cents % 10)
+                .append(",\"status\":\"").append(QuoteStatus.OK.getText()).append('"');
+        }
+        else {
+            String status = tier == TIER_WRONG_FORMAT ? Constants.Bulk.STATUS_WRONG_FORMAT : QuoteStatus.ofTier(tier).getText();
+            json.append("\"tier\":null,\"costs\":null,\"status\":\"").append(status).append('"');
+        }
+        json.append('}');
+    }
+
+    /**
+     * Appends a text as JSON string.
+     *
+     * @param json the builder of the response
+     * @param text the text
+     */
+    private static void appendString(StringBuilder json, String text) {
+        json.append('"');
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            if (c == '"' || c == '\\') {
+                json.append('\\').append(c);
+            }
+            else if (c < 0x20) {
+                json.append(String.format("\\u%04x", (int) c));
+            }
+            else {
+                json.append(c);
+            }
+        }
+        json.append('"');
+    }
+
+    /**
+     * Sends an error as JSON object like {@code {"error":"..."}}.
+     *
+     * @param exchange the request and its response
+     * @param status the http status code
+     * @param message the error message
+     * @throws IOException if the response cannot be sent
+     */
+    private static void sendError(HttpExchange exchange, int status, String message) throws IOException {
+        StringBuilder json = new StringBuilder("{\"error\":");
+        appendString(json, message);
+        json.append('}');
+        send(exchange, status, Constants.Http.CONTENT_TYPE_JSON, json);
+    }
+
+    /**
+     * Sends a response with a fixed length.
+     *
+     * @param exchange the request and its response
+     * @param status the http status code
+     * @param contentType the content type of the response
+     * @param content the content of the response
+     * @throws IOException if the response cannot be sent
+     */
+    private static void send(HttpExchange exchange, int status, String contentType, CharSequence content) throws IOException {
+        byte[] bytes = content.toString().getBytes(StandardCharsets.UTF_8);
+        exchange.getResponseHeaders().set("Content-Type", contentType);
+        exchange.sendResponseHeaders(status, bytes.length);
+        try (OutputStream output = exchange.getResponseBody()) {
+            output.write(bytes);
+        }
+    }
+
+    /**
+     * A reader for a flat JSON object of a batch line with a string {@code id} and the integer packet values.
+     * Other fields are skipped, nested objects and arrays are not supported.
+     */
+    private static final class JsonLine {
+
+        /** the line */
+        private final String line;
+
+        /** the position of the next character */
+        private int position;
+
+        /** the id of the packet or null */
+        private String id;
+
+        /**
+         * Constructs a reader for a line.
+         *
+         * @param line the line with one JSON object
+         */
+        private JsonLine(String line) {
+            this.line = line;
+        }
+
+        /**
+         * Reads the packet values of the line.
+         *
+         * @param values the array for the values in the order of {@link #VALUE_NAMES}, values not found are 0
+         * @return true if the line is a JSON object with all packet values as integers
+         */
+        private boolean read(int[] values) {
+            Arrays.fill(values, 0);
+            int found = 0;
+            if (!consume('{')) {
+                return false;
+            }
+            if (consume('}')) {
+                return false;
+            }
+            do {
+                String name = readString();
+                if (name == null || !consume(':')) {
+                    return false;
+                }
+                int index = indexOfValue(name);
+                skipWhitespace();
+                if (index >= 0) {
+                    Integer value = readInt();
+                    if (value == null) {
+                        return false;
+                    }
+                    values[index] = value;
+                    found |= 1 << index;
+                }
+                else if (name.equals("id") && position < line.length() && line.charAt(position) == '"') {
+                    id = readString();
+                }
+                else if (!skipValue()) {
+                    return false;
+                }
+            } while (consume(','));
+            return consume('}') && found == (1 << VALUE_NAMES.length) - 1;
+        }
+
+        /**
+         * Skips whitespace and consumes the given character.
+         *
+         * @param c the expected character
+         * @return true if the character was found
+         */
+        private boolean consume(char c) {
+            skipWhitespace();
+            if (position < line.length() && line.charAt(position) == c) {
+                position++;
+                return true;
+            }
+            return false;
+        }
+
+        /**
+         * Skips spaces, tabs and carriage returns.
+         */
+        private void skipWhitespace() {
+            while (position < line.length() && Character.isWhitespace(line.charAt(position))) {
+                position++;
+            }
+        }
+
+        /**
+         * Reads a JSON string.
+         *
+         * @return the string or null if there is no valid string
+         */
+        private String readString() {
+            if (!consume('"')) {
+                return null;
+            }
+            StringBuilder text = new StringBuilder();
+            while (position < line.length()) {
+                char c = line.charAt(position++);
+                if (c == '"') {
+                    return text.toString();
+                }
+                if (c == '\\') {
+                    if (position >= line.length()) {
+                        return null;
+                    }
+                    c = line.charAt(position++);
+                    switch (c) {
+                        case 'n' -> text.append('\n');
+                        case 't' -> text.append('\t');
+                        case 'r' -> text.append('\r');
+                        case 'b' -> text.append('\b');
+                        case 'f' -> text.append('\f');
+                        case 'u' -> {
+                            if (position + 4 > line.length()) {
+                                return null;
+                            }
+                            try {
+                                text.append((char) Integer.parseInt(line.substring(position, position + 4), 16));
+                            } catch (NumberFormatException e) {
+                                return null;
+                            }
+                            position += 4;
+                        }
+                        default -> text.append(c);
+                    }
+                }
+                else {
+                    text.append(c);
+                }
+            }
+            return null;
+        }
+
+        /**
+         * Reads a JSON integer.
+         *
+         * @return the integer or null if there is no integer that fits into an int
+         */
+        private Integer readInt() {
+            int start = position;
+            if (position < line.length() && line.charAt(position) == '-') {
+                position++;
+            }
+            while (position < line.length() && Character.isDigit(line.charAt(position))) {
+                position++;
+            }
+            try {
+                return Integer.parseInt(line, start, position, 10);
+            } catch (NumberFormatException e) {
+                return null;
+            }
+        }
+
+        /**
+         * Skips a JSON string, number or literal.
+         *
+         * @return true if a value was skipped
+         */
+        private boolean skipValue() {
+            if (position < line.length() && line.charAt(position) == '"') {
+                return readString() != null;
+            }
+            int start = position;
+            while (position < line.length() && ",}".indexOf(line.charAt(position)) < 0
+                    && !Character.isWhitespace(line.charAt(position))) {
+                position++;
+            }
+            return position > start;
+        }
+    }
+
+    /**
+     * Registers the metrics of the service at the platform MBean server. The service also runs without them.
+     *
+     * @param metrics the metrics of the service
+     */
+    private static void registerMetrics(QuoteMetrics metrics) {
+        try {
+            metrics.register(Constants.Http.METRICS_NAME);
+        }
+        catch (JMException e) {
+            System.err.printf(Constants.Metrics.REGISTER_FAILED, e.getMessage());
+        }
+    }
+
+    /**
+     * Starts the quoting service with the default shipping costs file.
+     *
+     * @param args the optional port (default {@value #DEFAULT_PORT})
+     */
+    public static void main(String[] args) {
+        int port = DEFAULT_PORT;
+        try {
+            if (args.length > 1) {
+                throw new NumberFormatException();
+            }
+            if (args.length == 1) {
+                port = Integer.parseInt(args[0]);
+            }
+        } catch (NumberFormatException e) {
+            System.err.println(Constants.Http.USAGE);
+            System.exit(2);
+        }
+
+        // send small responses at once instead of waiting for the delayed acknowledgement of the client,
+        // the JDK reads this property when the first http server of the JVM is created
+        if (System.getProperty(Constants.Http.NODELAY_PROPERTY) == null) {
+            System.setProperty(Constants.Http.NODELAY_PROPERTY, Boolean.TRUE.toString());
+        }
+
+        try {
+            TariffCache tariffCache = TariffCache.getDefault();
+            QuoteMetrics metrics = new QuoteMetrics(tariffCache);
+            Calculator calc = new Calculator(tariffCache, null, metrics);
+            QuoteHttpServer quoteServer = new QuoteHttpServer(calc, new InetSocketAddress(port));
+            quoteServer.start();
+            System.out.printf(Constants.Http.LISTENING, quoteServer.getPort());
+
+            // the platform MBean server takes longer to start than the service, the metrics count from the start anyway
+            Thread.ofVirtual().name("metrics-register").start(() -> registerMetrics(metrics));
+        }
+        catch (IOException | CSVWrongFormatException e) {
+            System.err.println(Constants.Messages.ERROR_PREFIX + e.getMessage());
+            System.exit(1);
+        }
+    }
+}
@@ -0,0 +1,273 @@
+package control;
+
+import data.Tariff;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * The {@code QuoteMemo} class remembers the tiers of already calculated packets, so that packets with the same
+ * dimensions and weight are not calculated again. It is an optional layer of the {@link Calculator}.
+ *
+ * <p>The sorted dimensions and the weight of a packet are packed into one {@code long} key (length 14 bits,
+ * width 13 bits, height 12 bits, weight 17 bits), the tier is stored in the remaining 8 bits of the same {@code long}.
+ * The entries are kept in an open addressing table of primitive longs, so a lookup creates no objects and an entry
+ * is always read and written as a whole. A key is searched in a small window of slots after its hash slot.
+ * If the window is full, an entry is evicted with the CLOCK algorithm: entries that were hit since the last eviction
+ * get a second chance. Packets whose values do not fit into the key are calculated without the memo.</p>
+ *
+ * <p>The memo can be used by many threads at once. Readers never block, a concurrent write may only cause
+ * a packet to be calculated again. The memo belongs to one tariff, if the calculator passes another tariff
+ * (e.g. after the tariff file was reloaded) all entries are dropped.</p>
+ */
+public class QuoteMemo {
+
+    /** default number of entries */
+    public static final int DEFAULT_CAPACITY = 4096;
+
+    /** number of slots searched for a key */
+    private static final int PROBE_WINDOW = 8;
+
+    /** bit sizes of the values in the key */
+    private static final int LENGTH_BITS = 14;
+    private static final int WIDTH_BITS = 13;
+    private static final int HEIGHT_BITS = 12;
+    private static final int WEIGHT_BITS = 17;
+    private static final int TIER_BITS = 8;
+
+    /** offset of the stored tier, so that all tier codes are positive and 0 stands for an empty slot */
+    private static final int TIER_OFFSET = 4;
+
+    /** mask of the key bits of an entry */
+    private static final long KEY_MASK = -1L << TIER_BITS;
+
+    /** number of slots of the table */
+    private final int capacity;
+
+    /** the current table, replaced as a whole when the tariff changes */
+    private volatile Table table;
+
+    /** number of lookups that were answered by the memo */
+    private final LongAdder hits = new LongAdder();
+
+    /** number of lookups that had to be calculated */
+    private final LongAdder misses = new LongAdder();
+
+    /** number of entries that were evicted */
+    private final LongAdder evictions = new LongAdder();
+
+    /**
+     * Constructs a memo with the default capacity.
+     */
+    public QuoteMemo() {
+        this(DEFAULT_CAPACITY);
+    }
+
+    /**
+     * Constructs a memo with the given capacity.
+     *
+     * @param capacity the maximum number of entries, rounded up to a power of two
+     * @throws IllegalArgumentException if the capacity is not positive or larger than 2^30
+     */
+    public QuoteMemo(int capacity) {
+        if (capacity <= 0 || capacity > 1 << 30) {
+            throw new IllegalArgumentException("capacity: " + capacity);
+        }
+        this.capacity = Math.max(PROBE_WINDOW, Integer.highestOneBit(capacity - 1) << 1);
+        this.table = new Table(null, this.capacity);
+    }
+
+    /**
+     * Returns the tier of a packet from the memo or calculates and remembers it.
+     * The dimensions have to be sorted (length >= width >= height).
+     *
+     * @param tariff the tariff with the limits and tiers
+     * @param length the largest dimension of the packet (in mm)
+     * @param width the middle dimension of the packet (in mm)
+     * @param height the smallest dimension of the packet (in mm)
+     * @param weight the weight of the packet (in g)
+     * @return the tier index or a negative tier code of the {@link Calculator} if the packet is invalid
+     */
+    int tier(Tariff tariff, int length, int width, int height, int weight) {
+        // packets that do not fit into the key are calculated directly
+        if (!fitsKey(length, width, height, weight)) {
+            misses.increment();
+            return Calculator.calcTier(tariff, length, width, height, weight);
+        }
+
+        Table current = table;
+        if (current.tariff != tariff) {
+            // the tariff changed, start with an empty table
+            current = new Table(tariff, capacity);
+            table = current;
+        }
+
+        long key = ((long) length << (WIDTH_BITS + HEIGHT_BITS + WEIGHT_BITS + TIER_BITS))
+            | ((long) width << (HEIGHT_BITS + WEIGHT_BITS + TIER_BITS))
+            | ((long) height << (WEIGHT_BITS + TIER_BITS))
+            | ((long) weight << TIER_BITS);
+        int start = hash(key) & (capacity - 1);
+
+        // search the window of the key
+        for (int i = 0; i < PROBE_WINDOW; i++) {
+            int slot = (start + i) & (capacity - 1);
+            long entry = current.entries.get(slot);
+            if ((entry & KEY_MASK) == key) {
+                current.referenced[slot] = 1;
+                hits.increment();
+                return (int) (entry & ~KEY_MASK) - TIER_OFFSET;
+            }
+            if (entry == 0) {
+                break;
+            }
+        }
+
+        misses.increment();
+        int tier = Calculator.calcTier(tariff, length, width, height, weight);
+        current.put(start, key | (tier + TIER_OFFSET));
+        return tier;
+    }
+
+    /**
+     * Drops all entries. The statistics are kept.
+     */
+    public void clear() {
+        table = new Table(null, capacity);
+    }
+
+    /**
+     * Returns the maximum number of entries.
+     *
+     * @return the number of slots of the table
+     */
+    public int getCapacity() {
+        return capacity;
+    }
+
+    /**
+     * Returns the number of lookups that were answered by the memo.
+     *
+     * @return the number of hits
+     */
+    public long getHits() {
+        return hits.sum();
+    }
+
+    /**
+     * Returns the number of lookups that had to be calculated.
+     *
+     * @return the number of misses
+     */
+    public long getMisses() {
+        return misses.sum();
+    }
+
+    /**
+     * Returns the number of entries that were evicted to make room for new entries.
+     *
+     * @return the number of evictions
+     */
+    public long getEvictions() {
+        return evictions.sum();
+    }
+
+    /**
+     * Returns the share of lookups that were answered by the memo.
+     *
+     * @return the hit rate between 0 and 1, or 0 if there was no lookup yet
+     */
+    public double getHitRate() {
+        long hitCount = hits.sum();
+        long total = hitCount + misses.sum();
+        return total == 0 ? 0 : (double) hitCount / total;
+    }
+
+    /**
+     * Checks if the values of a packet fit into a key.
+     *
+     * @param length the largest dimension of the packet
+     * @param width the middle dimension of the packet
+     * @param height the smallest dimension of the packet
+     * @param weight the weight of the packet
+     * @return true if all values are positive and fit into their bits
+     */
+    private static boolean fitsKey(int length, int width, int height, int weight) {
+        return length > 0 && width > 0 && height > 0 && weight > 0
+            && length < 1 << LENGTH_BITS && width < 1 << WIDTH_BITS && height < 1 << HEIGHT_BITS
+            && weight < 1 << WEIGHT_BITS;
+    }
+
+    /**
+     * Spreads the bits of a key, so that similar packets get different slots.
+     *
+     * @param key the key of a packet
+     * @return the hash of the key
+     */
+    private static int hash(long key) {
+        long h = key * 0x9E3779B97F4A7C15L;
+        return (int) (h ^ (h >>> 32));
+    }
+
+    /**
+     * The entries of the memo for one tariff.
+     */
+    private final class Table {
+
+        /** the tariff the entries were calculated with */
+        private final Tariff tariff;
+
+        /** the entries (key and tier), 0 for an empty slot */
+        private final AtomicLongArray entries;
+
+        /** the CLOCK reference bits, set on a hit and cleared when the entry gets its second chance */
+        private final byte[] referenced;
+
+        /**
+         * Constructs an empty table.
+         *
+         * @param tariff the tariff the entries are calculated with
+         * @param capacity the number of slots
+         */
+        private Table(Tariff tariff, int capacity) {
+            this.tariff = tariff;
+            this.entries = new AtomicLongArray(capacity);
+            this.referenced = new byte[capacity];
+        }
+
+        /**
+         * Stores an entry in the window of its key, in an empty slot or in place of an evicted entry.
+         * The reference bits are only a hint, so lost updates of concurrent threads do no harm.
+         *
+         * @param start the first slot of the window
+         * @param entry the entry to store
+         */
+        private void put(int start, long entry) {
+            int mask = capacity - 1;
+            int victim = start;
+            boolean found = false;
+            for (int i = 0; i < PROBE_WINDOW && !found; i++) {
+                int slot = (start + i) & mask;
+                long current = entries.get(slot);
+                if (current == 0) {
+                    // an empty slot, unless another thread was faster
+                    if (entries.compareAndSet(slot, 0, entry)) {
+                        return;
+                    }
+                }
+                else if (referenced[slot] == 0) {
+                    // the first entry without a hit since its last chance is evicted
+                    victim = slot;
+                    found = true;
+                }
+                else {
+                    // give the entry a second chance
+                    referenced[slot] = 0;
+                }
+            }
+            // if all entries had a second chance, the first one of the window is evicted
+            entries.set(victim, entry);
+            referenced[victim] = 0;
+            evictions.increment();
+        }
+    }
+}
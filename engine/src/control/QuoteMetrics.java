@@ -0,0 +1,410 @@
+package control;
+
+import data.Constants;
+import data.Tariff;
+import data.TariffCache;
+
+import java.lang.management.ManagementFactory;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+import javax.management.JMException;
+import javax.management.ObjectName;
+
+/**
+ * The {@code QuoteMetrics} class counts the quotes of a {@link Calculator} per tier and per reason of rejection and
+ * measures the latency of single quotes, from the call of the calculator until the result is ready, including getting
+ * the tariff. The loads of the tariff are taken from the {@link TariffCache}.
+ *
+ * <p>All counters are {@link LongAdder}s, so many threads can record quotes at once without contention.
+ * The latencies are counted in a histogram with logarithmic buckets like the HdrHistogram: every power of two is split
+ * into {@value #SUB_BUCKETS} linear sub-buckets, so a percentile is exact to 1/{@value #SUB_BUCKETS} of its value
+ * for any latency from nanoseconds to hours with a fixed number of buckets.</p>
+ *
+ * <p>The metrics are read with {@link #snapshot()} or, after {@link #register(String)}, with any JMX tool through
+ * the platform MBean server.</p>
+ */
+public class QuoteMetrics implements QuoteMetricsMXBean {
+
+    /** number of bits of the sub-bucket of a latency */
+    private static final int SUB_BUCKET_BITS = 3;
+
+    /** number of linear sub-buckets per power of two */
+    private static final int SUB_BUCKETS = 1 << SUB_BUCKET_BITS;
+
+    /** number of latency buckets, enough for every positive long */
+    public static final int LATENCY_BUCKETS = (Long.SIZE - SUB_BUCKET_BITS) * SUB_BUCKETS;
+
+    /**
+     * A copy of the metrics, taken by {@link QuoteMetrics#snapshot()}.
+     *
+     * @param tierCounts the number of packets per tier index, up to the highest tier that was quoted
+     * @param nonPositiveCount the number of packets with negative values or zeros
+     * @param outOfBoundsCount the number of packets whose dimensions or weight are out of bounds
+     * @param noTierCount the number of packets that do not fit into any tier
+     * @param reloadCount the number of successful loads of the tariff
+     * @param reloadFailureCount the number of failed loads of the tariff
+     * @param lastReloadNanos the duration of the last load of the tariff in nanoseconds
+     * @param totalReloadNanos the total duration of all loads of the tariff in nanoseconds
+     * @param latencyCounts the number of single quotes per latency bucket
+     * @param latencyMaxNanos the highest latency of a single quote in nanoseconds
+     */
+    public record Snapshot(long[] tierCounts, long nonPositiveCount, long outOfBoundsCount, long noTierCount,
+            long reloadCount, long reloadFailureCount, long lastReloadNanos, long totalReloadNanos,
+            long[] latencyCounts, long latencyMaxNanos) {
+
+        /**
+         * Returns the number of quoted packets, valid and rejected.
+         *
+         * @return the number of quotes
+         */
+        public long quoteCount() {
+            long count = nonPositiveCount + outOfBoundsCount + noTierCount;
+            for (long tierCount : tierCounts) {
+                count += tierCount;
+            }
+            return count;
+        }
+
+        /**
+         * Returns the number of single quotes whose latency was measured.
+         *
+         * @return the number of measured quotes
+         */
+        public long latencyCount() {
+            long count = 0;
+            for (long bucketCount : latencyCounts) {
+                count += bucketCount;
+            }
+            return count;
+        }
+
+        /**
+         * Returns a percentile of the latency of the single quotes.
+         *
+         * @param percentile the percentile between 0 and 100, e.g. 99.9
+         * @return the upper bound of the bucket of the percentile in nanoseconds or 0 if no quote was measured
+         */
+        public long latencyPercentileNanos(double percentile) {
+            long count = latencyCount();
+            if (count == 0) {
+                return 0;
+            }
+            // the rank of the quote at the percentile, at least the first one
+            long rank = Math.max(1, (long) Math.ceil(percentile / 100 * count));
+            long seen = 0;
+            for (int i = 0; i < latencyCounts.length; i++) {
+                seen += latencyCounts[i];
+                if (seen >= rank) {
+                    return Math.min(bucketUpperBound(i), latencyMaxNanos);
+                }
+            }
+            return latencyMaxNanos;
+        }
+    }
+
+    /** the cache whose loads are reported */
+    private final TariffCache tariffCache;
+
+    /** number of packets per tier index */
+    private final LongAdder[] tierCounts = newAdders(Tariff.MAX_TIERS);
+
+    /** number of packets with negative values or zeros */
+    private final LongAdder nonPositiveCount = new LongAdder();
+
+    /** number of packets whose dimensions or weight are out of bounds */
+    private final LongAdder outOfBoundsCount = new LongAdder();
+
+    /** number of packets that do not fit into any tier */
+    private final LongAdder noTierCount = new LongAdder();
+
+    /** number of single quotes per latency bucket */
+    private final LongAdder[] latencyCounts = newAdders(LATENCY_BUCKETS);
+
+    /** highest latency of a single quote */
+    private final LongAccumulator latencyMax = new LongAccumulator(Math::max, 0);
+
+    /**
+     * Constructs the metrics of the calculators using the given cache.
+     *
+     * @param tariffCache the cache whose loads are reported
+     */
+    public QuoteMetrics(TariffCache tariffCache) {
+        this.tariffCache = tariffCache;
+    }
+
+    /**
+     * Records a single quote.
+     *
+     * @param tier the tier index or a negative tier code of the {@link Calculator}
+     * @param nanos the latency of the whole quote in nanoseconds
+     */
+    void record(int tier, long nanos) {
+        recordTier(tier);
+        long latency = Math.max(0, nanos);
+        latencyCounts[bucketIndex(latency)].increment();
+        latencyMax.accumulate(latency);
+    }
+
+    /**
+     * Records a quoted packet without its latency, e.g. a row of a batch.
+     *
+     * @param tier the tier index or a negative tier code of the {@link Calculator}
+     */
+    void recordTier(int tier) {
+        if (tier >= 0) {
+            tierCounts[tier].increment();
+        }
+        else if (tier == Calculator.TIER_NON_POSITIVE) {
+            nonPositiveCount.increment();
+        }
+        else if (tier == Calculator.TIER_OUT_OF_BOUNDS) {
+            outOfBoundsCount.increment();
+        }
+        else {
+            noTierCount.increment();
+        }
+    }
+
+    /**
+     * Returns a copy of all metrics. The counters are read one after another, quotes recorded at the same time
+     * may be missing in some of them.
+     *
+     * @return the snapshot of the metrics
+     */
+    public Snapshot snapshot() {
+        // only report the tiers up to the highest tier that was quoted
+        int tiers = tierCounts.length;
+        while (tiers > 0 && tierCounts[tiers - 1].sum() == 0) {
+            tiers--;
+        }
+        long[] tierSums = new long[tiers];
+        for (int i = 0; i < tiers; i++) {
+            tierSums[i] = tierCounts[i].sum();
+        }
+        long[] latencySums = new long[LATENCY_BUCKETS];
+        for (int i = 0; i < LATENCY_BUCKETS; i++) {
+            latencySums[i] = latencyCounts[i].sum();
+        }
+        return new Snapshot(tierSums, nonPositiveCount.sum(), outOfBoundsCount.sum(), noTierCount.sum(),
+            tariffCache.getReloadCount(), tariffCache.getReloadFailureCount(),
+            tariffCache.getLastReloadNanos(), tariffCache.getTotalReloadNanos(),
+            latencySums, latencyMax.get());
+    }
+
+    /**
+     * Registers the metrics at the platform MBean server.
+     *
+     * @param name the name of the metrics, e.g. the name of the service
+     * @return the object name the metrics are registered with
+     * @throws JMException if the name is invalid or already registered
+     */
+    public ObjectName register(String name) throws JMException {
+        ObjectName objectName = new ObjectName(String.format(Constants.Metrics.OBJECT_NAME, name));
+        ManagementFactory.getPlatformMBeanServer().registerMBean(this, objectName);
+        return objectName;
+    }
+
+    /**
+     * Removes the metrics from the platform MBean server.
+     *
+     * @param name the name the metrics were registered with
+     * @throws JMException if the name is invalid or not registered
+     */
+    public void unregister(String name) throws JMException {
+        ManagementFactory.getPlatformMBeanServer()
+            .unregisterMBean(new ObjectName(String.format(Constants.Metrics.OBJECT_NAME, name)));
+    }
+
+    /**
+     * Returns the number of quoted packets, valid and rejected.
+     *
+     * @return the number of quotes
+     */
+    @Override
+    public long getQuoteCount() {
+        return snapshot().quoteCount();
+    }
+
+    /**
+     * Returns the number of packets per tier, up to the highest tier that was quoted.
+     *
+     * @return one count per tier index
+     */
+    @Override
+    public long[] getTierCounts() {
+        return snapshot().tierCounts();
+    }
+
+    /**
+     * Returns the number of packets with negative values or zeros.
+     *
+     * @return the number of rejected packets
+     */
+    @Override
+    public long getNonPositiveCount() {
+        return nonPositiveCount.sum();
+    }
+
+    /**
+     * Returns the number of packets whose dimensions or weight are out of bounds.
+     *
+     * @return the number of rejected packets
+     */
+    @Override
+    public long getOutOfBoundsCount() {
+        return outOfBoundsCount.sum();
+    }
+
+    /**
+     * Returns the number of packets that do not fit into any tier.
+     *
+     * @return the number of rejected packets
+     */
+    @Override
+    public long getNoTierCount() {
+        return noTierCount.sum();
+    }
+
+    /**
+     * Returns the number of successful loads of the tariff cache.
+     *
+     * @return the number of loads
+     */
+    @Override
+    public long getReloadCount() {
+        return tariffCache.getReloadCount();
+    }
+
+    /**
+     * Returns the number of failed loads of the tariff cache.
+     *
+     * @return the number of failed loads
+     */
+    @Override
+    public long getReloadFailureCount() {
+        return tariffCache.getReloadFailureCount();
+    }
+
+    /**
+     * Returns the duration of the last load of the tariff cache.
+     *
+     * @return the duration in nanoseconds
+     */
+    @Override
+    public long getLastReloadNanos() {
+        return tariffCache.getLastReloadNanos();
+    }
+
+    /**
+     * Returns the total duration of all loads of the tariff cache.
+     *
+     * @return the duration in nanoseconds
+     */
+    @Override
+    public long getTotalReloadNanos() {
+        return tariffCache.getTotalReloadNanos();
+    }
+
+    /**
+     * Returns the median latency of the single quotes.
+     *
+     * @return the upper bound of the latency bucket in nanoseconds
+     */
+    @Override
+    public long getLatencyP50Nanos() {
+        return snapshot().latencyPercentileNanos(50);
+    }
+
+    /**
+     * Returns the 99th percentile of the latency of the single quotes.
+     *
+     * @return the upper bound of the latency bucket in nanoseconds
+     */
+    @Override
+    public long getLatencyP99Nanos() {
+        return snapshot().latencyPercentileNanos(99);
+    }
+
+    /**
+     * Returns the 99.9th percentile of the latency of the single quotes.
+     *
+     * @return the upper bound of the latency bucket in nanoseconds
+     */
+    @Override
+    public long getLatencyP999Nanos() {
+        return snapshot().latencyPercentileNanos(99.9);
+    }
+
+    /**
+     * Returns the highest latency of the single quotes.
+     *
+     * @return the latency in nanoseconds
+     */
+    @Override
+    public long getLatencyMaxNanos() {
+        return latencyMax.get();
+    }
+
+    /**
+     * Resets the quote counters and the latency histogram. The loads of the tariff cache are not reset.
+     */
+    @Override
+    public void reset() {
+        for (LongAdder tierCount : tierCounts) {
+            tierCount.reset();
+        }
+        nonPositiveCount.reset();
+        outOfBoundsCount.reset();
+        noTierCount.reset();
+        for (LongAdder latencyCount : latencyCounts) {
+            latencyCount.reset();
+        }
+        latencyMax.reset();
+    }
+
+    /**
+     * Returns the index of the latency bucket of a value.
+     * Values below {@value #SUB_BUCKETS} have their own bucket, larger values share a bucket with all values
+     * of the same power of two and the same {@value #SUB_BUCKET_BITS} following bits.
+     *
+     * @param nanos the latency in nanoseconds, not negative
+     * @return the index of the bucket
+     */
+    public static int bucketIndex(long nanos) {
+        if (nanos < SUB_BUCKETS) {
+            return (int) nanos;
+        }
+        int exponent = Long.SIZE - 1 - Long.numberOfLeadingZeros(nanos);
+        int subBucket = (int) (nanos >>> (exponent - SUB_BUCKET_BITS)) & (SUB_BUCKETS - 1);
+        return (exponent - SUB_BUCKET_BITS + 1) * SUB_BUCKETS + subBucket;
+    }
+
+    /**
+     * Returns the highest value of a latency bucket.
+     *
+     * @param index the index of the bucket
+     * @return the highest latency of the bucket in nanoseconds
+     */
+    public static long bucketUpperBound(int index) {
+        if (index < SUB_BUCKETS) {
+            return index;
+        }
+        int shift = index / SUB_BUCKETS - 1;
+        long lower = (long) (SUB_BUCKETS + index % SUB_BUCKETS) << shift;
+        return lower + (1L << shift) - 1;
+    }
+
+    /**
+     * Creates an array of counters.
+     *
+     * @param size the number of counters
+     * @return the array of new counters
+     */
+    private static LongAdder[] newAdders(int size) {
+        LongAdder[] adders = new LongAdder[size];
+        for (int i = 0; i < size; i++) {
+            adders[i] = new LongAdder();
+        }
+        return adders;
+    }
+}
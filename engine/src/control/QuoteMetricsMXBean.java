@@ -0,0 +1,107 @@
+package control;
+
+/**
+ * The {@code QuoteMetricsMXBean} interface is the management interface of the {@link QuoteMetrics}.
+ * It can be read with standard JMX tools like JConsole or VisualVM.
+ *
+ * @see QuoteMetrics#register(String)
+ */
+public interface QuoteMetricsMXBean {
+
+    /**
+     * Returns the number of quoted packets, valid and rejected.
+     *
+     * @return the number of quotes
+     */
+    long getQuoteCount();
+
+    /**
+     * Returns the number of packets per tier.
+     *
+     * @return one count per tier index
+     */
+    long[] getTierCounts();
+
+    /**
+     * Returns the number of packets with negative values or zeros.
+     *
+     * @return the number of rejected packets
+     */
+    long getNonPositiveCount();
+
+    /**
+     * Returns the number of packets whose dimensions or weight are out of bounds.
+     *
+     * @return the number of rejected packets
+     */
+    long getOutOfBoundsCount();
+
+    /**
+     * Returns the number of packets that do not fit into any tier.
+     *
+     * @return the number of rejected packets
+     */
+    long getNoTierCount();
+
+    /**
+     * Returns the number of successful loads of the tariff.
+     *
+     * @return the number of loads
+     */
+    long getReloadCount();
+
+    /**
+     * Returns the number of failed loads of the tariff.
+     *
+     * @return the number of failed loads
+     */
+    long getReloadFailureCount();
+
+    /**
+     * Returns the duration of the last load of the tariff.
+     *
+     * @return the duration in nanoseconds
+     */
+    long getLastReloadNanos();
+
+    /**
+     * Returns the total duration of all loads of the tariff.
+     *
+     * @return the duration in nanoseconds
+     */
+    long getTotalReloadNanos();
+
+    /**
+     * Returns the median latency of the single quotes.
+     *
+     * @return the upper bound of the latency bucket in nanoseconds
+     */
+    long getLatencyP50Nanos();
+
+    /**
+     * Returns the 99th percentile of the latency of the single quotes.
+     *
+     * @return the upper bound of the latency bucket in nanoseconds
+     */
+    long getLatencyP99Nanos();
+
+    /**
+     * Returns the 99.9th percentile of the latency of the single quotes.
+     *
+     * @return the upper bound of the latency bucket in nanoseconds
+     */
+    long getLatencyP999Nanos();
+
+    /**
+     * Returns the highest latency of the single quotes.
+     *
+     * @return the latency in nanoseconds
+     */
+    long getLatencyMaxNanos();
+
+    /**
+     * Resets the quote counters and the latency histogram. The tariff loads are counted by the tariff cache
+     * and are not reset.
+     */
+    void reset();
+}
@@ -0,0 +1,48 @@
+package control;
+
+import data.Constants;
+import data.Tariff;
+
+/**
+ * The {@code QuoteResult} record is the result of a quote: the status, the tier and the shipping costs of a packet.
+ *
+ * <p>Results are immutable and preallocated by the {@link Calculator}: there is one result per tier of the tariff and one
+ * per rejection reason, so a quote creates neither a result nor an exception.</p>
+ *
+ * @param status the status of the quote
+ * @param tier the index of the tier or a negative tier code of the {@link Calculator} if the packet was rejected
+ * @param shippingCostsCents the shipping costs in euro cents, 0 if the packet was rejected
+ * @param priceText the formatted shipping costs with currency symbol (e.g. {@code 3.89 €}) or null if the packet was rejected
+ *        because of its values
+ */
+public record QuoteResult(QuoteStatus status, int tier, long shippingCostsCents, String priceText) {
+
+    /** result of a packet with negative values or zeros */
+    public static final QuoteResult NON_POSITIVE = new QuoteResult(QuoteStatus.NON_POSITIVE, Calculator.TIER_NON_POSITIVE, 0, null);
+
+    /** result of a packet whose dimensions or weight are out of bounds */
+    public static final QuoteResult OUT_OF_BOUNDS = new QuoteResult(QuoteStatus.OUT_OF_BOUNDS, Calculator.TIER_OUT_OF_BOUNDS, 0, null);
+
+    /** result of a packet that does not fit into any tier, which costs nothing like before */
+    public static final QuoteResult NO_TIER = new QuoteResult(QuoteStatus.NO_TIER, Calculator.TIER_NONE, 0,
+        Tariff.formatCents(0) + Constants.Symbols.EURO);
+
+    /**
+     * Returns the shipping costs as decimal number.
+     *
+     * @return the shipping costs in €, 0 if the packet was rejected
+     * @see #shippingCostsCents()
+     */
+    public double shippingCosts() {
+        return shippingCostsCents / 100.0;
+    }
+
+    /**
+     * Checks if the packet was calculated successfully.
+     *
+     * @return true if the status is {@link QuoteStatus#OK}
+     */
+    public boolean isOk() {
+        return status == QuoteStatus.OK;
+    }
+}
@@ -0,0 +1,74 @@
+package control;
+
+import data.Constants;
+
+/**
+ * The {@code QuoteStatus} enum describes the result of a quote without an exception: either the packet was calculated
+ * or the reason why it has no shipping costs.
+ */
+public enum QuoteStatus {
+
+    /** the packet was calculated successfully */
+    OK(Constants.Bulk.STATUS_OK, null),
+
+    /** the packet has negative values or zeros */
+    NON_POSITIVE(Constants.Bulk.STATUS_NON_POSITIVE, Constants.Exceptions.NO_NEGATIVE_VALUES_MSG),
+
+    /** the dimensions or the weight of the packet are out of bounds */
+    OUT_OF_BOUNDS(Constants.Bulk.STATUS_OUT_OF_BOUNDS, Constants.Exceptions.INVALID_DIMENSIONS_MSG),
+
+    /** the packet does not fit into any tier */
+    NO_TIER(Constants.Bulk.STATUS_NO_TIER, null);
+
+    /** the status text of result files and responses */
+    private final String text;
+
+    /** the error message of the status or null */
+    private final String message;
+
+    /**
+     * Constructs a status.
+     *
+     * @param text the status text of result files and responses
+     * @param message the error message of the status or null
+     */
+    QuoteStatus(String text, String message) {
+        this.text = text;
+        this.message = message;
+    }
+
+    /**
+     * Returns the status of a tier or tier code of the {@link Calculator}.
+     *
+     * @param tier the tier index or a negative tier code
+     * @return the status
+     */
+    public static QuoteStatus ofTier(int tier) {
+        if (tier >= 0) {
+            return OK;
+        }
+        return switch (tier) {
+            case Calculator.TIER_NON_POSITIVE -> NON_POSITIVE;
+            case Calculator.TIER_OUT_OF_BOUNDS -> OUT_OF_BOUNDS;
+            default -> NO_TIER;
+        };
+    }
+
+    /**
+     * Returns the status text of result files and responses, e.g. {@code OUT_OF_BOUNDS}.
+     *
+     * @return the status text
+     */
+    public String getText() {
+        return text;
+    }
+
+    /**
+     * Returns the error message of the status.
+     *
+     * @return the error message or null if the packet is not rejected
+     */
+    public String getMessage() {
+        return message;
+    }
+}
@@ -0,0 +1,76 @@
+package control;
+
+import data.Constants;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Enabled;
+import jdk.jfr.Event;
+import jdk.jfr.EventType;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * The {@code ValidationFailureEvent} is the flight recorder event of a packet rejected by the {@link Calculator}.
+ * It is an instant event with the values of the packet, without a stack trace.
+ *
+ * <p>A manifest with many bad rows would create one event per row, so the event is disabled by default like the
+ * {@link QuoteEvent} and only enabled by the settings file {@code misc/jfr/packagecalculator.jfc}. Without it, the
+ * rejected rows of a batch are still counted by the {@code BatchQuoteEvent}.</p>
+ */
+@Name(Constants.Events.VALIDATION_FAILURE)
+@Label("Validation Failure")
+@Category({Constants.Events.CATEGORY, "Calculator"})
+@Description("A packet rejected because of its values or because it does not fit into any tier")
+@Enabled(false)
+@StackTrace(false)
+final class ValidationFailureEvent extends Event {
+
+    /** the type of the event, to check if it is enabled before an event is created */
+    private static final EventType TYPE = EventType.getEventType(ValidationFailureEvent.class);
+
+    /** the status of the rejected packet */
+    @Label("Reason")
+    String reason;
+
+    /** the largest dimension of the packet in mm */
+    @Label("Length")
+    int length;
+
+    /** the middle dimension of the packet in mm */
+    @Label("Width")
+    int width;
+
+    /** the smallest dimension of the packet in mm */
+    @Label("Height")
+    int height;
+
+    /** the weight of the packet in g */
+    @Label("Weight")
+    int weight;
+
+    /**
+     * Records a rejected packet, if the event is enabled. While it is disabled, no event is created.
+     *
+     * @param tier the negative tier code of the packet
+     * @param length the largest dimension of the packet (in mm)
+     * @param width the middle dimension of the packet (in mm)
+     * @param height the smallest dimension of the packet (in mm)
+     * @param weight the weight of the packet (in g)
+     */
+    static void report(int tier, int length, int width, int height, int weight) {
+        if (!TYPE.isEnabled()) {
+            return;
+        }
+        ValidationFailureEvent event = new ValidationFailureEvent();
+        if (event.shouldCommit()) {
+            event.reason = QuoteStatus.ofTier(tier).getText();
+            event.length = length;
+            event.width = width;
+            event.height = height;
+            event.weight = weight;
+            event.commit();
+        }
+    }
+}
@@ -0,0 +1,281 @@
+package data;
+
+import data.Exceptions.CSVWrongFormatException;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Stream;
+
+/**
+ * The {@code CarrierTariffs} hold the tariffs of several carriers side by side, so that a packet is checked against
+ * all carriers in one pass.
+ *
+ * <p>The tiers of all carriers are precompiled into one flat table, carrier by carrier and tier by tier in the order
+ * they are checked. The limits of a carrier are folded into the limits of each of its tiers, so a row of the table
+ * matches exactly if the packet belongs to this carrier and tier. For every carrier only its first matching row counts,
+ * the rest of its rows are skipped.</p>
+ */
+public final class CarrierTariffs {
+
+    /** number of limits per row in the precompiled table */
+    private static final int LIMITS_PER_ROW = 5;
+
+    /** extension of the csv files of a carrier directory */
+    private static final String CSV_EXTENSION = ".csv";
+
+    /**
+     * A carrier with its tariff.
+     *
+     * @param name the unique name of the carrier
+     * @param tariff the tariff of the carrier
+     */
+    public record Carrier(String name, Tariff tariff) {
+    }
+
+    /** the carriers in the order they were given */
+    private final List<Carrier> carriers;
+
+    /** the first row of every carrier, followed by the number of rows */
+    private final int[] rowStarts;
+
+    /** the limits of every row (length, width, height, weight, girth), including the limits of its carrier */
+    private final int[] rowLimits;
+
+    /** the shipping costs of every row in euro cents */
+    private final long[] rowCosts;
+
+    /** the tier index of every row in the tariff of its carrier */
+    private final int[] rowTiers;
+
+    /** the carrier index of every row */
+    private final int[] rowCarriers;
+
+    /**
+     * Constructs the tariffs of several carriers.
+     *
+     * @param carriers the carriers, at least one, with unique names
+     * @throws IllegalArgumentException if there is no carrier or a name is used twice
+     */
+    public CarrierTariffs(List<Carrier> carriers) {
+        if (carriers.isEmpty()) {
+            throw new IllegalArgumentException(Constants.Exceptions.NO_CARRIER);
+        }
+        Set<String> names = new HashSet<>();
+        int rows = 0;
+        for (Carrier carrier : carriers) {
+            if (!names.add(carrier.name())) {
+                throw new IllegalArgumentException(Constants.Exceptions.DUPLICATE_CARRIER + carrier.name());
+            }
+            rows += carrier.tariff().getTierCount();
+        }
+        this.carriers = List.copyOf(carriers);
+
+        rowStarts = new int[carriers.size() + 1];
+        rowLimits = new int[rows * LIMITS_PER_ROW];
+        rowCosts = new long[rows];
+        rowTiers = new int[rows];
+        rowCarriers = new int[rows];
+        int row = 0;
+        for (int c = 0; c < carriers.size(); c++) {
+            Tariff tariff = carriers.get(c).tariff();
+            rowStarts[c] = row;
+            List<Tariff.Tier> tiers = tariff.getTiers();
+            for (int t = 0; t < tiers.size(); t++, row++) {
+                Tariff.Tier tier = tiers.get(t);
+                int offset = row * LIMITS_PER_ROW;
+                rowLimits[offset] = Math.min(tier.maxLength(), tariff.getMaxLength());
+                rowLimits[offset + 1] = Math.min(tier.maxWidth(), tariff.getMaxWidth());
+                rowLimits[offset + 2] = Math.min(tier.maxHeight(), tariff.getMaxHeight());
+                rowLimits[offset + 3] = Math.min(tier.maxWeight(), tariff.getMaxWeight());
+                rowLimits[offset + 4] = tier.maxGirth();
+                rowCosts[row] = tier.shippingCostsCents();
+                rowTiers[row] = t;
+                rowCarriers[row] = c;
+            }
+        }
+        rowStarts[carriers.size()] = row;
+    }
+
+    /**
+     * Loads every csv file of a directory as the tariff of one carrier. The carriers are named after the files
+     * without extension and sorted by name.
+     *
+     * @param directory the directory with one csv file per carrier
+     * @return the tariffs of the carriers
+     * @throws CSVWrongFormatException if the directory cannot be read (with the error as cause), contains no csv file
+     *         or a csv file cannot be read or has the wrong format
+     */
+    public static CarrierTariffs load(Path directory) throws CSVWrongFormatException {
+        List<Path> files;
+        try (Stream<Path> entries = Files.list(directory)) {
+            files = entries
+                .filter(file -> Files.isRegularFile(file) && file.getFileName().toString().endsWith(CSV_EXTENSION))
+                .sorted()
+                .toList();
+        } catch (IOException e) {
+            throw new CSVWrongFormatException(Constants.Exceptions.DIRECTORY_NOT_READABLE + directory, e);
+        }
+        if (files.isEmpty()) {
+            throw new CSVWrongFormatException(Constants.Exceptions.CSV_FILE_NOT_FOUND);
+        }
+
+        List<Carrier> carriers = new ArrayList<>();
+        for (Path file : files) {
+            String fileName = file.getFileName().toString();
+            String name = fileName.substring(0, fileName.length() - CSV_EXTENSION.length());
+            carriers.add(new Carrier(name, TariffSource.ofFile(file.toString()).load()));
+        }
+        return new CarrierTariffs(carriers);
+    }
+
+    /**
+     * Returns the row of the cheapest carrier that accepts the packet. Every carrier accepts a packet with the first
+     * of its tiers whose limits the packet does not exceed. If two carriers are equally cheap, the first one is taken.
+     *
+     * <p>The dimensions have to be sorted (length &gt;= width &gt;= height) and positive.</p>
+     *
+     * @param length the largest dimension of the packet in mm
+     * @param width the middle dimension of the packet in mm
+     * @param height the smallest dimension of the packet in mm
+     * @param weight the weight of the packet in g
+     * @return the row of the carrier and its tier or -1 if no carrier accepts the packet
+     */
+    public int findCheapestRow(int length, int width, int height, int weight) {
+        int girth = girth(length, width, height);
+        int[] limits = rowLimits;
+        int cheapest = -1;
+        long cheapestCosts = Long.MAX_VALUE;
+        for (int c = 0, carrierCount = carriers.size(); c < carrierCount; c++) {
+            for (int row = rowStarts[c], end = rowStarts[c + 1]; row < end; row++) {
+                int offset = row * LIMITS_PER_ROW;
+                int exceeded = (limits[offset] - length) | (limits[offset + 1] - width) | (limits[offset + 2] - height)
+                    | (limits[offset + 3] - weight) | (limits[offset + 4] - girth);
+                if (exceeded >= 0) {
+                    // only the first matching tier of a carrier counts
+                    if (rowCosts[row] < cheapestCosts) {
+                        cheapest = row;
+                        cheapestCosts = rowCosts[row];
+                    }
+                    break;
+                }
+            }
+        }
+        return cheapest;
+    }
+
+    /**
+     * Finds the row of every carrier that accepts the packet in one pass.
+     *
+     * <p>The dimensions have to be sorted (length &gt;= width &gt;= height) and positive.</p>
+     *
+     * @param length the largest dimension of the packet in mm
+     * @param width the middle dimension of the packet in mm
+     * @param height the smallest dimension of the packet in mm
+     * @param weight the weight of the packet in g
+     * @param rows the output array for the rows of the accepting carriers, at least one element per carrier
+     * @return the number of rows written, which is the number of carriers that accept the packet
+     */
+    public int findRows(int length, int width, int height, int weight, int[] rows) {
+        int girth = girth(length, width, height);
+        int[] limits = rowLimits;
+        int found = 0;
+        for (int c = 0, carrierCount = carriers.size(); c < carrierCount; c++) {
+            for (int row = rowStarts[c], end = rowStarts[c + 1]; row < end; row++) {
+                int offset = row * LIMITS_PER_ROW;
+                int exceeded = (limits[offset] - length) | (limits[offset + 1] - width) | (limits[offset + 2] - height)
+                    | (limits[offset + 3] - weight) | (limits[offset + 4] - girth);
+                if (exceeded >= 0) {
+                    rows[found++] = row;
+                    break;
+                }
+            }
+        }
+        return found;
+    }
+
+    /**
+     * Checks if a packet is within the limits of at least one carrier.
+     *
+     * @param length the largest dimension of the packet in mm
+     * @param width the middle dimension of the packet in mm
+     * @param height the smallest dimension of the packet in mm
+     * @param weight the weight of the packet in g
+     * @return true if a carrier does not reject the packet because of its limits
+     */
+    public boolean isInBounds(int length, int width, int height, int weight) {
+        for (Carrier carrier : carriers) {
+            Tariff tariff = carrier.tariff();
+            if (length <= tariff.getMaxLength() && width <= tariff.getMaxWidth() && height <= tariff.getMaxHeight()
+                    && weight <= tariff.getMaxWeight()) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Returns the girth of a packet, limited to the largest int, so that the girth of a packet that exceeds
+     * the limits of a carrier cannot overflow.
+     *
+     * @param length the largest dimension of the packet in mm
+     * @param width the middle dimension of the packet in mm
+     * @param height the smallest dimension of the packet in mm
+     * @return the girth in mm
+     */
+    private static int girth(int length, int width, int height) {
+        return (int) Math.min(Integer.MAX_VALUE, length + 2L * width + 2L * height);
+    }
+
+    /**
+     * Returns the carriers in the order they were given.
+     *
+     * @return the unmodifiable list of carriers
+     */
+    public List<Carrier> getCarriers() {
+        return carriers;
+    }
+
+    /**
+     * Returns the number of rows of the table, which is the number of tiers of all carriers.
+     *
+     * @return the number of rows
+     */
+    public int getRowCount() {
+        return rowCosts.length;
+    }
+
+    /**
+     * Returns the carrier of a row.
+     *
+     * @param row the row
+     * @return the index of the carrier
+     */
+    public int getCarrier(int row) {
+        return rowCarriers[row];
+    }
+
+    /**
+     * Returns the tier of a row.
+     *
+     * @param row the row
+     * @return the index of the tier in the tariff of the carrier
+     */
+    public int getTier(int row) {
+        return rowTiers[row];
+    }
+
+    /**
+     * Returns the shipping costs of a row.
+     *
+     * @param row the row
+     * @return the shipping costs in euro cents
+     */
+    public long getShippingCostsCents(int row) {
+        return rowCosts[row];
+    }
+}
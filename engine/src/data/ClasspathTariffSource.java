@@ -0,0 +1,72 @@
+package data;
+
+import data.Exceptions.CSVWrongFormatException;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+
+/**
+ * A {@link TariffSource} that reads the tariff from a csv file on the classpath.
+ *
+ * <p>The resource is looked up through a module, so a resource of the engine (e.g. the default tariff) is found in its
+ * module jar although its package is not opened. A resource of another named module is only found if its package is
+ * open to the engine. On the classpath every resource is found.</p>
+ */
+class ClasspathTariffSource implements TariffSource {
+
+    /** the module with the resource */
+    private final Module module;
+
+    /** the name of the resource */
+    private final String resource;
+
+    /**
+     * Constructs a new source for a csv file on the classpath.
+     *
+     * @param module The module with the resource, the unnamed module on the classpath
+     * @param resource The name of the resource, e.g. {@code data/shippingCosts.csv}
+     */
+    ClasspathTariffSource(Module module, String resource) {
+        this.module = module;
+        this.resource = resource;
+    }
+
+    /**
+     * Reads the tariff from the classpath resource. Every import is recorded as {@link TariffImportEvent}.
+     *
+     * @return The tariff with its limits, tiers and shipping costs
+     * @throws CSVWrongFormatException if the resource cannot be found or read or has the wrong format
+     */
+    @Override
+    public Tariff load() throws CSVWrongFormatException {
+        TariffImportEvent event = new TariffImportEvent();
+        event.begin();
+        byte[] content = new byte[0];
+        Tariff tariff = null;
+        // a named module finds the resources in its module jar, on the classpath it asks the class loader
+        try (InputStream stream = module.getResourceAsStream(resource)) {
+            if (stream == null) {
+                throw new CSVWrongFormatException(Constants.Exceptions.CSV_FILE_NOT_FOUND);
+            }
+            content = stream.readAllBytes();
+            tariff = Importer.importTariff(ByteBuffer.wrap(content));
+            return tariff;
+        } catch (IOException e) {
+            throw new CSVWrongFormatException(e.getMessage());
+        } finally {
+            // record failed imports as well
+            event.report(resource, content.length, tariff);
+        }
+    }
+
+    /**
+     * Returns the name of the resource.
+     *
+     * @return the name of the resource
+     */
+    @Override
+    public String getName() {
+        return resource;
+    }
+}
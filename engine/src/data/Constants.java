@@ -0,0 +1,230 @@
+package data;
+
+/**
+ * This class stores the constants used in the project.
+ */
+@SuppressWarnings("java:S1118")
+public class Constants {
+
+    /** Prevent instantiation */
+    private Constants() {}
+
+    /**
+     * all possible Exception messages
+     */
+    public static class Exceptions {
+        /** Error message when negative values or zeros are encountered in a packet. */
+        public static final String NO_NEGATIVE_VALUES_MSG = "The packet must not consist of negative values or zeros.";
+        
+        /** Error message when package dimensions are out of bounds. */
+        public static final String INVALID_DIMENSIONS_MSG = "The package dimensions are out of bounds.";
+        
+        /** Error message when the CSV file is not found. */
+        public static final String CSV_FILE_NOT_FOUND = "CSV-file not found";
+        
+        /** Error message when the CSV file is empty. */
+        public static final String CSV_FILE_EMPTY = "CSV-file is empty";
+        
+        /** Error message when the CSV file format is incorrect. */
+        public static final String CSV_FILE_WRONG_FORMAT = "CSV-file has the wrong format.";
+
+        /** Error message when the CSV file is too large to be read into a buffer, followed by the file. */
+        public static final String CSV_FILE_TOO_LARGE = "CSV-file has the wrong format, it is too large: ";
+
+        /** Error message when a file cannot be read, followed by the file. */
+        public static final String FILE_NOT_READABLE = "File cannot be read: ";
+
+        /** Error message when a value of the CSV file cannot be read (line, column). */
+        public static final String CSV_WRONG_FORMAT_AT = "CSV-file has the wrong format in line %d, column %d.";
+        
+        /** Error message when the tariff snapshot is damaged or has an unsupported version. */
+        public static final String SNAPSHOT_WRONG_FORMAT = "Tariff snapshot is damaged or has an unsupported version.";
+
+        /** Error message when carrier tariffs are created without a carrier. */
+        public static final String NO_CARRIER = "At least one carrier is required.";
+
+        /** Error message when two carriers have the same name, followed by the name. */
+        public static final String DUPLICATE_CARRIER = "Duplicate carrier: ";
+
+        /** Error message when a tariff version is published twice, followed by its effective instant. */
+        public static final String DUPLICATE_VERSION = "Duplicate tariff version: ";
+
+        /** Error message when no tariff version applies at an instant, followed by the instant. */
+        public static final String NO_VERSION = "No tariff version applies at ";
+
+        /** Error message when a directory of tariff files cannot be read, followed by the directory. */
+        public static final String DIRECTORY_NOT_READABLE = "Directory of tariff files cannot be read: ";
+
+        /** Error message when the file name of a tariff version is not a day, followed by the file name. */
+        public static final String VERSION_WRONG_NAME = "Tariff version is not named yyyy-MM-dd.csv: ";
+
+        /** Error message when the chunk size of the parallel bulk quote is out of range, followed by the chunk size. */
+        public static final String CHUNK_SIZE = "Chunk size out of range: ";
+
+        /** Error message when a row of a rate card does not fit into the read buffer (line). */
+        public static final String RATE_CARD_LINE_TOO_LONG = "Rate card line %d is too long.";
+
+        /** Error message when the weight bands of a zone and service are not ascending (line). */
+        public static final String RATE_CARD_WEIGHT_ORDER = "Rate card weight bands are not ascending in line %d.";
+    }
+
+    /**
+     * Messages used throughout the application.
+     */
+    public static class Messages {
+        /** Prefix for error messages. */
+        public static final String ERROR_PREFIX = "Error: ";
+    }
+
+    /**
+     * File paths used in the application.
+     */
+    public static class FilePaths {
+        /** Name of the default CSV file containing the shipping costs, a resource of the engine module. */
+        public static final String SHIPPING_COSTS_RESOURCE = "data/shippingCosts.csv";
+
+        /** System property with the path of a CSV file that replaces the default shipping costs. */
+        public static final String SHIPPING_COSTS_PROPERTY = "packagecalculator.tariff";
+    }
+
+    /**
+     * Symbols and other constants.
+     */
+    public static class Symbols {
+        /** Euro symbol. */
+        public static final String EURO = " €";
+
+        /** Delimiter used in CSV files. */
+        public static final String CSV_DELIMITER = ";";
+
+        /** First value of the row with the limits of a tariff in CSV files. */
+        public static final String CSV_LIMITS = "LIMITS";
+
+        /** First value of a row with a tier of a tariff in CSV files. */
+        public static final String CSV_TIER = "TIER";
+
+        /** Value for a limit that does not apply in CSV files. */
+        public static final String CSV_NO_LIMIT = "-";
+
+        /** First value of the optional header row of a rate card in CSV files. */
+        public static final String CSV_RATE_CARD_HEADER = "ZONE";
+    }
+
+    /**
+     * Texts of the headless bulk quoting.
+     */
+    public static class Bulk {
+        /** Usage text of the bulk quoting command line. */
+        public static final String USAGE = "Usage: java control.BulkQuoter [--parallel] <manifest.csv> <result.csv>";
+
+        /** Option to calculate the manifest on all cores. */
+        public static final String PARALLEL_OPTION = "--parallel";
+
+        /** Header line of the result file. */
+        public static final String RESULT_HEADER = "ID;TIER;COSTS;STATUS";
+
+        /** Report printed after a bulk run (rows, valid rows, milliseconds, rows per second). */
+        public static final String REPORT = "Quoted %d rows (%d valid) in %d ms (%.0f rows/s)%n";
+
+        /** Status of a row that was calculated successfully. */
+        public static final String STATUS_OK = "OK";
+
+        /** Status of a row with negative values or zeros. */
+        public static final String STATUS_NON_POSITIVE = "NON_POSITIVE";
+
+        /** Status of a row whose dimensions or weight are out of bounds. */
+        public static final String STATUS_OUT_OF_BOUNDS = "OUT_OF_BOUNDS";
+
+        /** Status of a row that does not fit into any tier. */
+        public static final String STATUS_NO_TIER = "NO_TIER";
+
+        /** Status of a row that cannot be read (missing or non-numeric values). */
+        public static final String STATUS_WRONG_FORMAT = "WRONG_FORMAT";
+    }
+
+    /**
+     * Texts of the tariff snapshot compiler.
+     */
+    public static class Snapshot {
+        /** Usage text of the snapshot compiler command line. */
+        public static final String USAGE = "Usage: java data.TariffSnapshot <tariff.csv> <tariff.snapshot>";
+
+        /** Report printed after compiling a tariff (number of tiers, file size). */
+        public static final String REPORT = "Compiled %d tiers into %d bytes%n";
+    }
+
+    /**
+     * Texts of the embedded http quoting service.
+     */
+    public static class Http {
+        /** Usage text of the quoting service command line. */
+        public static final String USAGE = "Usage: java control.QuoteHttpServer [port]";
+
+        /** Message printed when the service is started (port). */
+        public static final String LISTENING = "Quoting service listening on port %d%n";
+
+        /** Path of the quoting endpoint. */
+        public static final String QUOTE_PATH = "/quote";
+
+        /** Content type of single quotes and errors. */
+        public static final String CONTENT_TYPE_JSON = "application/json";
+
+        /** Content type of batch quotes (one JSON object per line). */
+        public static final String CONTENT_TYPE_JSON_LINES = "application/x-ndjson";
+
+        /** Error of a request with a missing or non-numeric parameter (name of the parameter). */
+        public static final String ERROR_PARAMETER = "Missing or invalid parameter: %s";
+
+        /** Error of a request with an unsupported method. */
+        public static final String ERROR_METHOD = "Use GET for single quotes and POST for batches";
+
+        /** Error of a batch that is too large. */
+        public static final String ERROR_TOO_LARGE = "The batch is too large";
+
+        /** Error if the tariff cannot be loaded. */
+        public static final String ERROR_TARIFF = "The tariff cannot be loaded";
+
+        /** System property of the JDK to send http responses without delay. */
+        public static final String NODELAY_PROPERTY = "sun.net.httpserver.nodelay";
+
+        /** Name of the metrics of the quoting service at the MBean server. */
+        public static final String METRICS_NAME = "http";
+    }
+
+    /**
+     * Names of the flight recorder events, as used in the settings file {@code misc/jfr/packagecalculator.jfc}.
+     */
+    public static class Events {
+        /** Category of all events of the application. */
+        public static final String CATEGORY = "Package Calculator";
+
+        /** Name of the event of a tariff import. */
+        public static final String TARIFF_IMPORT = "packagecalculator.TariffImport";
+
+        /** Name of the event of a single quote. */
+        public static final String QUOTE = "packagecalculator.Quote";
+
+        /** Name of the event of a batch of quotes. */
+        public static final String BATCH_QUOTE = "packagecalculator.BatchQuote";
+
+        /** Name of the event of a rejected packet. */
+        public static final String VALIDATION_FAILURE = "packagecalculator.ValidationFailure";
+
+        /** Format of a tariff imported from a csv file. */
+        public static final String FORMAT_CSV = "csv";
+
+        /** Format of a tariff imported from a binary snapshot. */
+        public static final String FORMAT_SNAPSHOT = "snapshot";
+    }
+
+    /**
+     * Names and texts of the quoting metrics.
+     */
+    public static class Metrics {
+        /** Object name of the metrics at the MBean server (name of the metrics). */
+        public static final String OBJECT_NAME = "control:type=QuoteMetrics,name=%s";
+
+        /** Warning if the metrics cannot be registered (reason). */
+        public static final String REGISTER_FAILED = "The metrics cannot be registered: %s%n";
+    }
+}
@@ -0,0 +1,341 @@
+package data;
+
+import data.Exceptions.CSVWrongFormatException;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * The {@code CsvByteParser} reads csv content directly from the bytes of a {@link ByteBuffer}, e.g. a memory-mapped
+ * file, without decoding it into strings.
+ *
+ * <p>The parser walks through the content line by line and field by field and decodes integers and prices where they
+ * are, so neither a line nor a field is copied. If a value cannot be read, the {@link CSVWrongFormatException} names
+ * the line and the column of the field. A UTF-8 byte order mark at the beginning and {@code \r\n} line breaks are
+ * accepted.</p>
+ *
+ * <p>The static {@code decode} methods read a single value from any range of a buffer and report an invalid value
+ * with {@link #INVALID} instead of an exception, so that e.g. the {@code BulkQuoter} can mark a row without creating
+ * an object. An instance is not thread-safe, but several parsers may read the same buffer.</p>
+ */
+public final class CsvByteParser {
+
+    /** result of a decode method for a value that cannot be read */
+    public static final long INVALID = Long.MIN_VALUE;
+
+    /** magnitude of decoded integers that are too large, so that they are outside of the int range but cannot overflow */
+    public static final long SATURATED = 1L << 32;
+
+    /** the delimiter of the csv content */
+    private static final byte DELIMITER = (byte) Constants.Symbols.CSV_DELIMITER.charAt(0);
+
+    /** the UTF-8 byte order mark */
+    private static final byte[] BOM = {(byte) 0xEF, (byte) 0xBB, (byte) 0xBF};
+
+    /** maximum number of digits before the decimal point of a price, so that the cents fit into a long */
+    private static final int MAX_INTEGER_DIGITS = 15;
+
+    /** the buffer with the content */
+    private final ByteBuffer buffer;
+
+    /** the index after the last byte of the content */
+    private final int end;
+
+    /** the index of the first byte of the current line */
+    private int lineStart;
+
+    /** the index after the last byte of the current line, without the line break */
+    private int lineEnd;
+
+    /** the index of the first byte of the next line */
+    private int nextLineStart;
+
+    /** the number of the current line, starting with 1 (0 before the first line) */
+    private int line;
+
+    /** the index of the first byte of the current field or -1 before the first field of the line */
+    private int fieldStart = -1;
+
+    /** the index after the last byte of the current field */
+    private int fieldEnd;
+
+    /**
+     * Constructs a parser for the content between the position and the limit of the buffer.
+     * The position and the limit of the buffer are not changed.
+     *
+     * @param buffer the buffer with the csv content
+     */
+    public CsvByteParser(ByteBuffer buffer) {
+        this(buffer, 0);
+    }
+
+    /**
+     * Constructs a parser for a chunk of the content between the position and the limit of the buffer, which starts
+     * at the beginning of a line. The lines are numbered after the lines of the chunks before, so that errors name
+     * the line in the whole content. The position and the limit of the buffer are not changed.
+     *
+     * @param buffer the buffer with the chunk of the csv content
+     * @param linesBefore the number of lines before the chunk, 0 for the first chunk
+     */
+    public CsvByteParser(ByteBuffer buffer, int linesBefore) {
+        this.buffer = buffer;
+        this.end = buffer.limit();
+        this.line = linesBefore;
+        int start = buffer.position();
+        // only the whole content starts with a byte order mark
+        if (linesBefore == 0 && end - start >= BOM.length && buffer.get(start) == BOM[0]
+                && buffer.get(start + 1) == BOM[1] && buffer.get(start + 2) == BOM[2]) {
+            start += BOM.length;
+        }
+        this.nextLineStart = start;
+    }
+
+    /**
+     * Moves to the next line. The rest of the current line is skipped.
+     *
+     * @return true if there is a next line, false at the end of the content
+     */
+    public boolean nextLine() {
+        if (nextLineStart >= end) {
+            return false;
+        }
+        lineStart = nextLineStart;
+        int pos = lineStart;
+        while (pos < end && buffer.get(pos) != '\n') {
+            pos++;
+        }
+        nextLineStart = pos + 1;
+        if (pos > lineStart && buffer.get(pos - 1) == '\r') {
+            pos--;
+        }
+        lineEnd = pos;
+        line++;
+        fieldStart = -1;
+        return true;
+    }
+
+    /**
+     * Checks if the current line contains only spaces and tabs.
+     *
+     * @return true if the line is blank
+     */
+    public boolean isBlankLine() {
+        for (int pos = lineStart; pos < lineEnd; pos++) {
+            byte b = buffer.get(pos);
+            if (b != ' ' && b != '\t') {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Moves to the next field of the current line.
+     *
+     * @return true if there is a next field, false at the end of the line
+     */
+    public boolean nextField() {
+        int start;
+        if (fieldStart < 0) {
+            start = lineStart;
+        } else if (fieldEnd < lineEnd) {
+            // skip the delimiter after the current field
+            start = fieldEnd + 1;
+        } else {
+            return false;
+        }
+        int pos = start;
+        while (pos < lineEnd && buffer.get(pos) != DELIMITER) {
+            pos++;
+        }
+        fieldStart = start;
+        fieldEnd = pos;
+        return true;
+    }
+
+    /**
+     * Moves to the next field of the current line, which has to exist.
+     *
+     * @throws CSVWrongFormatException if the line has no more fields, with the column of the line end
+     */
+    public void expectField() throws CSVWrongFormatException {
+        if (!nextField()) {
+            throw errorAt(lineEnd);
+        }
+    }
+
+    /**
+     * Checks that the current field is the last one of the line.
+     *
+     * @throws CSVWrongFormatException if the line has more fields, with the column of the next field
+     */
+    public void expectLineEnd() throws CSVWrongFormatException {
+        if (fieldStart < 0 || fieldEnd < lineEnd) {
+            throw errorAt(fieldStart < 0 ? lineStart : fieldEnd + 1);
+        }
+    }
+
+    /**
+     * Checks if the current field consists of the given bytes.
+     *
+     * @param text the expected bytes, e.g. of an ASCII keyword
+     * @return true if the field consists of exactly these bytes
+     */
+    public boolean fieldEquals(byte[] text) {
+        if (fieldEnd - fieldStart != text.length) {
+            return false;
+        }
+        for (int i = 0; i < text.length; i++) {
+            if (buffer.get(fieldStart + i) != text[i]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Returns the current field as text, e.g. a name that is kept.
+     *
+     * @return the UTF-8 decoded field
+     */
+    public String fieldText() {
+        byte[] bytes = new byte[fieldEnd - fieldStart];
+        buffer.get(fieldStart, bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Reads the current field as an integer.
+     *
+     * @return the value of the field
+     * @throws CSVWrongFormatException if the field is not an integer or does not fit into an int
+     * @see #decodeInt(ByteBuffer, int, int)
+     */
+    public int parseInt() throws CSVWrongFormatException {
+        long value = decodeInt(buffer, fieldStart, fieldEnd);
+        if (value == INVALID || value < Integer.MIN_VALUE || value > Integer.MAX_VALUE) {
+            throw error();
+        }
+        return (int) value;
+    }
+
+    /**
+     * Reads the current field as a price in euro cents.
+     *
+     * @return the price in euro cents
+     * @throws CSVWrongFormatException if the field is not a non-negative decimal number with at most two decimal places
+     * @see #decodeCents(ByteBuffer, int, int)
+     */
+    public long parseCents() throws CSVWrongFormatException {
+        long cents = decodeCents(buffer, fieldStart, fieldEnd);
+        if (cents == INVALID) {
+            throw error();
+        }
+        return cents;
+    }
+
+    /**
+     * Creates the exception for the current field.
+     *
+     * @return the exception with the line and the column of the current field
+     */
+    public CSVWrongFormatException error() {
+        return errorAt(fieldStart < 0 ? lineStart : fieldStart);
+    }
+
+    /**
+     * Returns the number of the current line.
+     *
+     * @return the line number, starting with 1
+     */
+    public int getLine() {
+        return line;
+    }
+
+    /**
+     * Returns the column of the current field.
+     *
+     * @return the column in bytes, starting with 1
+     */
+    public int getColumn() {
+        return (fieldStart < 0 ? lineStart : fieldStart) - lineStart + 1;
+    }
+
+    /**
+     * Creates the exception for a position of the current line.
+     *
+     * @param pos the index of the byte the error was found at
+     * @return the exception with the line and the column
+     */
+    private CSVWrongFormatException errorAt(int pos) {
+        return new CSVWrongFormatException(String.format(Constants.Exceptions.CSV_WRONG_FORMAT_AT, line, pos - lineStart + 1));
+    }
+
+    /**
+     * Decodes an integer with an optional minus sign from a range of a buffer.
+     * Large values are not rejected, their magnitude is limited to {@link #SATURATED}.
+     *
+     * @param buffer the buffer
+     * @param start the index of the first byte of the value
+     * @param end the index after the last byte of the value
+     * @return the value or {@link #INVALID} if the range is empty or contains anything but the digits and the sign
+     */
+    public static long decodeInt(ByteBuffer buffer, int start, int end) {
+        boolean negative = start < end && buffer.get(start) == '-';
+        int pos = negative ? start + 1 : start;
+        if (pos >= end) {
+            return INVALID;
+        }
+        long value = 0;
+        for (; pos < end; pos++) {
+            int digit = buffer.get(pos) - '0';
+            if (digit < 0 || digit > 9) {
+                return INVALID;
+            }
+            value = Math.min(value * 10 + digit, SATURATED);
+        }
+        return negative ? -value : value;
+    }
+
+    /**
+     * Decodes a price directly into euro cents, without a floating point number, from a range of a buffer.
+     *
+     * @param buffer the buffer
+     * @param start the index of the first byte of the price, e.g. {@code 3.89}
+     * @param end the index after the last byte of the price
+     * @return the price in euro cents or {@link #INVALID} if it is not a non-negative decimal number
+     *         with at most two decimal places
+     */
+    public static long decodeCents(ByteBuffer buffer, int start, int end) {
+        int point = -1;
+        for (int pos = start; pos < end; pos++) {
+            if (buffer.get(pos) == '.') {
+                point = pos;
+                break;
+            }
+        }
+        int integerDigits = (point < 0 ? end : point) - start;
+        int fractionDigits = point < 0 ? 0 : end - point - 1;
+        // Check if there are digits before the point, at most two after it and the value fits into a long
+        if (integerDigits == 0 || integerDigits > MAX_INTEGER_DIGITS || fractionDigits > 2
+                || (point >= 0 && fractionDigits == 0)) {
+            return INVALID;
+        }
+        long cents = 0;
+        for (int pos = start; pos < end; pos++) {
+            if (pos == point) {
+                continue;
+            }
+            int digit = buffer.get(pos) - '0';
+            if (digit < 0 || digit > 9) {
+                return INVALID;
+            }
+            cents = cents * 10 + digit;
+        }
+        // Fill up the missing decimal places
+        for (int i = fractionDigits; i < 2; i++) {
+            cents *= 10;
+        }
+        return cents;
+    }
+}
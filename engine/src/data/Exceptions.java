@@ -18,6 +18,15 @@ public class Exceptions {
         public CSVWrongFormatException(String message) {
             super(message);
         }
+
+        /**
+         * Constructor for CSVWrongFormatException with the error that caused it
+         * @param message The message to display when the exception is thrown
+         * @param cause The error that caused the exception, e.g. reading a directory
+         */
+        public CSVWrongFormatException(String message, Throwable cause) {
+            super(message, cause);
+        }
     }
 
     /**
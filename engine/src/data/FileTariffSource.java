@@ -0,0 +1,65 @@
+package data;
+
+import data.Exceptions.CSVWrongFormatException;
+
+import java.nio.file.Path;
+
+/**
+ * A {@link TariffSource} that reads the tariff from a csv file or its binary {@link TariffSnapshot}.
+ */
+class FileTariffSource implements TariffSource {
+
+    /** the absolute path of the csv file */
+    private final Path path;
+
+    /**
+     * Constructs a new source for a csv file.
+     *
+     * @param path The path of the csv file
+     */
+    FileTariffSource(Path path) {
+        this.path = path.toAbsolutePath();
+    }
+
+    /**
+     * Reads the tariff from the file. A snapshot is detected by its magic number, every other file is read as csv file.
+     * Every import is recorded as {@link TariffImportEvent}.
+     *
+     * @return The tariff with its limits, tiers and shipping costs
+     * @throws CSVWrongFormatException if the csv file cannot be found or read or has the wrong format
+     */
+    @Override
+    public Tariff load() throws CSVWrongFormatException {
+        TariffImportEvent event = new TariffImportEvent();
+        event.begin();
+        boolean snapshot = TariffSnapshot.isSnapshot(path);
+        Tariff tariff = null;
+        try {
+            tariff = snapshot ? TariffSnapshot.read(path) : Importer.importTariff(path.toString());
+            return tariff;
+        } finally {
+            // record failed imports as well
+            event.report(path, snapshot, tariff);
+        }
+    }
+
+    /**
+     * Returns the file name of the csv file.
+     *
+     * @return the file name
+     */
+    @Override
+    public String getName() {
+        return path.getFileName().toString();
+    }
+
+    /**
+     * Returns the csv file, so that changes of the file are noticed.
+     *
+     * @return the path of the csv file
+     */
+    @Override
+    public Path getWatchPath() {
+        return path;
+    }
+}
@@ -0,0 +1,52 @@
+package data;
+
+/**
+ * Represents an immutable package with dimensions in millimeters and weight in grams.
+ *
+ * <p>The dimensions are stored in their canonical sorted form, which is computed once when the packet is created:
+ * the length is the largest, the height the smallest dimension. An instance can therefore be shared between threads
+ * and calculated any number of times without being copied or changed. Unlike {@link Packet} it has no setters.</p>
+ *
+ * @param length The largest dimension of the package in millimeters
+ * @param width The middle dimension of the package in millimeters
+ * @param height The smallest dimension of the package in millimeters
+ * @param weight The weight of the package in grams
+ */
+public record ImmutablePacket(int length, int width, int height, int weight) {
+
+    /**
+     * Constructs a new immutable packet and sorts its dimensions (length -> width -> height).
+     *
+     * @param length A dimension of the package in millimeters
+     * @param width A dimension of the package in millimeters
+     * @param height A dimension of the package in millimeters
+     * @param weight The weight of the package in grams
+     */
+    public ImmutablePacket {
+        // sort the dimensions without an array (largest -> middle -> smallest)
+        int largest = Math.max(length, Math.max(width, height));
+        int smallest = Math.min(length, Math.min(width, height));
+        width = length + width + height - largest - smallest;
+        length = largest;
+        height = smallest;
+    }
+
+    /**
+     * Creates an immutable packet with the values of the given packet. The given packet is not changed.
+     *
+     * @param pack the packet to copy
+     * @return the immutable packet in canonical sorted form
+     */
+    public static ImmutablePacket of(Packet pack) {
+        return new ImmutablePacket(pack.getLength(), pack.getWidth(), pack.getHeight(), pack.getWeight());
+    }
+
+    /**
+     * Returns the girth measure of the package (length + 2 * width + 2 * height).
+     *
+     * @return the girth measure in millimeters
+     */
+    public int girth() {
+        return length + 2 * width + 2 * height;
+    }
+}
@@ -0,0 +1,252 @@
+package data;
+
+import data.Exceptions.CSVWrongFormatException;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.Reader;
+import java.io.StringWriter;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+import java.util.ArrayList;
+
+/**
+ * This class imports the shipping costs from a csv file.
+ *
+ * <p>The csv content is parsed from its bytes by a {@link CsvByteParser}, errors are reported with line and column.
+ * The class has no state, so it can be used by several threads with different files at once.
+ * To load and hold the shipping costs of a file, classpath resource or in-memory values use a {@link TariffSource}.
+ * A csv file can be compiled into a {@link TariffSnapshot}, which is loaded without parsing any text.</p>
+ */
+public class Importer {
+
+    /** the first value of the row with the limits */
+    private static final byte[] LIMITS = Constants.Symbols.CSV_LIMITS.getBytes(StandardCharsets.US_ASCII);
+
+    /** the first value of a tier row */
+    private static final byte[] TIER = Constants.Symbols.CSV_TIER.getBytes(StandardCharsets.US_ASCII);
+
+    /** the value of a limit that does not apply */
+    private static final byte[] NO_LIMIT = Constants.Symbols.CSV_NO_LIMIT.getBytes(StandardCharsets.US_ASCII);
+
+    /** size from which a csv file is mapped into memory instead of being read */
+    static final long MAP_THRESHOLD = 1 << 20;
+
+    /**
+     * Constructor for the Importer class.
+     */
+    private Importer() {
+        // empty to prevent instantiation
+    }
+
+    /**
+     * This method imports the shipping costs from the csv file at the given path.
+     * 
+     * @param path The path of the csv file
+     * @return The shipping costs as a list of decimal numbers
+     * @throws CSVWrongFormatException if the csv file cannot be found or read or has the wrong format
+     */
+    public static List<Double> importShippingCosts(String path) throws CSVWrongFormatException {
+        return importTariff(path).getShippingCosts();
+    }
+
+    /**
+     * This method imports the shipping costs from a reader with the content of a csv file.
+     * The reader is closed afterwards.
+     * 
+     * @param reader The reader of the csv content
+     * @return The shipping costs as a list of decimal numbers
+     * @throws CSVWrongFormatException if the csv content cannot be read or has the wrong format
+     */
+    public static List<Double> importShippingCosts(Reader reader) throws CSVWrongFormatException {
+        return importTariff(reader).getShippingCosts();
+    }
+
+    /**
+     * This method imports the tariff from the csv file at the given path.
+     * The file is read with {@link #readContent(Path)} and parsed from its bytes.
+     * 
+     * @param path The path of the csv file
+     * @return The tariff with its limits, tiers and shipping costs
+     * @throws CSVWrongFormatException if the csv file cannot be found or read, is too large or has the wrong format
+     * @see #importTariff(ByteBuffer)
+     */
+    public static Tariff importTariff(String path) throws CSVWrongFormatException {
+        // Check if the file exists
+        if (!new File(path).exists()) {
+            throw new CSVWrongFormatException(Constants.Exceptions.CSV_FILE_NOT_FOUND);
+        }
+        return importTariff(readContent(Path.of(path)));
+    }
+
+    /**
+     * This method reads the content of a file into a buffer.
+     * A small file is read at once, a file of at least {@link #MAP_THRESHOLD} bytes is mapped into memory, so that only
+     * the pages that are read are loaded. A mapping keeps the file open until it is garbage collected, which would
+     * block replacing or deleting a small file on Windows.
+     * 
+     * @param file The path of the file
+     * @return The buffer with the content of the file
+     * @throws CSVWrongFormatException if the file cannot be found or read (with the error as cause)
+     *         or is larger than a buffer can hold
+     */
+    static ByteBuffer readContent(Path file) throws CSVWrongFormatException {
+        try {
+            long size = Files.size(file);
+            if (size < MAP_THRESHOLD) {
+                return ByteBuffer.wrap(Files.readAllBytes(file));
+            }
+            // a buffer is indexed by int
+            if (size > Integer.MAX_VALUE) {
+                throw new CSVWrongFormatException(Constants.Exceptions.CSV_FILE_TOO_LARGE + file);
+            }
+            try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+                return channel.map(FileChannel.MapMode.READ_ONLY, 0, size);
+            }
+        } catch (NoSuchFileException e) {
+            throw new CSVWrongFormatException(Constants.Exceptions.CSV_FILE_NOT_FOUND, e);
+        } catch (IOException e) {
+            throw new CSVWrongFormatException(Constants.Exceptions.FILE_NOT_READABLE + file, e);
+        }
+    }
+
+    /**
+     * This method opens the rate card at the given path for streaming. The rows are read through a fixed size buffer
+     * and validated one by one, so the file is never held in memory as a whole.
+     * 
+     * @param path The path of the csv file with one row {@code zone;service;maxWeight;price} per weight band
+     * @return The reader of the rate card, which has to be closed
+     * @throws CSVWrongFormatException if the csv file cannot be found or opened
+     * @see RateCard#load(String)
+     */
+    public static RateCardReader openRateCard(String path) throws CSVWrongFormatException {
+        // Check if the file exists
+        if (!new File(path).exists()) {
+            throw new CSVWrongFormatException(Constants.Exceptions.CSV_FILE_NOT_FOUND);
+        }
+
+        try {
+            return new RateCardReader(FileChannel.open(Path.of(path), StandardOpenOption.READ));
+        } catch (IOException e) {
+            throw new CSVWrongFormatException(e.getMessage());
+        }
+    }
+
+    /**
+     * This method imports the tariff from a reader with the content of a csv file.
+     * The reader is closed afterwards.
+     * 
+     * @param reader The reader of the csv content
+     * @return The tariff with its limits, tiers and shipping costs
+     * @throws CSVWrongFormatException if the csv content cannot be read or has the wrong format
+     * @see #importTariff(ByteBuffer)
+     */
+    public static Tariff importTariff(Reader reader) throws CSVWrongFormatException {
+        StringWriter content = new StringWriter();
+        try (reader) {
+            reader.transferTo(content);
+        } catch (IOException e) {
+            throw new CSVWrongFormatException(e.getMessage());
+        }
+        return importTariff(ByteBuffer.wrap(content.toString().getBytes(StandardCharsets.UTF_8)));
+    }
+
+    /**
+     * This method imports the tariff from the UTF-8 bytes of a csv file between the position and the limit of the buffer.
+     * The bytes are parsed directly, without creating a string per line or value.
+     * 
+     * <p>The csv content has one of two formats:</p>
+     * <ul>
+     *   <li>a single row with the five shipping costs of the default tiers, e.g. {@code 3.89;4.39;5.89;7.99;14.99}</li>
+     *   <li>a rule table: a row {@code LIMITS;length;width;height;weight} with the limits of all packets, followed by
+     *       one row {@code TIER;length;width;height;weight;girth;costs} per tier in the order they are checked
+     *       (in mm, g and €, {@code -} for no girth limit)</li>
+     * </ul>
+     * 
+     * @param content The buffer with the csv content, e.g. a memory-mapped file
+     * @return The tariff with its limits, tiers and shipping costs
+     * @throws CSVWrongFormatException if the csv content is empty or has the wrong format,
+     *         a value that cannot be read is reported with its line and column
+     */
+    public static Tariff importTariff(ByteBuffer content) throws CSVWrongFormatException {
+        CsvByteParser parser = new CsvByteParser(content);
+
+        // Check if the file is empty
+        if (!parser.nextLine()) {
+            throw new CSVWrongFormatException(Constants.Exceptions.CSV_FILE_EMPTY);
+        }
+        parser.expectField();
+        if (parser.fieldEquals(LIMITS)) {
+            return importRuleTable(parser);
+        }
+
+        // The first row has five shipping costs, they are parsed directly into euro cents
+        long[] shippingCostsCents = new long[5];
+        for (int i = 0; i < shippingCostsCents.length; i++) {
+            if (i > 0) {
+                parser.expectField();
+            }
+            shippingCostsCents[i] = parser.parseCents();
+        }
+        parser.expectLineEnd();
+        return Tariff.ofShippingCostsCents(shippingCostsCents);
+    }
+
+    /**
+     * This method imports a tariff in the rule table format.
+     * 
+     * @param parser The parser positioned at the first value of the first row with the limits of all packets
+     * @return The tariff with its limits, tiers and shipping costs
+     * @throws CSVWrongFormatException if the csv content has the wrong format or the limits or tiers are invalid
+     */
+    private static Tariff importRuleTable(CsvByteParser parser) throws CSVWrongFormatException {
+        int[] limits = new int[4];
+        for (int i = 0; i < limits.length; i++) {
+            parser.expectField();
+            limits[i] = parseLimit(parser);
+        }
+        parser.expectLineEnd();
+
+        List<Tariff.Tier> tiers = new ArrayList<>();
+        while (parser.nextLine()) {
+            // skip empty rows
+            if (parser.isBlankLine()) {
+                continue;
+            }
+            parser.expectField();
+            if (!parser.fieldEquals(TIER)) {
+                throw parser.error();
+            }
+            int[] values = new int[5];
+            for (int i = 0; i < values.length; i++) {
+                parser.expectField();
+                values[i] = parseLimit(parser);
+            }
+            parser.expectField();
+            long cents = parser.parseCents();
+            parser.expectLineEnd();
+            tiers.add(new Tariff.Tier(values[0], values[1], values[2], values[3], values[4], cents));
+        }
+        return new Tariff(limits[0], limits[1], limits[2], limits[3], tiers);
+    }
+
+    /**
+     * This method parses a limit of the rule table.
+     * 
+     * @param parser The parser positioned at the limit
+     * @return The limit or {@link Tariff#NO_LIMIT} for {@code -}
+     * @throws CSVWrongFormatException if the value is not an integer
+     */
+    private static int parseLimit(CsvByteParser parser) throws CSVWrongFormatException {
+        if (parser.fieldEquals(NO_LIMIT)) {
+            return Tariff.NO_LIMIT;
+        }
+        return parser.parseInt();
+    }
+}
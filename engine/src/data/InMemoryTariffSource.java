@@ -0,0 +1,66 @@
+package data;
+
+import data.Exceptions.CSVWrongFormatException;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * A {@link TariffSource} with a tariff held in memory, e.g. for tests or tariffs received from another system.
+ */
+class InMemoryTariffSource implements TariffSource {
+
+    /** the shipping costs of the default tiers (in €) or null if a complete tariff is given */
+    private final List<Double> shippingCosts;
+
+    /** the complete tariff or null if only the shipping costs are given */
+    private final Tariff tariff;
+
+    /**
+     * Constructs a new source for shipping costs held in memory, which are used with the default tiers.
+     *
+     * @param shippingCosts The shipping costs (in €), the array is copied
+     */
+    InMemoryTariffSource(double[] shippingCosts) {
+        List<Double> values = new ArrayList<>();
+        for (double shippingCost : shippingCosts) {
+            values.add(shippingCost);
+        }
+        this.shippingCosts = List.copyOf(values);
+        this.tariff = null;
+    }
+
+    /**
+     * Constructs a new source for a tariff held in memory.
+     *
+     * @param tariff The tariff
+     */
+    InMemoryTariffSource(Tariff tariff) {
+        this.shippingCosts = null;
+        this.tariff = tariff;
+    }
+
+    /**
+     * Returns the tariff.
+     *
+     * @return The tariff with its limits, tiers and shipping costs
+     * @throws CSVWrongFormatException if the shipping costs do not have the format of a csv file (5 shipping costs)
+     */
+    @Override
+    public Tariff load() throws CSVWrongFormatException {
+        if (tariff != null) {
+            return tariff;
+        }
+        return Tariff.ofShippingCosts(shippingCosts);
+    }
+
+    /**
+     * Returns the name of the source.
+     *
+     * @return the name of the source
+     */
+    @Override
+    public String getName() {
+        return "memory";
+    }
+}
@@ -0,0 +1,189 @@
+package data;
+
+import data.Exceptions.CSVWrongFormatException;
+
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * The {@code RateCard} holds the prices of a rate card by zone, service and weight band.
+ *
+ * <p>The rate card is built row by row from a {@link RateCardReader}, so only the index is kept in memory, not the text.
+ * The weight bands of every zone and service are stored in two sorted arrays (maximum weight and price), the band of
+ * a weight is found with a binary search. The rows of a zone and service have to be in ascending order of their
+ * maximum weight, the rows of different zones and services may be mixed.</p>
+ *
+ * <p>A rate card is immutable and can be used by several threads at once.</p>
+ */
+public final class RateCard {
+
+    /** price of a packet that is not in any weight band of its zone and service */
+    public static final long NO_PRICE = -1;
+
+    /**
+     * The weight bands of a zone and service.
+     *
+     * @param maxWeights the maximum weights of the bands in g, in ascending order
+     * @param pricesCents the prices of the bands in euro cents
+     */
+    private record Bands(int[] maxWeights, long[] pricesCents) {
+    }
+
+    /**
+     * The weight bands of a zone and service while the rate card is read.
+     */
+    private static final class BandsBuilder {
+        /** the maximum weights of the bands */
+        private int[] maxWeights = new int[8];
+
+        /** the prices of the bands */
+        private long[] pricesCents = new long[8];
+
+        /** the number of bands */
+        private int size;
+
+        /**
+         * Adds the band of a row.
+         *
+         * @param row the row with the band
+         * @throws CSVWrongFormatException if the maximum weight is not greater than the one of the last band
+         */
+        void add(RateCardReader.Row row) throws CSVWrongFormatException {
+            if (size > 0 && row.maxWeight() <= maxWeights[size - 1]) {
+                throw new CSVWrongFormatException(String.format(Constants.Exceptions.RATE_CARD_WEIGHT_ORDER, row.line()));
+            }
+            if (size == maxWeights.length) {
+                maxWeights = Arrays.copyOf(maxWeights, size * 2);
+                pricesCents = Arrays.copyOf(pricesCents, size * 2);
+            }
+            maxWeights[size] = row.maxWeight();
+            pricesCents[size] = row.priceCents();
+            size++;
+        }
+
+        /**
+         * Returns the bands with arrays of their exact size.
+         *
+         * @return the bands
+         */
+        Bands build() {
+            return new Bands(Arrays.copyOf(maxWeights, size), Arrays.copyOf(pricesCents, size));
+        }
+    }
+
+    /** the weight bands by zone and service */
+    private final Map<String, Map<String, Bands>> bands;
+
+    /** the number of rows of the rate card */
+    private final int rowCount;
+
+    /**
+     * Constructs a rate card.
+     *
+     * @param bands the weight bands by zone and service
+     * @param rowCount the number of rows
+     */
+    private RateCard(Map<String, Map<String, Bands>> bands, int rowCount) {
+        this.bands = bands;
+        this.rowCount = rowCount;
+    }
+
+    /**
+     * Loads the rate card from the csv file at the given path.
+     *
+     * @param path the path of the csv file
+     * @return the rate card
+     * @throws CSVWrongFormatException if the csv file cannot be found or read or has the wrong format
+     * @see Importer#openRateCard(String)
+     */
+    public static RateCard load(String path) throws CSVWrongFormatException {
+        try (RateCardReader reader = Importer.openRateCard(path)) {
+            return of(reader);
+        } catch (IOException e) {
+            throw new CSVWrongFormatException(e.getMessage());
+        }
+    }
+
+    /**
+     * Builds the rate card from all rows of a reader. The reader is not closed.
+     *
+     * @param reader the reader of the rate card
+     * @return the rate card
+     * @throws CSVWrongFormatException if a row has the wrong format or the weight bands are not ascending
+     */
+    public static RateCard of(RateCardReader reader) throws CSVWrongFormatException {
+        Map<String, Map<String, BandsBuilder>> builders = new HashMap<>();
+        int rows = 0;
+        RateCardReader.Row row;
+        while ((row = reader.next()) != null) {
+            builders.computeIfAbsent(row.zone(), zone -> new HashMap<>())
+                .computeIfAbsent(row.service(), service -> new BandsBuilder())
+                .add(row);
+            rows++;
+        }
+
+        Map<String, Map<String, Bands>> bands = new HashMap<>();
+        for (Map.Entry<String, Map<String, BandsBuilder>> zone : builders.entrySet()) {
+            Map<String, Bands> services = new HashMap<>();
+            for (Map.Entry<String, BandsBuilder> service : zone.getValue().entrySet()) {
+                services.put(service.getKey(), service.getValue().build());
+            }
+            bands.put(zone.getKey(), Map.copyOf(services));
+        }
+        return new RateCard(Map.copyOf(bands), rows);
+    }
+
+    /**
+     * Returns the price of a packet, which is the price of the first weight band of its zone and service whose
+     * maximum weight is not exceeded.
+     *
+     * @param zone the zone
+     * @param service the service
+     * @param weight the weight of the packet in g
+     * @return the price in euro cents or {@link #NO_PRICE} if the zone or the service is unknown
+     *         or the packet is heavier than every band
+     */
+    public long getPriceCents(String zone, String service, int weight) {
+        Map<String, Bands> services = bands.get(zone);
+        Bands serviceBands = services == null ? null : services.get(service);
+        if (serviceBands == null) {
+            return NO_PRICE;
+        }
+        int position = Arrays.binarySearch(serviceBands.maxWeights(), weight);
+        // not found: the insertion point is the first band with a greater maximum weight
+        int band = position >= 0 ? position : -position - 1;
+        return band < serviceBands.pricesCents().length ? serviceBands.pricesCents()[band] : NO_PRICE;
+    }
+
+    /**
+     * Returns the zones of the rate card.
+     *
+     * @return the unmodifiable set of zones
+     */
+    public Set<String> getZones() {
+        return bands.keySet();
+    }
+
+    /**
+     * Returns the services of a zone.
+     *
+     * @param zone the zone
+     * @return the unmodifiable set of services, empty if the zone is unknown
+     */
+    public Set<String> getServices(String zone) {
+        Map<String, Bands> services = bands.get(zone);
+        return services == null ? Set.of() : services.keySet();
+    }
+
+    /**
+     * Returns the number of rows the rate card was built from.
+     *
+     * @return the number of rows
+     */
+    public int getRowCount() {
+        return rowCount;
+    }
+}
@@ -0,0 +1,206 @@
+package data;
+
+import data.Exceptions.CSVWrongFormatException;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * The {@code RateCardReader} streams the rows of a rate card ({@code zone;service;maxWeight;price}, in g and €) from
+ * a channel, so that rate cards with many thousand rows are loaded without holding their text in memory.
+ *
+ * <p>The content is read through a fixed size buffer. Every call of {@link #next()} returns the next row, which is
+ * validated when it is read: an invalid row stops the reading with a {@link CSVWrongFormatException} that names its
+ * line and column. Blank rows and an optional header row starting with {@code ZONE} are skipped.</p>
+ *
+ * <p>An instance is not thread-safe. It has to be closed to close the channel.</p>
+ */
+public final class RateCardReader implements Closeable {
+
+    /** size of the read buffer in bytes, which is also the maximum length of a row */
+    static final int BUFFER_SIZE = 1 << 16;
+
+    /** the first value of the header row */
+    private static final byte[] HEADER = Constants.Symbols.CSV_RATE_CARD_HEADER.getBytes(StandardCharsets.US_ASCII);
+
+    /**
+     * A row of the rate card.
+     *
+     * @param line the line of the row in the rate card, starting with 1
+     * @param zone the zone the price applies to
+     * @param service the service the price applies to, e.g. standard or express
+     * @param maxWeight the maximum weight of the weight band in g
+     * @param priceCents the price of the weight band in euro cents
+     */
+    public record Row(int line, String zone, String service, int maxWeight, long priceCents) {
+    }
+
+    /** the channel of the rate card */
+    private final ReadableByteChannel channel;
+
+    /** the read buffer, the bytes from index 0 to {@link #filled} are read but not yet parsed */
+    private final ByteBuffer buffer = ByteBuffer.allocate(BUFFER_SIZE);
+
+    /** the number of bytes in the buffer */
+    private int filled;
+
+    /** the index after the last line break of the bytes that are parsed */
+    private int chunkEnd;
+
+    /** the parser of the complete lines in the buffer or null if the buffer has to be filled */
+    private CsvByteParser parser;
+
+    /** the number of lines of the chunks that are parsed completely */
+    private int linesBefore;
+
+    /** true if the end of the channel was reached */
+    private boolean endOfInput;
+
+    /**
+     * Constructs a reader for the rate card of a channel.
+     *
+     * @param channel the channel of the rate card
+     */
+    public RateCardReader(ReadableByteChannel channel) {
+        this.channel = channel;
+    }
+
+    /**
+     * Reads and validates the next row of the rate card.
+     *
+     * @return the row or null at the end of the rate card
+     * @throws CSVWrongFormatException if the channel cannot be read or the row has the wrong format,
+     *         with the line and the column of the value that cannot be read
+     */
+    public Row next() throws CSVWrongFormatException {
+        while (true) {
+            while (parser != null && parser.nextLine()) {
+                if (parser.isBlankLine()) {
+                    continue;
+                }
+                parser.expectField();
+                if (parser.getLine() == 1 && parser.fieldEquals(HEADER)) {
+                    continue;
+                }
+                return parseRow();
+            }
+            if (!fill()) {
+                return null;
+            }
+        }
+    }
+
+    /**
+     * Parses the current row, whose first field is the zone.
+     *
+     * @return the row
+     * @throws CSVWrongFormatException if the row has the wrong format
+     */
+    private Row parseRow() throws CSVWrongFormatException {
+        int line = parser.getLine();
+        String zone = parseName();
+        parser.expectField();
+        String service = parseName();
+        parser.expectField();
+        int maxWeight = parser.parseInt();
+        if (maxWeight <= 0) {
+            throw parser.error();
+        }
+        parser.expectField();
+        long priceCents = parser.parseCents();
+        parser.expectLineEnd();
+        return new Row(line, zone, service, maxWeight, priceCents);
+    }
+
+    /**
+     * Parses the current field as a name, which must not be empty.
+     *
+     * @return the name
+     * @throws CSVWrongFormatException if the field is empty
+     */
+    private String parseName() throws CSVWrongFormatException {
+        String name = parser.fieldText();
+        if (name.isBlank()) {
+            throw parser.error();
+        }
+        return name;
+    }
+
+    /**
+     * Drops the parsed lines from the buffer and reads until the buffer contains at least one complete line
+     * or the end of the channel is reached.
+     *
+     * @return true if there are lines to parse, false at the end of the channel
+     * @throws CSVWrongFormatException if the channel cannot be read or a line does not fit into the buffer
+     */
+    private boolean fill() throws CSVWrongFormatException {
+        if (parser != null) {
+            linesBefore = parser.getLine();
+            parser = null;
+        }
+        if (chunkEnd > 0) {
+            // keep the beginning of the next line
+            buffer.limit(filled).position(chunkEnd);
+            buffer.compact();
+            filled = buffer.position();
+            chunkEnd = 0;
+        }
+        while (chunkEnd == 0) {
+            chunkEnd = lastLineEnd();
+            if (chunkEnd > 0) {
+                break;
+            }
+            if (endOfInput) {
+                if (filled == 0) {
+                    return false;
+                }
+                // the last line does not need to end with a line break
+                chunkEnd = filled;
+                break;
+            }
+            if (filled == buffer.capacity()) {
+                throw new CSVWrongFormatException(String.format(Constants.Exceptions.RATE_CARD_LINE_TOO_LONG, linesBefore + 1));
+            }
+            buffer.limit(buffer.capacity()).position(filled);
+            try {
+                if (channel.read(buffer) < 0) {
+                    endOfInput = true;
+                }
+            } catch (IOException e) {
+                throw new CSVWrongFormatException(e.getMessage());
+            }
+            filled = buffer.position();
+        }
+        ByteBuffer chunk = buffer.duplicate();
+        chunk.limit(chunkEnd).position(0);
+        parser = new CsvByteParser(chunk, linesBefore);
+        return true;
+    }
+
+    /**
+     * Returns the index after the last line break in the buffer.
+     *
+     * @return the index after the last line break or 0 if there is none
+     */
+    private int lastLineEnd() {
+        for (int i = filled - 1; i >= 0; i--) {
+            if (buffer.get(i) == '\n') {
+                return i + 1;
+            }
+        }
+        return 0;
+    }
+
+    /**
+     * Closes the channel of the rate card.
+     *
+     * @throws IOException if the channel cannot be closed
+     */
+    @Override
+    public void close() throws IOException {
+        channel.close();
+    }
+}
@@ -0,0 +1,279 @@
+package data;
+
+import data.Exceptions.CSVWrongFormatException;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * A {@code Tariff} is the immutable rule set for the shipping costs: the limits a packet must not exceed
+ * and an ordered list of tiers with their own limits and shipping costs.
+ *
+ * <p>A packet belongs to the first tier whose limits it does not exceed. The limits of all tiers are precompiled into
+ * one flat {@code int} array, which is evaluated for all tiers without a branch per rule (see {@link #findTier}),
+ * so adding tiers does not add branches to the hot path.</p>
+ */
+public final class Tariff {
+
+    /** maximum number of tiers of a tariff */
+    public static final int MAX_TIERS = 64;
+
+    /** limit of a tier without a girth limit */
+    public static final int NO_LIMIT = Integer.MAX_VALUE;
+
+    /** number of limits per tier in the precompiled table */
+    private static final int LIMITS_PER_TIER = 5;
+
+    /** the limits used for csv files that only contain the five shipping costs (in mm and g) */
+    private static final int[] DEFAULT_LIMITS = {1200, 600, 600, 31000};
+
+    /** the tiers used for csv files that only contain the five shipping costs (in mm and g) */
+    private static final int[][] DEFAULT_TIERS = {
+        {300, 300, 150, 1000, NO_LIMIT},
+        {600, 300, 150, 2000, NO_LIMIT},
+        {1200, 600, 600, 5000, 3000},
+        {1200, 600, 600, 10000, 3000},
+        {1200, 600, 600, 31000, NO_LIMIT}
+    };
+
+    /**
+     * A tier of the tariff.
+     *
+     * @param maxLength the maximum length (largest dimension) in mm
+     * @param maxWidth the maximum width (middle dimension) in mm
+     * @param maxHeight the maximum height (smallest dimension) in mm
+     * @param maxWeight the maximum weight in g
+     * @param maxGirth the maximum girth in mm or {@link #NO_LIMIT}
+     * @param shippingCostsCents the shipping costs of the tier in euro cents
+     */
+    public record Tier(int maxLength, int maxWidth, int maxHeight, int maxWeight, int maxGirth, long shippingCostsCents) {
+    }
+
+    /** the limits of the tariff */
+    private final int maxLength;
+    private final int maxWidth;
+    private final int maxHeight;
+    private final int maxWeight;
+
+    /** the tiers in the order they are checked */
+    private final List<Tier> tiers;
+
+    /** the shipping costs of the tiers in € */
+    private final List<Double> shippingCosts;
+
+    /** the shipping costs of the tiers in euro cents */
+    private final long[] shippingCostsCents;
+
+    /** the formatted shipping costs of the tiers, e.g. {@code 3.89 €} */
+    private final String[] priceTexts;
+
+    /** the precompiled limits of all tiers (length, width, height, weight, girth per tier) */
+    private final int[] tierLimits;
+
+    /**
+     * Constructs a new tariff.
+     *
+     * @param maxLength the maximum length (largest dimension) of any packet in mm
+     * @param maxWidth the maximum width (middle dimension) of any packet in mm
+     * @param maxHeight the maximum height (smallest dimension) of any packet in mm
+     * @param maxWeight the maximum weight of any packet in g
+     * @param tiers the tiers in the order they are checked
+     * @throws CSVWrongFormatException if a limit is not positive, the girth of the limits does not fit into an int
+     *         or the number of tiers is not between 1 and {@link #MAX_TIERS}
+     */
+    public Tariff(int maxLength, int maxWidth, int maxHeight, int maxWeight, List<Tier> tiers) throws CSVWrongFormatException {
+        // the girth of every packet in bounds has to fit into an int
+        long maxGirth = maxLength + 2L * maxWidth + 2L * maxHeight;
+        if (maxLength <= 0 || maxWidth <= 0 || maxHeight <= 0 || maxWeight <= 0 || maxGirth > Integer.MAX_VALUE
+            || tiers.isEmpty() || tiers.size() > MAX_TIERS) {
+            throw new CSVWrongFormatException(Constants.Exceptions.CSV_FILE_WRONG_FORMAT);
+        }
+        this.maxLength = maxLength;
+        this.maxWidth = maxWidth;
+        this.maxHeight = maxHeight;
+        this.maxWeight = maxWeight;
+        this.tiers = List.copyOf(tiers);
+
+        List<Double> costs = new ArrayList<>();
+        shippingCostsCents = new long[tiers.size()];
+        priceTexts = new String[tiers.size()];
+        tierLimits = new int[tiers.size() * LIMITS_PER_TIER];
+        for (int i = 0; i < tiers.size(); i++) {
+            Tier tier = tiers.get(i);
+            if (tier.maxLength() <= 0 || tier.maxWidth() <= 0 || tier.maxHeight() <= 0 || tier.maxWeight() <= 0
+                || tier.maxGirth() <= 0 || tier.shippingCostsCents() < 0) {
+                throw new CSVWrongFormatException(Constants.Exceptions.CSV_FILE_WRONG_FORMAT);
+            }
+            int offset = i * LIMITS_PER_TIER;
+            tierLimits[offset] = tier.maxLength();
+            tierLimits[offset + 1] = tier.maxWidth();
+            tierLimits[offset + 2] = tier.maxHeight();
+            tierLimits[offset + 3] = tier.maxWeight();
+            tierLimits[offset + 4] = tier.maxGirth();
+            shippingCostsCents[i] = tier.shippingCostsCents();
+            priceTexts[i] = formatCents(tier.shippingCostsCents()) + Constants.Symbols.EURO;
+            costs.add(tier.shippingCostsCents() / 100.0);
+        }
+        this.shippingCosts = List.copyOf(costs);
+    }
+
+    /**
+     * Creates a tariff with the default limits and tiers for the given five shipping costs.
+     * This is the tariff of csv files that only contain the shipping costs.
+     *
+     * @param shippingCostsCents the shipping costs of the five default tiers in euro cents
+     * @return the tariff
+     * @throws CSVWrongFormatException if there are not exactly five shipping costs
+     */
+    public static Tariff ofShippingCostsCents(long... shippingCostsCents) throws CSVWrongFormatException {
+        if (shippingCostsCents.length != DEFAULT_TIERS.length) {
+            throw new CSVWrongFormatException(Constants.Exceptions.CSV_FILE_WRONG_FORMAT);
+        }
+        List<Tier> tiers = new ArrayList<>();
+        for (int i = 0; i < DEFAULT_TIERS.length; i++) {
+            int[] limits = DEFAULT_TIERS[i];
+            tiers.add(new Tier(limits[0], limits[1], limits[2], limits[3], limits[4], shippingCostsCents[i]));
+        }
+        return new Tariff(DEFAULT_LIMITS[0], DEFAULT_LIMITS[1], DEFAULT_LIMITS[2], DEFAULT_LIMITS[3], tiers);
+    }
+
+    /**
+     * Creates a tariff with the default limits and tiers for the given five shipping costs in €,
+     * which are rounded to euro cents.
+     *
+     * @param shippingCosts the shipping costs of the five default tiers in €
+     * @return the tariff
+     * @throws CSVWrongFormatException if there are not exactly five shipping costs
+     * @see #ofShippingCostsCents(long...)
+     */
+    public static Tariff ofShippingCosts(List<Double> shippingCosts) throws CSVWrongFormatException {
+        long[] shippingCostsCents = new long[shippingCosts.size()];
+        for (int i = 0; i < shippingCostsCents.length; i++) {
+            shippingCostsCents[i] = Math.round(shippingCosts.get(i) * 100);
+        }
+        return ofShippingCostsCents(shippingCostsCents);
+    }
+
+    /**
+     * Formats an amount of euro cents as decimal number with two decimal places, e.g. {@code 3.89}.
+     *
+     * @param cents the amount in euro cents
+     * @return the formatted amount without currency symbol
+     */
+    public static String formatCents(long cents) {
+        long absolute = Math.abs(cents);
+        long fraction = absolute % 100;
+        return (cents < 0 ? "-" : "") + absolute / 100 + (fraction < 10 ? ".0" : ".") + fraction;
+    }
+
+    /**
+     * Returns the index of the first tier whose limits the packet does not exceed.
+     *
+     * <p>The dimensions have to be sorted (length &gt;= width &gt;= height), positive and within the limits of the
+     * tariff. Every tier is checked without a branch: the differences between the limits and the values are combined,
+     * a negative result means that a limit is exceeded. The matching tiers are collected in a bit mask and the first
+     * one is taken.</p>
+     *
+     * @param length the largest dimension of the packet in mm
+     * @param width the middle dimension of the packet in mm
+     * @param height the smallest dimension of the packet in mm
+     * @param weight the weight of the packet in g
+     * @return the index of the tier or -1 if the packet does not fit into any tier
+     */
+    public int findTier(int length, int width, int height, int weight) {
+        int girth = length + 2 * width + 2 * height;
+        int[] limits = tierLimits;
+        long matches = 0;
+        for (int tier = 0, offset = 0; offset < limits.length; tier++, offset += LIMITS_PER_TIER) {
+            int exceeded = (limits[offset] - length) | (limits[offset + 1] - width) | (limits[offset + 2] - height)
+                | (limits[offset + 3] - weight) | (limits[offset + 4] - girth);
+            // the sign bit is set if any limit is exceeded
+            matches |= (long) (~exceeded >>> 31) << tier;
+        }
+        return matches == 0 ? -1 : Long.numberOfTrailingZeros(matches);
+    }
+
+    /**
+     * Returns the maximum length (largest dimension) of any packet.
+     *
+     * @return the maximum length in mm
+     */
+    public int getMaxLength() {
+        return maxLength;
+    }
+
+    /**
+     * Returns the maximum width (middle dimension) of any packet.
+     *
+     * @return the maximum width in mm
+     */
+    public int getMaxWidth() {
+        return maxWidth;
+    }
+
+    /**
+     * Returns the maximum height (smallest dimension) of any packet.
+     *
+     * @return the maximum height in mm
+     */
+    public int getMaxHeight() {
+        return maxHeight;
+    }
+
+    /**
+     * Returns the maximum weight of any packet.
+     *
+     * @return the maximum weight in g
+     */
+    public int getMaxWeight() {
+        return maxWeight;
+    }
+
+    /**
+     * Returns the tiers in the order they are checked.
+     *
+     * @return the unmodifiable list of tiers
+     */
+    public List<Tier> getTiers() {
+        return tiers;
+    }
+
+    /**
+     * Returns the shipping costs of the tiers.
+     *
+     * @return the unmodifiable list of shipping costs in €
+     * @see #getShippingCostsCents(int)
+     */
+    public List<Double> getShippingCosts() {
+        return shippingCosts;
+    }
+
+    /**
+     * Returns the number of tiers.
+     *
+     * @return the number of tiers
+     */
+    public int getTierCount() {
+        return shippingCostsCents.length;
+    }
+
+    /**
+     * Returns the shipping costs of a tier without boxing or floating point numbers.
+     *
+     * @param tier the index of the tier
+     * @return the shipping costs in euro cents
+     */
+    public long getShippingCostsCents(int tier) {
+        return shippingCostsCents[tier];
+    }
+
+    /**
+     * Returns the formatted shipping costs of a tier, which are created once with the tariff.
+     *
+     * @param tier the index of the tier
+     * @return the shipping costs with currency symbol, e.g. {@code 3.89 €}
+     */
+    public String getPriceText(int tier) {
+        return priceTexts[tier];
+    }
+}
@@ -0,0 +1,378 @@
+package data;
+
+import data.Exceptions.CSVWrongFormatException;
+
+import java.io.IOException;
+import java.nio.file.ClosedWatchServiceException;
+import java.nio.file.FileSystems;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardWatchEventKinds;
+import java.nio.file.WatchEvent;
+import java.nio.file.WatchKey;
+import java.nio.file.WatchService;
+import java.util.List;
+import java.util.zip.CRC32;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Consumer;
+
+/**
+ * The {@code TariffCache} keeps the {@link Tariff} of a {@link TariffSource} in memory, so that the csv file
+ * does not have to be read again for every calculation.
+ *
+ * <p>The table is loaded once on first access. Afterwards the file of the source (if any) is watched with a
+ * {@link WatchService} and the table is replaced as a whole when the file changes. Readers only read a volatile reference,
+ * so they never block and never see a half-loaded table. If a changed file cannot be read
+ * (e.g. because it is still being written), the previous table is kept. A change is recognized by a checksum of the
+ * content, so that an edit that keeps the size and the modification time of the file is loaded as well.</p>
+ *
+ * <p>A cache that watches a file should be closed when it is no longer used, which stops the watcher thread.
+ * The tariff held in memory stays available after closing.</p>
+ */
+public class TariffCache implements AutoCloseable {
+
+    /** the cache for the default shipping costs file */
+    private static final TariffCache DEFAULT = new TariffCache(defaultSource());
+
+    /** the source of the shipping costs */
+    private final TariffSource source;
+
+    /** the file watched for changes or null */
+    private final Path path;
+
+    /** the currently active, immutable tariff (null until the first load) */
+    private volatile Tariff tariff;
+
+    /** checksum of the content of the file when it was last loaded */
+    private volatile long loadedChecksum;
+
+    /** the watcher thread, started after the first successful load */
+    private Thread watcher;
+
+    /** the watch service of the watcher thread or null */
+    private WatchService watchService;
+
+    /** true after the cache was closed, so that no watcher is started anymore */
+    private boolean closed;
+
+    /** number of successful loads, written while holding the lock */
+    private volatile long reloadCount;
+
+    /** number of failed loads, written while holding the lock */
+    private volatile long reloadFailureCount;
+
+    /** duration of the last load in nanoseconds */
+    private volatile long lastReloadNanos;
+
+    /** total duration of all loads in nanoseconds */
+    private volatile long totalReloadNanos;
+
+    /** the listeners notified after every successful load */
+    private final List<Consumer<Tariff>> listeners = new CopyOnWriteArrayList<>();
+
+    /**
+     * Constructor for the TariffCache class.
+     *
+     * @param path The path of the csv file
+     */
+    public TariffCache(String path) {
+        this(TariffSource.ofFile(path));
+    }
+
+    /**
+     * Constructor for the TariffCache class.
+     *
+     * @param source The source of the shipping costs
+     */
+    public TariffCache(TariffSource source) {
+        this.source = source;
+        this.path = source.getWatchPath();
+    }
+
+    /**
+     * Returns the source of the shipping costs.
+     *
+     * @return the source of the shipping costs
+     */
+    public TariffSource getSource() {
+        return source;
+    }
+
+    /**
+     * Returns the cache for the default shipping costs. It is shared by the whole application and watches
+     * a configured file until the application ends, so it is not closed by its users.
+     *
+     * @return the default tariff cache
+     */
+    public static TariffCache getDefault() {
+        return DEFAULT;
+    }
+
+    /**
+     * Returns the source of the default shipping costs. A file given with the system property
+     * {@value Constants.FilePaths#SHIPPING_COSTS_PROPERTY} is read and watched, otherwise the tariff is read from
+     * the resource {@value Constants.FilePaths#SHIPPING_COSTS_RESOURCE} of the engine module, so it does not depend
+     * on the working directory.
+     *
+     * @return the source of the default shipping costs
+     */
+    private static TariffSource defaultSource() {
+        String file = System.getProperty(Constants.FilePaths.SHIPPING_COSTS_PROPERTY);
+        return file != null ? TariffSource.ofFile(file) : TariffSource.ofClasspath(Constants.FilePaths.SHIPPING_COSTS_RESOURCE);
+    }
+
+    /**
+     * Returns the tariff. The csv file is only read on the first call,
+     * later calls return the tariff held in memory.
+     *
+     * @return The tariff with its limits, tiers and shipping costs
+     * @throws CSVWrongFormatException if the csv file cannot be found or read or has the wrong format
+     */
+    public Tariff getTariff() throws CSVWrongFormatException {
+        Tariff current = tariff;
+        if (current == null) {
+            current = loadInitial();
+        }
+        return current;
+    }
+
+    /**
+     * Returns the shipping costs of the tariff.
+     *
+     * @return The shipping costs as an unmodifiable list of decimal numbers
+     * @throws CSVWrongFormatException if the csv file cannot be found or read or has the wrong format
+     * @see #getTariff()
+     */
+    public List<Double> getShippingCosts() throws CSVWrongFormatException {
+        return getTariff().getShippingCosts();
+    }
+
+    /**
+     * Loads the tariff from the source again and replaces the table in memory.
+     * Concurrent reloads are serialized, readers are not affected.
+     *
+     * @return The newly loaded tariff
+     * @throws CSVWrongFormatException if the csv file cannot be found or read or has the wrong format,
+     *         in this case the previous table is kept
+     */
+    public synchronized Tariff reload() throws CSVWrongFormatException {
+        long start = System.nanoTime();
+        long checksum = readChecksum();
+        Tariff loaded;
+        try {
+            loaded = source.load();
+        } catch (CSVWrongFormatException e) {
+            reloadFailureCount++;
+            throw e;
+        } finally {
+            // measure failed loads as well, they take the same time from the watcher
+            lastReloadNanos = System.nanoTime() - start;
+            totalReloadNanos += lastReloadNanos;
+        }
+
+        // publish the complete tariff with a single volatile write
+        loadedChecksum = checksum;
+        tariff = loaded;
+        reloadCount++;
+        for (Consumer<Tariff> listener : listeners) {
+            listener.accept(loaded);
+        }
+        return loaded;
+    }
+
+    /**
+     * Adds a listener that is notified with the new tariff after every successful load, including the first one.
+     * The listener is called on the loading thread (e.g. the watcher thread), so it must not block.
+     *
+     * @param listener the listener to add
+     */
+    public void addListener(Consumer<Tariff> listener) {
+        listeners.add(listener);
+    }
+
+    /**
+     * Removes a listener added with {@link #addListener(Consumer)}.
+     *
+     * @param listener the listener to remove
+     */
+    public void removeListener(Consumer<Tariff> listener) {
+        listeners.remove(listener);
+    }
+
+    /**
+     * Returns the number of successful loads, including the first one.
+     *
+     * @return the number of successful loads
+     */
+    public long getReloadCount() {
+        return reloadCount;
+    }
+
+    /**
+     * Returns the number of loads that failed, e.g. because the file was still being written.
+     *
+     * @return the number of failed loads
+     */
+    public long getReloadFailureCount() {
+        return reloadFailureCount;
+    }
+
+    /**
+     * Returns the duration of the last load, successful or not.
+     *
+     * @return the duration in nanoseconds or 0 if the tariff was never loaded
+     */
+    public long getLastReloadNanos() {
+        return lastReloadNanos;
+    }
+
+    /**
+     * Returns the total duration of all loads, successful or not.
+     *
+     * @return the duration in nanoseconds
+     */
+    public long getTotalReloadNanos() {
+        return totalReloadNanos;
+    }
+
+    /**
+     * Stops watching the file and waits for the watcher thread to end. The tariff held in memory stays available
+     * and can still be loaded again with {@link #reload()}.
+     */
+    @Override
+    public void close() {
+        Thread stopped;
+        synchronized (this) {
+            closed = true;
+            stopped = watcher;
+            if (watchService != null) {
+                try {
+                    // wakes up the watcher thread, which ends with a ClosedWatchServiceException
+                    watchService.close();
+                } catch (IOException e) {
+                    // the watcher is interrupted below instead
+                    stopped.interrupt();
+                }
+            }
+            watcher = null;
+            watchService = null;
+        }
+        // join outside the lock, because the watcher thread may wait for it in a reload
+        if (stopped != null && stopped != Thread.currentThread()) {
+            try {
+                stopped.join();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+
+    /**
+     * Loads the table for the first time and starts watching the file.
+     * Only the first callers block here, until the table is loaded.
+     *
+     * @return the loaded tariff
+     * @throws CSVWrongFormatException if the csv file cannot be found or read or has the wrong format
+     */
+    private synchronized Tariff loadInitial() throws CSVWrongFormatException {
+        Tariff current = tariff;
+        if (current == null) {
+            current = reload();
+            startWatcher();
+        }
+        return current;
+    }
+
+    /**
+     * Starts a daemon thread that reloads the table when the csv file changes.
+     * If the file system does not support watching, the table is only reloaded via {@link #reload()}.
+     */
+    private void startWatcher() {
+        if (watcher != null || path == null || closed) {
+            return;
+        }
+        WatchService service;
+        try {
+            service = FileSystems.getDefault().newWatchService();
+        } catch (IOException | UnsupportedOperationException e) {
+            return;
+        }
+        try {
+            // watch the directory, so that replacing the file (e.g. by renaming) is noticed as well
+            path.getParent().register(service,
+                StandardWatchEventKinds.ENTRY_CREATE,
+                StandardWatchEventKinds.ENTRY_MODIFY);
+        } catch (IOException | UnsupportedOperationException e) {
+            try {
+                service.close();
+            } catch (IOException closeException) {
+                // nothing left to release
+            }
+            return;
+        }
+        watchService = service;
+        watcher = new Thread(() -> watchFile(service), "tariff-watcher-" + source.getName());
+        watcher.setDaemon(true);
+        watcher.start();
+    }
+
+    /**
+     * Waits for changes of the csv file and reloads the table if the file was changed.
+     *
+     * @param watchService the watch service the directory of the csv file is registered with
+     */
+    private void watchFile(WatchService watchService) {
+        try (watchService) {
+            while (true) {
+                WatchKey key = watchService.take();
+                boolean changed = false;
+                for (WatchEvent<?> event : key.pollEvents()) {
+                    if (path.getFileName().equals(event.context())) {
+                        changed = true;
+                    }
+                }
+                // only reload if the content really changed since the last load
+                if (changed && readChecksum() != loadedChecksum) {
+                    tryReload();
+                }
+                if (!key.reset()) {
+                    break;
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (IOException | ClosedWatchServiceException e) {
+            // stop watching, the last loaded table stays active
+        }
+    }
+
+    /**
+     * Reloads the table and keeps the previous table if the file cannot be read.
+     */
+    private void tryReload() {
+        try {
+            reload();
+        } catch (CSVWrongFormatException e) {
+            // keep the previous table, the file may still be written
+        }
+    }
+
+    /**
+     * Returns a checksum of the content of the csv file. Unlike the modification time and the size,
+     * it changes with every edit of the values, even if the file keeps its size.
+     *
+     * @return the CRC32 of the file or -1 if the file cannot be read
+     */
+    private long readChecksum() {
+        if (path == null) {
+            return -1;
+        }
+        try {
+            CRC32 crc = new CRC32();
+            crc.update(Files.readAllBytes(path));
+            return crc.getValue();
+        } catch (IOException e) {
+            return -1;
+        }
+    }
+}
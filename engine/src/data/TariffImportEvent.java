@@ -0,0 +1,88 @@
+package data;
+
+import java.nio.file.Path;
+
+import jdk.jfr.Category;
+import jdk.jfr.DataAmount;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * The {@code TariffImportEvent} is the flight recorder event of a tariff that is loaded from a file or a classpath
+ * resource, successful or not. Tariffs are loaded rarely, so the event is always recorded.
+ */
+@Name(Constants.Events.TARIFF_IMPORT)
+@Label("Tariff Import")
+@Category({Constants.Events.CATEGORY, "Tariff"})
+@Description("A tariff loaded from a csv file, a classpath resource or a snapshot")
+@StackTrace(false)
+final class TariffImportEvent extends Event {
+
+    /** the path of the file or the name of the resource */
+    @Label("File")
+    String file;
+
+    /** the format of the file */
+    @Label("Format")
+    String format;
+
+    /** the size of the file or the resource */
+    @Label("Size")
+    @DataAmount
+    long bytes;
+
+    /** the number of tiers of the loaded tariff */
+    @Label("Tiers")
+    int tiers;
+
+    /** whether the tariff could be loaded */
+    @Label("Success")
+    boolean success;
+
+    /**
+     * Records the event, if it is enabled and exceeds its threshold.
+     *
+     * @param path the path of the file
+     * @param snapshot true if the file is a snapshot
+     * @param tariff the loaded tariff or null if the file could not be loaded
+     */
+    void report(Path path, boolean snapshot, Tariff tariff) {
+        if (shouldCommit()) {
+            report(path.toString(), snapshot ? Constants.Events.FORMAT_SNAPSHOT : Constants.Events.FORMAT_CSV,
+                path.toFile().length(), tariff);
+        }
+    }
+
+    /**
+     * Records the event of a csv resource, if it is enabled and exceeds its threshold.
+     *
+     * @param resource the name of the resource
+     * @param size the number of bytes read from the resource
+     * @param tariff the loaded tariff or null if the resource could not be loaded
+     */
+    void report(String resource, long size, Tariff tariff) {
+        if (shouldCommit()) {
+            report(resource, Constants.Events.FORMAT_CSV, size, tariff);
+        }
+    }
+
+    /**
+     * Sets the fields and records the event.
+     *
+     * @param name the path of the file or the name of the resource
+     * @param fileFormat the format of the file
+     * @param size the size of the file
+     * @param tariff the loaded tariff or null if it could not be loaded
+     */
+    private void report(String name, String fileFormat, long size, Tariff tariff) {
+        file = name;
+        format = fileFormat;
+        bytes = size;
+        tiers = tariff == null ? 0 : tariff.getTierCount();
+        success = tariff != null;
+        commit();
+    }
+}
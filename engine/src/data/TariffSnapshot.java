@@ -0,0 +1,209 @@
+package data;
+
+import data.Exceptions.CSVWrongFormatException;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.zip.CRC32;
+
+/**
+ * The {@code TariffSnapshot} class writes a {@link Tariff} into a compact binary file and reads it back.
+ *
+ * <p>A csv file is compiled once into a snapshot, which is then loaded without any text parsing: the file is read
+ * with a single read and the values are taken from fixed positions. The format (big endian) is:</p>
+ * <pre>
+ * int    magic ("TRFS")
+ * int    version
+ * int    number of tiers
+ * int[4] limits (length, width, height, weight)
+ * per tier: int[5] limits (length, width, height, weight, girth), long shipping costs in euro cents
+ * int    CRC32 of all previous bytes
+ * </pre>
+ * <p>The checksum protects against damaged or half-written files. A {@link TariffSource} of a file detects a snapshot
+ * by its magic number, so the csv file can simply be replaced by its snapshot. Snapshots of version 1 stored the shipping
+ * costs as {@code double} in €, they are still read and rounded to euro cents.</p>
+ */
+public final class TariffSnapshot {
+
+    /** the magic number at the beginning of every snapshot ("TRFS") */
+    public static final int MAGIC = 0x54524653;
+
+    /** the version of the format written by this class */
+    public static final int VERSION = 2;
+
+    /** the first version, with the shipping costs as double in € */
+    private static final int VERSION_DOUBLE_COSTS = 1;
+
+    /** size of the header (magic, version, number of tiers, limits) in bytes */
+    private static final int HEADER_BYTES = 7 * Integer.BYTES;
+
+    /** size of a tier in bytes */
+    private static final int TIER_BYTES = 5 * Integer.BYTES + Long.BYTES;
+
+    /**
+     * Constructor for the TariffSnapshot class.
+     */
+    private TariffSnapshot() {
+        // empty to prevent instantiation
+    }
+
+    /**
+     * Writes the snapshot of a tariff into a buffer.
+     *
+     * @param tariff the tariff
+     * @return the buffer with the snapshot, ready to be read
+     */
+    public static ByteBuffer toBuffer(Tariff tariff) {
+        List<Tariff.Tier> tiers = tariff.getTiers();
+        ByteBuffer buffer = ByteBuffer.allocate(HEADER_BYTES + tiers.size() * TIER_BYTES + Integer.BYTES);
+        buffer.putInt(MAGIC)
+            .putInt(VERSION)
+            .putInt(tiers.size())
+            .putInt(tariff.getMaxLength())
+            .putInt(tariff.getMaxWidth())
+            .putInt(tariff.getMaxHeight())
+            .putInt(tariff.getMaxWeight());
+        for (Tariff.Tier tier : tiers) {
+            buffer.putInt(tier.maxLength())
+                .putInt(tier.maxWidth())
+                .putInt(tier.maxHeight())
+                .putInt(tier.maxWeight())
+                .putInt(tier.maxGirth())
+                .putLong(tier.shippingCostsCents());
+        }
+        CRC32 crc = new CRC32();
+        crc.update(buffer.array(), 0, buffer.position());
+        buffer.putInt((int) crc.getValue());
+        return buffer.flip();
+    }
+
+    /**
+     * Writes the snapshot of a tariff into a file. The file is replaced at once, so that a watching
+     * {@link TariffCache} never reads a half-written snapshot.
+     *
+     * @param tariff the tariff
+     * @param path the path of the snapshot file
+     * @throws IOException if the file cannot be written
+     */
+    public static void write(Tariff tariff, Path path) throws IOException {
+        Path absolutePath = path.toAbsolutePath();
+        Path tempFile = Files.createTempFile(absolutePath.getParent(), absolutePath.getFileName().toString(), ".tmp");
+        try {
+            try (FileChannel channel = FileChannel.open(tempFile, StandardOpenOption.WRITE)) {
+                ByteBuffer buffer = toBuffer(tariff);
+                while (buffer.hasRemaining()) {
+                    channel.write(buffer);
+                }
+            }
+            Files.move(tempFile, absolutePath, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } finally {
+            Files.deleteIfExists(tempFile);
+        }
+    }
+
+    /**
+     * Reads a tariff from a snapshot file. Like a csv file, the file is only mapped into memory if it is large, so that
+     * a watched snapshot can be replaced right after it was read.
+     *
+     * @param path the path of the snapshot file
+     * @return the tariff
+     * @throws CSVWrongFormatException if the file cannot be found or read (with the error as cause), is damaged
+     *         or has an unsupported version
+     * @see Importer#readContent(Path)
+     */
+    public static Tariff read(Path path) throws CSVWrongFormatException {
+        return read(Importer.readContent(path));
+    }
+
+    /**
+     * Reads a tariff from the snapshot in a buffer, beginning at its position.
+     *
+     * @param buffer the buffer with the snapshot
+     * @return the tariff
+     * @throws CSVWrongFormatException if the snapshot is damaged or has an unsupported version
+     */
+    public static Tariff read(ByteBuffer buffer) throws CSVWrongFormatException {
+        ByteBuffer snapshot = buffer.slice();
+        if (snapshot.remaining() < HEADER_BYTES + Integer.BYTES || snapshot.getInt(0) != MAGIC) {
+            throw new CSVWrongFormatException(Constants.Exceptions.SNAPSHOT_WRONG_FORMAT);
+        }
+        int version = snapshot.getInt(Integer.BYTES);
+        if (version != VERSION && version != VERSION_DOUBLE_COSTS) {
+            throw new CSVWrongFormatException(Constants.Exceptions.SNAPSHOT_WRONG_FORMAT);
+        }
+        int tierCount = snapshot.getInt(2 * Integer.BYTES);
+        if (tierCount <= 0 || tierCount > Tariff.MAX_TIERS) {
+            throw new CSVWrongFormatException(Constants.Exceptions.SNAPSHOT_WRONG_FORMAT);
+        }
+        int length = HEADER_BYTES + tierCount * TIER_BYTES;
+        if (snapshot.remaining() < length + Integer.BYTES) {
+            throw new CSVWrongFormatException(Constants.Exceptions.SNAPSHOT_WRONG_FORMAT);
+        }
+
+        // check the checksum before any value is used
+        CRC32 crc = new CRC32();
+        crc.update(snapshot.slice(0, length));
+        if ((int) crc.getValue() != snapshot.getInt(length)) {
+            throw new CSVWrongFormatException(Constants.Exceptions.SNAPSHOT_WRONG_FORMAT);
+        }
+
+        snapshot.position(3 * Integer.BYTES);
+        int maxLength = snapshot.getInt();
+        int maxWidth = snapshot.getInt();
+        int maxHeight = snapshot.getInt();
+        int maxWeight = snapshot.getInt();
+        List<Tariff.Tier> tiers = new ArrayList<>(tierCount);
+        for (int i = 0; i < tierCount; i++) {
+            tiers.add(new Tariff.Tier(snapshot.getInt(), snapshot.getInt(), snapshot.getInt(), snapshot.getInt(),
+                snapshot.getInt(), version == VERSION ? snapshot.getLong() : Math.round(snapshot.getDouble() * 100)));
+        }
+        return new Tariff(maxLength, maxWidth, maxHeight, maxWeight, tiers);
+    }
+
+    /**
+     * Checks if a file is a snapshot by its magic number.
+     *
+     * @param path the path of the file
+     * @return true if the file begins with the magic number of a snapshot
+     */
+    public static boolean isSnapshot(Path path) {
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            ByteBuffer magic = ByteBuffer.allocate(Integer.BYTES);
+            while (magic.hasRemaining() && channel.read(magic) >= 0) {
+                // read until the magic number is complete or the file ends
+            }
+            return !magic.hasRemaining() && magic.getInt(0) == MAGIC;
+        } catch (IOException e) {
+            return false;
+        }
+    }
+
+    /**
+     * Compiles a csv file into a snapshot.
+     *
+     * @param args the path of the csv file and the path of the snapshot file
+     */
+    public static void main(String[] args) {
+        if (args.length != 2) {
+            System.err.println(Constants.Snapshot.USAGE);
+            System.exit(2);
+        }
+        try {
+            Tariff tariff = Importer.importTariff(args[0]);
+            Path snapshot = Path.of(args[1]);
+            write(tariff, snapshot);
+            System.out.printf(Constants.Snapshot.REPORT, tariff.getTiers().size(), Files.size(snapshot));
+        }
+        catch (IOException | CSVWrongFormatException e) {
+            System.err.println(Constants.Messages.ERROR_PREFIX + e.getMessage());
+            System.exit(1);
+        }
+    }
+}
@@ -0,0 +1,93 @@
+package data;
+
+import data.Exceptions.CSVWrongFormatException;
+
+import java.nio.file.Path;
+
+/**
+ * A {@code TariffSource} provides a {@link Tariff}.
+ *
+ * <p>A source is an immutable instance that knows where its tariff comes from: a file, a classpath resource or
+ * values held in memory. There is no shared state between sources, so several tariffs can be loaded and used concurrently
+ * in one JVM. Sources are usually held by a {@link TariffCache}, which loads them once.</p>
+ */
+public interface TariffSource {
+
+    /**
+     * Loads the tariff.
+     *
+     * @return The tariff with its limits, tiers and shipping costs
+     * @throws CSVWrongFormatException if the tariff cannot be found or read or has the wrong format
+     */
+    Tariff load() throws CSVWrongFormatException;
+
+    /**
+     * Returns a short name of the source, e.g. the file name.
+     *
+     * @return the name of the source
+     */
+    String getName();
+
+    /**
+     * Returns the file that has to be watched for changes of the tariff.
+     *
+     * @return the path of the file or null if the source cannot change
+     */
+    default Path getWatchPath() {
+        return null;
+    }
+
+    /**
+     * Creates a source for a csv file.
+     *
+     * @param path The path of the csv file
+     * @return the source of the file
+     */
+    static TariffSource ofFile(String path) {
+        return new FileTariffSource(Path.of(path));
+    }
+
+    /**
+     * Creates a source for a csv file on the classpath, which is a resource of the engine, e.g. the default tariff.
+     *
+     * @param resource The name of the resource, e.g. {@code data/shippingCosts.csv}
+     * @return the source of the classpath resource
+     * @see #ofClasspath(Class, String)
+     */
+    static TariffSource ofClasspath(String resource) {
+        return ofClasspath(TariffSource.class, resource);
+    }
+
+    /**
+     * Creates a source for a csv file on the classpath, which is looked up in the module of a class.
+     * In a named module the package of the resource has to be open to the engine module, unless the resource is not
+     * in a package (e.g. below {@code META-INF}). On the classpath every resource is found.
+     *
+     * @param anchor A class of the module with the resource, e.g. the class of the caller
+     * @param resource The name of the resource, e.g. {@code tariffs/express.csv}
+     * @return the source of the classpath resource
+     */
+    static TariffSource ofClasspath(Class<?> anchor, String resource) {
+        return new ClasspathTariffSource(anchor.getModule(), resource);
+    }
+
+    /**
+     * Creates a source for shipping costs held in memory, which are used with the default tiers.
+     *
+     * @param shippingCosts The shipping costs (in €)
+     * @return the source of the values
+     */
+    static TariffSource ofValues(double... shippingCosts) {
+        return new InMemoryTariffSource(shippingCosts);
+    }
+
+    /**
+     * Creates a source for a tariff held in memory.
+     *
+     * @param tariff The tariff
+     * @return the source of the tariff
+     */
+    static TariffSource of(Tariff tariff) {
+        return new InMemoryTariffSource(tariff);
+    }
+}
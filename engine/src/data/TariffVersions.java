@@ -0,0 +1,159 @@
+package data;
+
+import data.Exceptions.CSVWrongFormatException;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.stream.Stream;
+
+/**
+ * The {@code TariffVersions} keep every published version of a tariff with the instant it takes effect, so that
+ * a shipment is priced with the tariff that applied at its shipment date, also long after a newer version was published.
+ *
+ * <p>The versions are kept in an immutable index sorted by the effective instant, the version of a shipment date is
+ * found with a binary search. Publishing a version copies the index and replaces it with a single compare-and-set, so
+ * readers never block and always see one complete index: a quote resolves its {@link Tariff} once and is never priced
+ * with a mix of two versions.</p>
+ */
+public final class TariffVersions {
+
+    /** extension of the csv files of a version directory */
+    private static final String CSV_EXTENSION = ".csv";
+
+    /**
+     * A version of the tariff.
+     *
+     * @param effectiveFrom the instant the version takes effect
+     * @param tariff the tariff of the version
+     */
+    public record Version(Instant effectiveFrom, Tariff tariff) {
+    }
+
+    /**
+     * The immutable index of the versions.
+     *
+     * @param effectiveFroms the effective instants in ascending order
+     * @param tariffs the tariffs in the order of their effective instants
+     */
+    private record Index(Instant[] effectiveFroms, Tariff[] tariffs) {
+    }
+
+    /** the current index, replaced as a whole by every publication */
+    private final AtomicReference<Index> index = new AtomicReference<>(new Index(new Instant[0], new Tariff[0]));
+
+    /**
+     * Constructs the versions of a tariff without any version, they are added with {@link #publish(Instant, Tariff)}.
+     */
+    public TariffVersions() {
+        // the index starts empty
+    }
+
+    /**
+     * Loads every csv file of a directory as one version of the tariff. The files are named after the day the version
+     * takes effect ({@code yyyy-MM-dd.csv}), every version takes effect at the start of its day in the given time zone.
+     *
+     * @param directory the directory with one csv file per version
+     * @param zone the time zone of the days
+     * @return the versions of the tariff
+     * @throws CSVWrongFormatException if the directory cannot be read (with the error as cause), a file name is not
+     *         a day or a csv file cannot be read or has the wrong format
+     */
+    public static TariffVersions load(Path directory, ZoneId zone) throws CSVWrongFormatException {
+        List<Path> files;
+        try (Stream<Path> entries = Files.list(directory)) {
+            files = entries
+                .filter(file -> Files.isRegularFile(file) && file.getFileName().toString().endsWith(CSV_EXTENSION))
+                .toList();
+        } catch (IOException e) {
+            throw new CSVWrongFormatException(Constants.Exceptions.DIRECTORY_NOT_READABLE + directory, e);
+        }
+
+        TariffVersions versions = new TariffVersions();
+        for (Path file : files) {
+            String fileName = file.getFileName().toString();
+            Instant effectiveFrom;
+            try {
+                effectiveFrom = LocalDate.parse(fileName.substring(0, fileName.length() - CSV_EXTENSION.length()))
+                    .atStartOfDay(zone).toInstant();
+            } catch (DateTimeParseException e) {
+                throw new CSVWrongFormatException(Constants.Exceptions.VERSION_WRONG_NAME + fileName);
+            }
+            versions.publish(effectiveFrom, TariffSource.ofFile(file.toString()).load());
+        }
+        return versions;
+    }
+
+    /**
+     * Publishes a version of the tariff. Versions may be published in any order, also ahead of time:
+     * quotes for shipment dates before the effective instant are not affected.
+     *
+     * @param effectiveFrom the instant the version takes effect
+     * @param tariff the tariff of the version
+     * @throws IllegalArgumentException if a version with the same effective instant was already published,
+     *         because past shipments have to keep their prices
+     */
+    public void publish(Instant effectiveFrom, Tariff tariff) {
+        Index current;
+        Index updated;
+        do {
+            current = index.get();
+            Instant[] effectiveFroms = current.effectiveFroms();
+            int position = Arrays.binarySearch(effectiveFroms, effectiveFrom);
+            if (position >= 0) {
+                throw new IllegalArgumentException(Constants.Exceptions.DUPLICATE_VERSION + effectiveFrom);
+            }
+            int insert = -position - 1;
+            Instant[] newEffectiveFroms = new Instant[effectiveFroms.length + 1];
+            Tariff[] newTariffs = new Tariff[effectiveFroms.length + 1];
+            System.arraycopy(effectiveFroms, 0, newEffectiveFroms, 0, insert);
+            System.arraycopy(current.tariffs(), 0, newTariffs, 0, insert);
+            newEffectiveFroms[insert] = effectiveFrom;
+            newTariffs[insert] = tariff;
+            System.arraycopy(effectiveFroms, insert, newEffectiveFroms, insert + 1, effectiveFroms.length - insert);
+            System.arraycopy(current.tariffs(), insert, newTariffs, insert + 1, effectiveFroms.length - insert);
+            updated = new Index(newEffectiveFroms, newTariffs);
+        } while (!index.compareAndSet(current, updated));
+    }
+
+    /**
+     * Returns the tariff that applies at the given instant, which is the version with the latest effective instant
+     * that is not after it.
+     *
+     * @param at the instant, e.g. the shipment date
+     * @return the tariff that applies at the instant
+     * @throws IllegalArgumentException if no version applies at the instant, because it is before the first version
+     */
+    public Tariff getTariff(Instant at) {
+        Index current = index.get();
+        int position = Arrays.binarySearch(current.effectiveFroms(), at);
+        // not found: the insertion point follows the version that applies
+        int applying = position >= 0 ? position : -position - 2;
+        if (applying < 0) {
+            throw new IllegalArgumentException(Constants.Exceptions.NO_VERSION + at);
+        }
+        return current.tariffs()[applying];
+    }
+
+    /**
+     * Returns all versions ordered by their effective instant.
+     *
+     * @return the versions at the time of the call as an unmodifiable list
+     */
+    public List<Version> getVersions() {
+        Index current = index.get();
+        List<Version> versions = new ArrayList<>(current.tariffs().length);
+        for (int i = 0; i < current.tariffs().length; i++) {
+            versions.add(new Version(current.effectiveFroms()[i], current.tariffs()[i]));
+        }
+        return List.copyOf(versions);
+    }
+}
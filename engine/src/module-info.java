@@ -0,0 +1,15 @@
+/**
+ * The headless engine of the PackageCalculator: the tariff, the calculator, the bulk quoter and the quoting service.
+ * It does not depend on JavaFX, so batch and server hosts start it without the JavaFX jars on the module path.
+ */
+module packagecalculator.engine {
+    // the quote metrics are registered as platform MBean, their register methods expose its types
+    requires transitive java.management;
+    // the quoting service
+    requires jdk.httpserver;
+    // the flight recorder events
+    requires jdk.jfr;
+
+    exports control;
+    exports data;
+}
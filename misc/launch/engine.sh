@@ -0,0 +1,46 @@
+#!/bin/sh
+# Starts a main class of the headless engine module, without JavaFX. Paths in the arguments are relative to the
+# current folder, the default tariff is read from the module jar.
+#
+#   misc/launch/engine.sh [--cds] <main class> [arguments]
+#
+#   e.g. misc/launch/engine.sh --cds control.QuoteHttpServer 8080
+#        misc/launch/engine.sh control.BulkQuoter --parallel manifest.csv result.csv
+#
+#   --cds     starts the main class with its own AppCDS archive, written at the first exit and mapped afterwards
+#
+# JAVA_OPTS and JAVAC_OPTS are passed to java and javac, e.g. "--enable-preview" on JDK 21.
+set -e
+ROOT="$(cd "$(dirname "$0")/../.." && pwd)"
+
+OUT="$ROOT/bin/launch/engine"
+JAR="$OUT/packagecalculator.engine.jar"
+OPTS="$JAVA_OPTS"
+
+if [ "$1" = "--cds" ]; then
+    CDS=true
+    shift
+fi
+if [ $# -eq 0 ]; then
+    echo "usage: $0 [--cds] <main class> [arguments]" >&2
+    exit 2
+fi
+MAIN="$1"
+shift
+
+# the archives are only valid for the jar they were created with, they are removed with it
+if [ ! -f "$JAR" ] || [ -n "$(find "$ROOT/engine/src" -newer "$JAR" | head -n 1)" ]; then
+    rm -rf "$OUT"
+    mkdir -p "$OUT/classes"
+    javac $JAVAC_OPTS -d "$OUT/classes" --module-source-path packagecalculator.engine="$ROOT/engine/src" \
+        --module packagecalculator.engine
+    # the default tariff is a resource of the engine module
+    cp "$ROOT/engine/src/data/shippingCosts.csv" "$OUT/classes/packagecalculator.engine/data/"
+    jar --create --file "$JAR" -C "$OUT/classes/packagecalculator.engine" .
+fi
+
+if [ "$CDS" = true ]; then
+    OPTS="$OPTS -XX:SharedArchiveFile=$OUT/$MAIN.jsa -XX:+AutoCreateSharedArchive"
+fi
+
+exec java $OPTS --module-path "$JAR" --module "packagecalculator.engine/$MAIN" "$@"
@@ -0,0 +1,51 @@
+#!/bin/sh
+# Starts the PackageCalculator from the project folder.
+#
+#   misc/launch/packagecalculator.sh [--cds] [--report]
+#
+#   --cds     starts the application with an AppCDS archive. The first start writes the archive when the
+#             application is closed, every later start maps the already parsed and verified classes from it.
+#   --report  prints the startup timing report (first frame, first quote) after the first quote
+#
+# JAVAFX_LIB has to point to the lib folder of the JavaFX SDK (default: lib).
+# JAVA_OPTS and JAVAC_OPTS are passed to java and javac, e.g. "--enable-preview" on JDK 21.
+set -e
+cd "$(dirname "$0")/../.."
+
+JAVAFX_LIB="${JAVAFX_LIB:-lib}"
+OUT=bin/launch/gui
+ENGINE_JAR="$OUT/packagecalculator.engine.jar"
+GUI_JAR="$OUT/packagecalculator.gui.jar"
+ARCHIVE="$OUT/packagecalculator.jsa"
+OPTS="$JAVA_OPTS"
+CDS=false
+
+for arg in "$@"; do
+    case "$arg" in
+        --cds) CDS=true ;;
+        --report) OPTS="$OPTS -Dpackagecalculator.startupReport=true" ;;
+        *) echo "usage: $0 [--cds] [--report]" >&2; exit 2 ;;
+    esac
+done
+
+# AppCDS only archives classes from jar files, and an archive is only valid for the jars it was created with.
+# So the jars are only built again if a source changed, the archive is removed with them.
+if [ ! -f "$GUI_JAR" ] || [ -n "$(find engine/src app/src -newer "$GUI_JAR" | head -n 1)" ]; then
+    rm -rf "$OUT"
+    mkdir -p "$OUT/classes"
+    javac $JAVAC_OPTS --module-path "$JAVAFX_LIB" -d "$OUT/classes" \
+        --module-source-path packagecalculator.engine=engine/src \
+        --module-source-path packagecalculator.gui=app/src \
+        --module packagecalculator.engine,packagecalculator.gui
+    # the default tariff is a resource of the engine module
+    cp engine/src/data/shippingCosts.csv "$OUT/classes/packagecalculator.engine/data/"
+    jar --create --file "$ENGINE_JAR" -C "$OUT/classes/packagecalculator.engine" .
+    jar --create --file "$GUI_JAR" --main-class gui.PackageCalculator -C "$OUT/classes/packagecalculator.gui" .
+fi
+
+if [ "$CDS" = true ]; then
+    # JDK 19+: writes the archive at exit if it is missing or stale and maps it on every later start
+    OPTS="$OPTS -XX:SharedArchiveFile=$ARCHIVE -XX:+AutoCreateSharedArchive"
+fi
+
+exec java $OPTS --module-path "$JAVAFX_LIB:$ENGINE_JAR:$GUI_JAR" --module packagecalculator.gui/gui.PackageCalculator
@@ -0,0 +1,38 @@
+package bench;
+
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * The {@code BenchmarkRunner} class starts all JMH benchmarks of the application with the gc profiler,
+ * so that every benchmark reports its throughput, its average time and its allocation rate.
+ *
+ * <p>The benchmarks have to be started from the project folder, because the csv files are read with relative paths.</p>
+ */
+public class BenchmarkRunner {
+
+    /**
+     * Constructor for the BenchmarkRunner class.
+     */
+    private BenchmarkRunner() {
+        // empty to prevent instantiation
+    }
+
+    /**
+     * Runs the benchmarks.
+     *
+     * @param args an optional regular expression selecting the benchmarks to run (default: all benchmarks)
+     * @throws RunnerException if the benchmarks cannot be run
+     */
+    public static void main(String[] args) throws RunnerException {
+        String include = args.length > 0 ? args[0] : "bench\\..*";
+        Options options = new OptionsBuilder()
+            .include(include)
+            .addProfiler(GCProfiler.class)
+            .build();
+        new Runner(options).run();
+    }
+}
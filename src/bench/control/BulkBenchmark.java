@@ -0,0 +1,180 @@
+package bench.control;
+
+import control.BulkQuoter;
+import control.Calculator;
+import control.ParallelBulkQuoter;
+import data.Exceptions.CSVWrongFormatException;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * The {@code BulkBenchmark} class measures the calculation of many packets at once: the primitive batch
+ * of {@link Calculator}, the streaming {@link BulkQuoter} and the {@link ParallelBulkQuoter}.
+ * Every benchmark operation calculates {@link #ROWS} packets.
+ */
+@BenchmarkMode({Mode.Throughput, Mode.AverageTime})
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class BulkBenchmark {
+
+    /** number of packets per benchmark operation */
+    private static final int ROWS = 1_000_000;
+
+    /** the calculator under test */
+    private Calculator calc;
+
+    /** the batch as parallel arrays and its outputs */
+    private int[] lengths;
+    private int[] widths;
+    private int[] heights;
+    private int[] weights;
+    private int[] tiers;
+    private long[] costs;
+
+    /** the manifest file with the same packets */
+    private Path manifest;
+
+    /**
+     * Creates the random packets and the manifest file and loads the shipping costs.
+     *
+     * @throws IOException if the manifest cannot be written
+     * @throws CSVWrongFormatException if the csv file with the shipping costs cannot be found or read
+     */
+    @Setup
+    public void setUp() throws IOException, CSVWrongFormatException {
+        calc = new Calculator();
+        Random random = new Random(42);
+        lengths = new int[ROWS];
+        widths = new int[ROWS];
+        heights = new int[ROWS];
+        weights = new int[ROWS];
+        tiers = new int[ROWS];
+        costs = new long[ROWS];
+
+        manifest = Files.createTempFile("manifest", ".csv");
+        try (BufferedWriter writer = Files.newBufferedWriter(manifest)) {
+            for (int i = 0; i < ROWS; i++) {
+                // a few percent of the packets are out of bounds
+                lengths[i] = random.nextInt(1300) + 1;
+                widths[i] = random.nextInt(700) + 1;
+                heights[i] = random.nextInt(700) + 1;
+                weights[i] = random.nextInt(32000) + 1;
+                writer.write("P" + i + ";" + lengths[i] + ";" + widths[i] + ";" + heights[i] + ";" + weights[i] + "\n");
+            }
+        }
+
+        // load the shipping costs before the measurement
+        calc.calcShippingCosts(lengths, widths, heights, weights, tiers, costs);
+    }
+
+    /**
+     * Deletes the manifest file.
+     *
+     * @throws IOException if the manifest cannot be deleted
+     */
+    @TearDown
+    public void tearDown() throws IOException {
+        Files.deleteIfExists(manifest);
+    }
+
+    /**
+     * Calculates the packets as primitive batch.
+     *
+     * @return the number of valid rows
+     * @throws CSVWrongFormatException if the csv file with the shipping costs cannot be found or read
+     */
+    @Benchmark
+    public int batch() throws CSVWrongFormatException {
+        return calc.calcShippingCosts(lengths, widths, heights, weights, tiers, costs);
+    }
+
+    /**
+     * Streams the manifest file through a single {@link BulkQuoter}.
+     *
+     * @return the number of valid rows
+     * @throws IOException if the manifest cannot be read
+     * @throws CSVWrongFormatException if the csv file with the shipping costs cannot be found or read
+     */
+    @Benchmark
+    public long manifestSequential() throws IOException, CSVWrongFormatException {
+        try (FileChannel input = FileChannel.open(manifest, StandardOpenOption.READ)) {
+            BulkQuoter quoter = new BulkQuoter(calc, new DiscardingChannel());
+            quoter.quote(input);
+            return quoter.getValidRows();
+        }
+    }
+
+    /**
+     * Calculates the manifest file with the {@link ParallelBulkQuoter} on all cores.
+     *
+     * @return the number of valid rows
+     * @throws IOException if the manifest cannot be read
+     * @throws CSVWrongFormatException if the csv file with the shipping costs cannot be found or read
+     */
+    @Benchmark
+    public long manifestParallel() throws IOException, CSVWrongFormatException {
+        ParallelBulkQuoter quoter = new ParallelBulkQuoter(calc);
+        quoter.quote(manifest, new DiscardingChannel());
+        return quoter.getValidRows();
+    }
+
+    /**
+     * A channel that discards everything written to it, so that the disk is not measured.
+     */
+    private static class DiscardingChannel implements WritableByteChannel {
+
+        /**
+         * Discards the remaining bytes of the buffer.
+         *
+         * @param src the buffer
+         * @return the number of discarded bytes
+         */
+        @Override
+        public int write(ByteBuffer src) {
+            int bytes = src.remaining();
+            src.position(src.limit());
+            return bytes;
+        }
+
+        /**
+         * The channel is always open.
+         *
+         * @return true
+         */
+        @Override
+        public boolean isOpen() {
+            return true;
+        }
+
+        /**
+         * Nothing to close.
+         */
+        @Override
+        public void close() {
+            // nothing to close
+        }
+    }
+}
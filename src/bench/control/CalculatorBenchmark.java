@@ -0,0 +1,131 @@
+package bench.control;
+
+import control.Calculator;
+import control.QuoteMemo;
+import control.QuoteMetrics;
+import control.Exceptions.PacketOutOfBoundsException;
+import data.Packet;
+import data.TariffCache;
+import data.Exceptions.CSVWrongFormatException;
+
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * The {@code CalculatorBenchmark} class measures the calculation of the shipping costs of single packets
+ * for every tier and the exception path for invalid packets.
+ */
+@BenchmarkMode({Mode.Throughput, Mode.AverageTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class CalculatorBenchmark {
+
+    /** the tier of the packet (see the info table of the application) */
+    @Param({"SMALL", "MEDIUM", "BIG_5000", "BIG_10000", "BIG_31000"})
+    public String tier;
+
+    /** the calculator under test */
+    private Calculator calc;
+
+    /** the calculator with a memo of calculated tiers */
+    private Calculator memoCalc;
+
+    /** the calculator that records every quote in metrics */
+    private Calculator metricsCalc;
+
+    /** a packet of the selected tier */
+    private Packet packet;
+
+    /** a packet with zeros, which is rejected with an exception */
+    private Packet invalidPacket;
+
+    /**
+     * Creates the calculator and the packets and loads the shipping costs.
+     *
+     * @throws CSVWrongFormatException if the csv file with the shipping costs cannot be found or read
+     * @throws PacketOutOfBoundsException if the packet of the tier is invalid
+     */
+    @Setup
+    public void setUp() throws CSVWrongFormatException, PacketOutOfBoundsException {
+        calc = new Calculator();
+        memoCalc = new Calculator(TariffCache.getDefault(), new QuoteMemo());
+        metricsCalc = new Calculator(TariffCache.getDefault(), null, new QuoteMetrics(TariffCache.getDefault()));
+        packet = switch (tier) {
+            case "SMALL" -> new Packet(250, 250, 120, 750);
+            case "MEDIUM" -> new Packet(550, 250, 120, 1350);
+            case "BIG_5000" -> new Packet(1000, 500, 500, 5000);
+            case "BIG_10000" -> new Packet(1000, 500, 500, 10000);
+            default -> new Packet(1200, 600, 600, 31000);
+        };
+        invalidPacket = new Packet(0, 0, 0, 0);
+
+        // load the shipping costs before the measurement
+        calc.calcShippingCosts(packet);
+        memoCalc.calcShippingCosts(packet);
+    }
+
+    /**
+     * Calculates the shipping costs of a single packet of the selected tier.
+     *
+     * @return the shipping costs
+     * @throws CSVWrongFormatException if the csv file with the shipping costs cannot be found or read
+     * @throws PacketOutOfBoundsException if the packet is invalid
+     */
+    @Benchmark
+    public double calcShippingCosts() throws CSVWrongFormatException, PacketOutOfBoundsException {
+        return calc.calcShippingCosts(packet);
+    }
+
+    /**
+     * Gets the shipping costs of a single packet of the selected tier from the memo.
+     *
+     * @return the shipping costs
+     * @throws CSVWrongFormatException if the csv file with the shipping costs cannot be found or read
+     * @throws PacketOutOfBoundsException if the packet is invalid
+     */
+    @Benchmark
+    public double calcShippingCostsMemoized() throws CSVWrongFormatException, PacketOutOfBoundsException {
+        return memoCalc.calcShippingCosts(packet);
+    }
+
+    /**
+     * Calculates the shipping costs of a single packet of the selected tier and records it in the metrics.
+     *
+     * @return the shipping costs
+     * @throws CSVWrongFormatException if the csv file with the shipping costs cannot be found or read
+     * @throws PacketOutOfBoundsException if the packet is invalid
+     */
+    @Benchmark
+    public double calcShippingCostsWithMetrics() throws CSVWrongFormatException, PacketOutOfBoundsException {
+        return metricsCalc.calcShippingCosts(packet);
+    }
+
+    /**
+     * Calculates the shipping costs of an invalid packet, which throws an exception.
+     *
+     * @param blackhole consumes the exception
+     * @throws CSVWrongFormatException if the csv file with the shipping costs cannot be found or read
+     */
+    @Benchmark
+    public void calcShippingCostsInvalid(Blackhole blackhole) throws CSVWrongFormatException {
+        try {
+            blackhole.consume(calc.calcShippingCosts(invalidPacket));
+        } catch (PacketOutOfBoundsException e) {
+            blackhole.consume(e);
+        }
+    }
+}
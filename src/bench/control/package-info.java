@@ -0,0 +1,4 @@
+/**
+ * This package contains the benchmarks of the control package, such as the calculation of single packets, batches and manifests.
+ */
+package bench.control;
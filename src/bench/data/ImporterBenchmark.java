@@ -0,0 +1,117 @@
+package bench.data;
+
+import data.Importer;
+import data.Tariff;
+import data.TariffSnapshot;
+import data.TariffCache;
+import data.Exceptions.CSVWrongFormatException;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * The {@code ImporterBenchmark} class measures the import of the shipping costs from a small and a very large
+ * csv file, the load of the compiled {@link TariffSnapshot}, as well as reading the table from the {@link TariffCache}.
+ */
+@BenchmarkMode({Mode.Throughput, Mode.AverageTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ImporterBenchmark {
+
+    /** number of rows of the tariff file (the first row contains the shipping costs) */
+    @Param({"1", "1000000"})
+    public int rows;
+
+    /** the generated tariff file */
+    private Path tariffFile;
+
+    /** the snapshot compiled from the tariff file */
+    private Path snapshotFile;
+
+    /** the cache of the generated tariff file */
+    private TariffCache cache;
+
+    /**
+     * Writes the tariff file with the given number of rows.
+     *
+     * @throws IOException if the file cannot be written
+     * @throws CSVWrongFormatException if the generated file cannot be read
+     */
+    @Setup
+    public void setUp() throws IOException, CSVWrongFormatException {
+        tariffFile = Files.createTempFile("shippingCosts", ".csv");
+        try (BufferedWriter writer = Files.newBufferedWriter(tariffFile)) {
+            for (int i = 0; i < rows; i++) {
+                writer.write("3.89;4.39;5.89;7.99;14.99\n");
+            }
+        }
+        snapshotFile = Files.createTempFile("shippingCosts", ".snapshot");
+        TariffSnapshot.write(Importer.importTariff(tariffFile.toString()), snapshotFile);
+        cache = new TariffCache(tariffFile.toString());
+        cache.getShippingCosts();
+    }
+
+    /**
+     * Closes the cache and deletes the tariff file and its snapshot.
+     *
+     * @throws IOException if a file cannot be deleted
+     */
+    @TearDown
+    public void tearDown() throws IOException {
+        cache.close();
+        Files.deleteIfExists(tariffFile);
+        Files.deleteIfExists(snapshotFile);
+    }
+
+    /**
+     * Imports the shipping costs from the file.
+     *
+     * @return the shipping costs
+     * @throws CSVWrongFormatException if the file cannot be read
+     */
+    @Benchmark
+    public List<Double> importShippingCosts() throws CSVWrongFormatException {
+        return Importer.importShippingCosts(tariffFile.toString());
+    }
+
+    /**
+     * Loads the tariff from its memory-mapped snapshot.
+     *
+     * @return the tariff
+     * @throws CSVWrongFormatException if the snapshot cannot be read
+     */
+    @Benchmark
+    public Tariff importSnapshot() throws CSVWrongFormatException {
+        return TariffSnapshot.read(snapshotFile);
+    }
+
+    /**
+     * Reads the shipping costs from the cache.
+     *
+     * @return the shipping costs
+     * @throws CSVWrongFormatException if the file cannot be read
+     */
+    @Benchmark
+    public List<Double> cachedShippingCosts() throws CSVWrongFormatException {
+        return cache.getShippingCosts();
+    }
+}
@@ -0,0 +1,4 @@
+/**
+ * This package contains the benchmarks of the data package, such as the import of the csv file with the shipping costs.
+ */
+package bench.data;
@@ -0,0 +1,5 @@
+/**
+ * This package contains the JMH benchmarks of the application. The benchmarks need the JMH jars in the {@code lib} folder
+ * and are started with {@link bench.BenchmarkRunner}.
+ */
+package bench;
@@ -0,0 +1,228 @@
+package test.control;
+
+import control.BulkQuoter;
+import control.Calculator;
+import control.ParallelBulkQuoter;
+import control.QuoteMetrics;
+import data.Tariff;
+import data.TariffCache;
+import data.Exceptions.CSVWrongFormatException;
+
+import static org.junit.jupiter.api.Assertions.*;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.ForkJoinPool;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+/**
+ * The {@code TestBulkQuoter} class tests the {@link BulkQuoter} class with valid, invalid and malformed manifest lines.
+ */
+class TestBulkQuoter {
+
+    /**
+     * Temporary directory for the test
+     */
+    @TempDir
+    Path tempDir;
+
+    /**
+     * Quotes a manifest and returns the result lines.
+     *
+     * @param manifest the content of the manifest
+     * @return the result lines
+     */
+    private static String quote(String manifest) throws IOException, CSVWrongFormatException {
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+        BulkQuoter quoter = new BulkQuoter(new Calculator(), Channels.newChannel(output));
+        quoter.quote(Channels.newChannel(new ByteArrayInputStream(manifest.getBytes(StandardCharsets.UTF_8))));
+        return output.toString(StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Test if valid lines get their tier and costs and the header line is skipped
+     * @throws IOException
+     * @throws CSVWrongFormatException
+     */
+    @Test
+    public void testValidLines() throws IOException, CSVWrongFormatException {
+        String result = quote("ID;L;W;H;WEIGHT\np1;300;300;150;1000\np2;150;300;600;2000\r\np3;1200;600;600;31000");
+
+        assertEquals("p1;0;3.89;OK\np2;1;4.39;OK\np3;4;14.99;OK\n", result);
+    }
+
+    /**
+     * Test if invalid and malformed lines get a status instead of costs
+     * @throws IOException
+     * @throws CSVWrongFormatException
+     */
+    @Test
+    public void testInvalidLines() throws IOException, CSVWrongFormatException {
+        String result = quote("p1;0;1;1;1\np2;1201;1;1;1\np3;a;1;1;1\np4;1;1;1\n\np5;-1;1;1;1\n");
+
+        assertEquals("p1;;;NON_POSITIVE\np2;;;OUT_OF_BOUNDS\np3;;;WRONG_FORMAT\np4;;;WRONG_FORMAT\np5;;;NON_POSITIVE\n", result);
+    }
+
+    /**
+     * Test if a malformed first data line is reported instead of being skipped as a header line
+     * @throws IOException
+     * @throws CSVWrongFormatException
+     */
+    @Test
+    public void testMalformedFirstLine() throws IOException, CSVWrongFormatException {
+        assertEquals("P1;;;WRONG_FORMAT\nP2;0;3.89;OK\n", quote("P1;10;x;5;100\nP2;1;1;1;1\n"));
+        assertEquals("P1;;;WRONG_FORMAT\nP2;0;3.89;OK\n", quote("P1\nP2;1;1;1;1\n"));
+        assertEquals("P2;0;3.89;OK\n", quote("Paket;Länge;Breite;Höhe;Gewicht\nP2;1;1;1;1\n"));
+    }
+
+    /**
+     * Test if lines that cannot be read are not passed to the calculator, so the metrics only count real quotes
+     * @throws IOException
+     * @throws CSVWrongFormatException
+     */
+    @Test
+    public void testWrongFormatIsNotQuoted() throws IOException, CSVWrongFormatException {
+        TariffCache cache = TariffCache.getDefault();
+        QuoteMetrics metrics = new QuoteMetrics(cache);
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+        BulkQuoter quoter = new BulkQuoter(new Calculator(cache, null, metrics), Channels.newChannel(output));
+        String manifest = "p1;a;1;1;1\np2;1;1;1;1\np3;1;1\np4;0;1;1;1\n";
+
+        quoter.quote(Channels.newChannel(new ByteArrayInputStream(manifest.getBytes(StandardCharsets.UTF_8))));
+
+        assertEquals("p1;;;WRONG_FORMAT\np2;0;3.89;OK\np3;;;WRONG_FORMAT\np4;;;NON_POSITIVE\n",
+            output.toString(StandardCharsets.UTF_8));
+        QuoteMetrics.Snapshot snapshot = metrics.snapshot();
+        assertEquals(2, snapshot.quoteCount());
+        assertEquals(1, snapshot.nonPositiveCount());
+        assertEquals(4, quoter.getRows());
+        assertEquals(1, quoter.getValidRows());
+    }
+
+    /**
+     * Test if a listener receives the same results as the result lines, batch by batch
+     * @throws IOException
+     * @throws CSVWrongFormatException
+     */
+    @Test
+    public void testRowListener() throws IOException, CSVWrongFormatException {
+        StringBuilder manifest = new StringBuilder("ID;L;W;H;WEIGHT\n");
+        for (int i = 0; i < 10000; i++) {
+            manifest.append('p').append(i).append(i % 100 == 0 ? ";a;1;1;1\n" : ";300;300;150;" + (1 + i % 2000) + "\n");
+        }
+        StringBuilder received = new StringBuilder();
+        int[] batches = new int[1];
+        BulkQuoter.RowListener listener = new BulkQuoter.RowListener() {
+            @Override
+            public void row(ByteBuffer in, int idStart, int idEnd, int tier, long costsCents) {
+                received.append(StandardCharsets.UTF_8.decode(in.slice(idStart, idEnd - idStart))).append(';');
+                if (tier == BulkQuoter.TIER_WRONG_FORMAT) {
+                    received.append(";;WRONG_FORMAT\n");
+                }
+                else {
+                    received.append(tier).append(';').append(Tariff.formatCents(costsCents)).append(";OK\n");
+                }
+            }
+
+            @Override
+            public void batchQuoted() {
+                batches[0]++;
+            }
+        };
+
+        BulkQuoter quoter = new BulkQuoter(new Calculator(), listener);
+        quoter.quote(Channels.newChannel(new ByteArrayInputStream(manifest.toString().getBytes(StandardCharsets.UTF_8))));
+
+        assertEquals(quote(manifest.toString()), received.toString());
+        assertEquals(10000, quoter.getRows());
+        assertTrue(batches[0] >= 3);
+    }
+
+    /**
+     * Test if a manifest larger than the read buffer is quoted completely and in order
+     * @throws IOException
+     * @throws CSVWrongFormatException
+     */
+    @Test
+    public void testLargeManifest() throws IOException, CSVWrongFormatException {
+        StringBuilder manifest = new StringBuilder();
+        StringBuilder expected = new StringBuilder();
+        for (int i = 0; i < 50000; i++) {
+            manifest.append('p').append(i).append(";1;1;1;1\n");
+            expected.append('p').append(i).append(";0;3.89;OK\n");
+        }
+
+        assertEquals(expected.toString(), quote(manifest.toString()));
+    }
+
+    /**
+     * Test if the parallel quoter writes the same result in the same order as the single-threaded quoter,
+     * also if the chunks are much smaller than the lines
+     * @throws IOException
+     * @throws CSVWrongFormatException
+     */
+    @Test
+    public void testParallelMatchesSequential() throws IOException, CSVWrongFormatException {
+        StringBuilder manifest = new StringBuilder("ID;L;W;H;WEIGHT\n");
+        for (int i = 0; i < 5000; i++) {
+            manifest.append("packet").append(i).append(';').append(i % 1300).append(';').append(i % 700)
+                .append(";150;").append(i * 7 % 32000).append('\n');
+        }
+        manifest.append("last;1;1;1;1");
+        Path file = tempDir.resolve("manifest.csv");
+        Files.writeString(file, manifest);
+
+        ForkJoinPool pool = new ForkJoinPool(4);
+        try {
+            for (int chunkSize : new int[] {1, 7, 1000, 1 << 20}) {
+                ByteArrayOutputStream output = new ByteArrayOutputStream();
+                ParallelBulkQuoter quoter = new ParallelBulkQuoter(new Calculator(), chunkSize, pool);
+                quoter.quote(file, Channels.newChannel(output));
+
+                assertEquals(quote(manifest.toString()), output.toString(StandardCharsets.UTF_8));
+                assertEquals(5001, quoter.getRows());
+            }
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    /**
+     * Test if a line that is too long for the read buffer is reported as wrong format by both quoters,
+     * wherever the chunks of the parallel quoter end, and the following lines are still quoted
+     * @throws IOException
+     * @throws CSVWrongFormatException
+     */
+    @Test
+    public void testLineTooLong() throws IOException, CSVWrongFormatException {
+        String manifest = "p1;200;300;100;500\nlong;" + "1".repeat(200_000) + ";1;1;1\np2;200;300;100;500\n"
+            + "first;" + "2".repeat(70_000) + "\nlast;200;300;100;500";
+        Path file = tempDir.resolve("manifest.csv");
+        Files.writeString(file, manifest);
+
+        String expected = "p1;0;3.89;OK\nlong;;;WRONG_FORMAT\np2;0;3.89;OK\nfirst;;;WRONG_FORMAT\nlast;0;3.89;OK\n";
+        assertEquals(expected, quote(manifest));
+        ForkJoinPool pool = new ForkJoinPool(4);
+        try {
+            for (int chunkSize : new int[] {1, 7, 1000, 100_000, 1 << 20}) {
+                ByteArrayOutputStream output = new ByteArrayOutputStream();
+                ParallelBulkQuoter quoter = new ParallelBulkQuoter(new Calculator(), chunkSize, pool);
+                quoter.quote(file, Channels.newChannel(output));
+
+                assertEquals(expected, output.toString(StandardCharsets.UTF_8), "chunk size " + chunkSize);
+                assertEquals(5, quoter.getRows());
+            }
+        } finally {
+            pool.shutdown();
+        }
+        assertThrows(IllegalArgumentException.class, () -> new ParallelBulkQuoter(new Calculator(), 0, ForkJoinPool.commonPool()));
+        assertThrows(IllegalArgumentException.class,
+            () -> new ParallelBulkQuoter(new Calculator(), Integer.MAX_VALUE, ForkJoinPool.commonPool()));
+    }
+}
@@ -1,12 +1,20 @@
 package test.control;
 
 import control.Calculator;
+import control.QuoteResult;
+import control.QuoteStatus;
 import control.Exceptions.PacketOutOfBoundsException;
-import data.Importer;
+import data.Constants;
+import data.Tariff;
+import data.TariffSource;
+import data.TariffCache;
+import data.TariffVersions;
+import data.ImmutablePacket;
 import data.Packet;
 import data.Exceptions.CSVWrongFormatException;
 
 import static org.junit.jupiter.api.Assertions.*;
+import java.time.Instant;
 import java.util.stream.Stream;
 import java.util.Random;
 import java.util.List;
@@ -141,7 +149,7 @@ class TestCalculator {
     private boolean checkRandomPacketForCosts(Packet pack, double costs) {
         final List<Double> shippingCostsList;
         try {
-            shippingCostsList = Importer.importShippingCosts();
+            shippingCostsList = TariffCache.getDefault().getShippingCosts();
         } catch (Exception e) {
             return false;
         }
@@ -265,4 +273,216 @@ class TestCalculator {
             assertThrows(PacketOutOfBoundsException.class, () -> calc.calcShippingCosts(pack));
         }
     }
-}
\ No newline at end of file
+
+    /**
+     * Test if the batch calculation returns the same tiers and costs as the calculation of single packets,
+     * including invalid rows
+     * @throws CSVWrongFormatException
+     */
+    @Test
+    public void testBatchMatchesSinglePackets() throws CSVWrongFormatException {
+        Calculator calc = new Calculator();
+        int rows = 10000;
+        int[] lengths = new int[rows];
+        int[] widths = new int[rows];
+        int[] heights = new int[rows];
+        int[] weights = new int[rows];
+        for (int i = 0; i < rows; i++) {
+            // also create zeros, negative values and values out of bounds
+            lengths[i] = RANDOM.nextInt(2 * 1200) - 10;
+            widths[i] = RANDOM.nextInt(2 * 600) - 10;
+            heights[i] = RANDOM.nextInt(2 * 600) - 10;
+            weights[i] = RANDOM.nextInt(2 * 31000) - 10;
+        }
+        int[] tiers = new int[rows];
+        long[] costs = new long[rows];
+
+        int validRows = calc.calcShippingCosts(lengths, widths, heights, weights, tiers, costs);
+
+        int expectedValidRows = 0;
+        for (int i = 0; i < rows; i++) {
+            Packet pack = new Packet(lengths[i], widths[i], heights[i], weights[i]);
+            try {
+                double expectedCosts = calc.calcShippingCosts(pack);
+                assertTrue(tiers[i] >= 0, "Valid packet has no tier");
+                assertEquals(Math.round(expectedCosts * 100), costs[i], "Shipping costs are not correct");
+                expectedValidRows++;
+            } catch (PacketOutOfBoundsException e) {
+                assertTrue(tiers[i] < 0, "Invalid packet has a tier");
+                assertEquals(0, costs[i]);
+            }
+        }
+        assertEquals(expectedValidRows, validRows);
+    }
+
+    @ParameterizedTest
+    @MethodSource("realPacketDataStream")
+    /**
+     * Test if an immutable packet gets the same shipping costs as a packet and is shared by many threads at once
+     * 
+     * @param pack Packet object
+     * @param expectedCosts expected shipping costs
+     */
+    public void testImmutablePacketsConcurrently(Packet pack, double expectedCosts) {
+        Calculator calc = new Calculator();
+        ImmutablePacket immutablePacket = ImmutablePacket.of(pack);
+        double delta = 1e-5; // delta for double value comparison
+
+        // the canonical form is sorted (length -> width -> height)
+        assertTrue(immutablePacket.length() >= immutablePacket.width());
+        assertTrue(immutablePacket.width() >= immutablePacket.height());
+
+        List<Double> results = Stream.generate(() -> immutablePacket).limit(1000).parallel()
+            .map(packet -> {
+                try {
+                    return calc.calcShippingCosts(packet);
+                } catch (Exception e) {
+                    return -1.0;
+                }
+            })
+            .toList();
+
+        results.forEach(shippingCosts -> assertEquals(expectedCosts, shippingCosts, delta, "Shipping costs are not correct"));
+        assertEquals(immutablePacket, ImmutablePacket.of(pack), "Immutable packet was changed");
+    }
+
+    /**
+     * Test if the rule table of the default csv file gives the same tiers as the legacy csv file with only the five
+     * shipping costs, including invalid rows
+     * @throws CSVWrongFormatException
+     */
+    @Test
+    public void testRuleTableMatchesLegacyTariff() throws CSVWrongFormatException {
+        Calculator ruleTable = new Calculator();
+        TariffCache legacyCache = new TariffCache("src/test/data/possibleCSVs/realShippingCosts.csv");
+        Calculator legacy = new Calculator(legacyCache);
+        int rows = 10000;
+        int[] lengths = new int[rows];
+        int[] widths = new int[rows];
+        int[] heights = new int[rows];
+        int[] weights = new int[rows];
+        for (int i = 0; i < rows; i++) {
+            lengths[i] = RANDOM.nextInt(2 * 1200) - 10;
+            widths[i] = RANDOM.nextInt(2 * 600) - 10;
+            heights[i] = RANDOM.nextInt(2 * 600) - 10;
+            weights[i] = RANDOM.nextInt(2 * 31000) - 10;
+        }
+        int[] ruleTableTiers = new int[rows];
+        long[] ruleTableCosts = new long[rows];
+        int[] legacyTiers = new int[rows];
+        long[] legacyCosts = new long[rows];
+
+        ruleTable.calcShippingCosts(lengths, widths, heights, weights, ruleTableTiers, ruleTableCosts);
+        legacy.calcShippingCosts(lengths, widths, heights, weights, legacyTiers, legacyCosts);
+        legacyCache.close();
+
+        assertArrayEquals(legacyTiers, ruleTableTiers, "Tiers are not correct");
+        assertArrayEquals(legacyCosts, ruleTableCosts, "Shipping costs are not correct");
+    }
+
+    /**
+     * Test if a tariff with additional tiers and other limits is used for the calculation
+     * @throws CSVWrongFormatException
+     * @throws PacketOutOfBoundsException
+     */
+    @Test
+    public void testRuleTableTariff() throws CSVWrongFormatException, PacketOutOfBoundsException {
+        try (TariffCache cache = new TariffCache("src/test/data/possibleCSVs/ruleTableShippingCosts.csv")) {
+            Calculator calc = new Calculator(cache);
+            double delta = 1e-5; // delta for double value comparison
+
+            assertEquals(2.99, calc.calcShippingCosts(new Packet(100, 240, 200, 500)), delta);
+            assertEquals(3.89, calc.calcShippingCosts(new Packet(260, 200, 100, 500)), delta);
+            assertEquals(7.99, calc.calcShippingCosts(new ImmutablePacket(1000, 500, 100, 6000)), delta);
+            assertEquals(19.99, calc.calcShippingCosts(new ImmutablePacket(1500, 700, 700, 35000)), delta);
+            assertThrows(PacketOutOfBoundsException.class, () -> calc.calcShippingCosts(new Packet(2100, 700, 700, 1000)));
+            assertThrows(PacketOutOfBoundsException.class, () -> calc.calcShippingCosts(new Packet(300, 300, 150, 41000)));
+        }
+    }
+
+    /**
+     * Test if a quote returns the status instead of throwing an exception and reuses the preallocated results
+     * @throws CSVWrongFormatException
+     */
+    @Test
+    public void testQuoteResults() throws CSVWrongFormatException {
+        Calculator calc = new Calculator();
+
+        QuoteResult small = calc.quote(100, 250, 300, 750);
+        assertEquals(QuoteStatus.OK, small.status());
+        assertEquals(0, small.tier());
+        assertEquals(3.89, small.shippingCosts());
+        assertEquals(389, small.shippingCostsCents());
+        assertEquals("3.89" + Constants.Symbols.EURO, small.priceText());
+        assertTrue(small.isOk());
+        assertSame(small, calc.quote(new ImmutablePacket(300, 250, 100, 750)));
+
+        assertSame(QuoteResult.NON_POSITIVE, calc.quote(0, 250, 300, 750));
+        assertSame(QuoteResult.NON_POSITIVE, calc.quote(100, 250, 300, -1));
+        assertSame(QuoteResult.OUT_OF_BOUNDS, calc.quote(1201, 250, 300, 750));
+        assertSame(QuoteResult.OUT_OF_BOUNDS, calc.quote(100, 250, 300, 31001));
+        assertFalse(QuoteResult.OUT_OF_BOUNDS.isOk());
+        assertEquals(QuoteStatus.OUT_OF_BOUNDS, QuoteStatus.ofTier(Calculator.TIER_OUT_OF_BOUNDS));
+    }
+
+    /**
+     * Test if a packet is quoted with the tariff version that applied at its shipment date
+     * @throws CSVWrongFormatException
+     */
+    @Test
+    public void testQuoteAtShipmentDate() throws CSVWrongFormatException {
+        Calculator calc = new Calculator();
+        TariffVersions versions = new TariffVersions();
+        Instant first = Instant.parse("2025-01-01T00:00:00Z");
+        Instant second = Instant.parse("2026-01-01T00:00:00Z");
+        versions.publish(first, Tariff.ofShippingCostsCents(389, 439, 589, 799, 1499));
+        versions.publish(second, Tariff.ofShippingCostsCents(399, 449, 599, 849, 1599));
+
+        assertEquals(389, calc.quoteAt(versions, first, 100, 250, 300, 750).shippingCostsCents());
+        assertEquals(389, calc.quoteAt(versions, second.minusNanos(1), 300, 100, 250, 750).shippingCostsCents());
+        assertEquals(399, calc.quoteAt(versions, second, 100, 250, 300, 750).shippingCostsCents());
+        assertSame(QuoteResult.OUT_OF_BOUNDS, calc.quoteAt(versions, second, 1201, 250, 300, 750));
+        assertThrows(IllegalArgumentException.class, () -> calc.quoteAt(versions, first.minusSeconds(1), 100, 250, 300, 750));
+    }
+
+    /**
+     * Test if a packet that does not fit into any tier costs nothing and still has a price text
+     * @throws CSVWrongFormatException
+     * @throws PacketOutOfBoundsException
+     */
+    @Test
+    public void testQuoteWithoutTier() throws CSVWrongFormatException, PacketOutOfBoundsException {
+        Tariff tariff = new Tariff(1200, 600, 600, 5000, List.of(new Tariff.Tier(300, 300, 150, 1000, Tariff.NO_LIMIT, 389)));
+        Calculator calc = new Calculator(new TariffCache(TariffSource.of(tariff)));
+
+        QuoteResult result = calc.quote(1000, 500, 500, 4000);
+
+        assertSame(QuoteResult.NO_TIER, result);
+        assertEquals(0, result.shippingCostsCents());
+        assertEquals("0.00" + Constants.Symbols.EURO, result.priceText());
+        assertEquals(0, calc.calcShippingCosts(new ImmutablePacket(1000, 500, 500, 4000)));
+    }
+
+    /**
+     * Test if the quote of random packets has the same result as the calculation with exceptions
+     * @throws CSVWrongFormatException
+     */
+    @Test
+    public void testQuoteMatchesCalcShippingCosts() throws CSVWrongFormatException {
+        Calculator calc = new Calculator();
+        for (int i = 0; i < 10000; i++) {
+            int length = RANDOM.nextInt(2 * 1200) - 10;
+            int width = RANDOM.nextInt(2 * 600) - 10;
+            int height = RANDOM.nextInt(2 * 600) - 10;
+            int weight = RANDOM.nextInt(2 * 31000) - 10;
+
+            QuoteResult result = calc.quote(length, width, height, weight);
+            try {
+                assertEquals(calc.calcShippingCosts(new Packet(length, width, height, weight)), result.shippingCosts());
+                assertEquals(QuoteStatus.OK, result.status());
+            } catch (PacketOutOfBoundsException e) {
+                assertEquals(result.status().getMessage(), e.getMessage());
+            }
+        }
+    }
+}
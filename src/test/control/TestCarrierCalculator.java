@@ -0,0 +1,199 @@
+package test.control;
+
+import control.Calculator;
+import control.CarrierCalculator;
+import control.CarrierQuote;
+import control.QuoteResult;
+import control.QuoteStatus;
+import data.CarrierTariffs;
+import data.TariffCache;
+import data.Exceptions.CSVWrongFormatException;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * The {@code TestCarrierCalculator} class tests the {@link CarrierCalculator} class: the cheapest carrier and the ranking
+ * have to agree with one {@link Calculator} per carrier.
+ */
+class TestCarrierCalculator {
+
+    /**
+     * Temporary directory for the test
+     */
+    @TempDir
+    Path tempDir;
+
+    /** the calculator for all carriers */
+    private CarrierCalculator carrierCalculator;
+
+    /** one calculator per carrier, in the order of the carriers */
+    private Calculator[] calculators;
+
+    /** the tariff caches of the calculators */
+    private TariffCache[] caches;
+
+    /**
+     * Writes three carriers: the default tariff, a cheap one for small packets and an expensive one for long packets
+     * @throws IOException
+     * @throws CSVWrongFormatException
+     */
+    @BeforeEach
+    public void setUp() throws IOException, CSVWrongFormatException {
+        Files.writeString(tempDir.resolve("a_default.csv"), """
+            LIMITS;1200;600;600;31000
+            TIER;300;300;150;1000;-;3.89
+            TIER;600;300;150;2000;-;4.39
+            TIER;1200;600;600;5000;3000;5.89
+            TIER;1200;600;600;10000;3000;7.99
+            TIER;1200;600;600;31000;-;14.99
+            """);
+        Files.writeString(tempDir.resolve("b_small.csv"), """
+            LIMITS;400;400;200;3000
+            TIER;400;400;200;1000;-;2.99
+            TIER;400;400;200;3000;-;4.39
+            """);
+        Files.writeString(tempDir.resolve("c_long.csv"), """
+            LIMITS;2500;600;600;40000
+            TIER;2500;600;600;40000;4000;19.99
+            """);
+
+        CarrierTariffs carrierTariffs = CarrierTariffs.load(tempDir);
+        carrierCalculator = new CarrierCalculator(carrierTariffs);
+        caches = new TariffCache[] {
+            new TariffCache(tempDir.resolve("a_default.csv").toString()),
+            new TariffCache(tempDir.resolve("b_small.csv").toString()),
+            new TariffCache(tempDir.resolve("c_long.csv").toString())
+        };
+        calculators = new Calculator[caches.length];
+        for (int c = 0; c < caches.length; c++) {
+            calculators[c] = new Calculator(caches[c]);
+        }
+    }
+
+    /**
+     * Closes the tariff caches, which stops watching the files
+     */
+    @AfterEach
+    public void tearDown() {
+        for (TariffCache cache : caches) {
+            cache.close();
+        }
+    }
+
+    /**
+     * Test if the cheapest carrier is chosen and the dimensions may be in any order
+     */
+    @Test
+    public void testCheapest() {
+        CarrierQuote small = carrierCalculator.cheapest(100, 200, 50, 500);
+        assertEquals("b_small", small.carrierName());
+        assertEquals(299, small.result().shippingCostsCents());
+        assertSame(small, carrierCalculator.cheapest(50, 100, 200, 500));
+
+        // equally expensive carriers: the first one is taken
+        CarrierQuote tie = carrierCalculator.cheapest(400, 300, 150, 1500);
+        assertEquals(0, tie.carrier());
+        assertEquals(1, tie.result().tier());
+
+        CarrierQuote longPacket = carrierCalculator.cheapest(2000, 100, 100, 1000);
+        assertEquals("c_long", longPacket.carrierName());
+        assertEquals("19.99 €", longPacket.result().priceText());
+    }
+
+    /**
+     * Test if rejected packets are reported by the status of the quote
+     */
+    @Test
+    public void testRejections() {
+        assertSame(CarrierQuote.NON_POSITIVE, carrierCalculator.cheapest(0, 100, 100, 100));
+        assertSame(CarrierQuote.NON_POSITIVE, carrierCalculator.cheapest(100, 100, 100, -1));
+        assertSame(CarrierQuote.OUT_OF_BOUNDS, carrierCalculator.cheapest(3000, 100, 100, 100));
+        // in bounds of the long carrier, but its girth is exceeded
+        assertSame(CarrierQuote.NO_TIER, carrierCalculator.cheapest(2000, 600, 600, 100));
+        assertEquals(List.of(CarrierQuote.NO_TIER), carrierCalculator.rank(2000, 600, 600, 100));
+        assertEquals(List.of(CarrierQuote.OUT_OF_BOUNDS), carrierCalculator.rank(3000, 100, 100, 100));
+        assertFalse(CarrierQuote.NO_TIER.isOk());
+    }
+
+    /**
+     * Test if the ranking is sorted by the shipping costs and keeps the order of equally expensive carriers
+     */
+    @Test
+    public void testRank() {
+        List<CarrierQuote> ranking = carrierCalculator.rank(100, 200, 50, 500);
+
+        assertEquals(List.of("b_small", "a_default", "c_long"), ranking.stream().map(CarrierQuote::carrierName).toList());
+        assertEquals(List.of(299L, 389L, 1999L),
+            ranking.stream().map(quote -> quote.result().shippingCostsCents()).toList());
+        assertSame(carrierCalculator.cheapest(100, 200, 50, 500), ranking.get(0));
+
+        List<CarrierQuote> tie = carrierCalculator.rank(400, 300, 150, 1500);
+        assertEquals(List.of(0, 1, 2), tie.stream().map(CarrierQuote::carrier).toList());
+    }
+
+    /**
+     * Test if the one pass over all carriers agrees with one calculator per carrier for a grid of packets
+     * @throws CSVWrongFormatException
+     */
+    @Test
+    public void testAgreesWithOneCalculatorPerCarrier() throws CSVWrongFormatException {
+        int[] dimensions = {-1, 1, 150, 151, 300, 400, 401, 600, 601, 1200, 2500, 2501};
+        int[] weights = {0, 1, 1000, 1001, 3000, 5000, 31000, 40000, 40001};
+        for (int length : dimensions) {
+            for (int width : dimensions) {
+                for (int height : dimensions) {
+                    for (int weight : weights) {
+                        assertAgrees(length, width, height, weight);
+                    }
+                }
+            }
+        }
+    }
+
+    /**
+     * Checks the cheapest quote and the ranking of a packet against one calculator per carrier.
+     * @param length a dimension of the packet
+     * @param width a dimension of the packet
+     * @param height a dimension of the packet
+     * @param weight the weight of the packet
+     * @throws CSVWrongFormatException
+     */
+    private void assertAgrees(int length, int width, int height, int weight) throws CSVWrongFormatException {
+        String packet = length + "x" + width + "x" + height + " " + weight + "g";
+        QuoteResult[] results = new QuoteResult[calculators.length];
+        int cheapest = -1;
+        boolean inBounds = false;
+        for (int c = 0; c < calculators.length; c++) {
+            results[c] = calculators[c].quote(length, width, height, weight);
+            inBounds |= results[c].status() != QuoteStatus.OUT_OF_BOUNDS;
+            if (results[c].isOk()
+                    && (cheapest < 0 || results[c].shippingCostsCents() < results[cheapest].shippingCostsCents())) {
+                cheapest = c;
+            }
+        }
+
+        CarrierQuote quote = carrierCalculator.cheapest(length, width, height, weight);
+        List<CarrierQuote> ranking = carrierCalculator.rank(length, width, height, weight);
+        if (cheapest >= 0) {
+            assertEquals(cheapest, quote.carrier(), packet);
+            assertEquals(results[cheapest], quote.result(), packet);
+            assertEquals(List.of(results).stream().filter(QuoteResult::isOk).count(), ranking.size(), packet);
+            for (CarrierQuote ranked : ranking) {
+                assertEquals(results[ranked.carrier()], ranked.result(), packet);
+            }
+        } else {
+            QuoteStatus expected = results[0].status() == QuoteStatus.NON_POSITIVE ? QuoteStatus.NON_POSITIVE
+                : inBounds ? QuoteStatus.NO_TIER : QuoteStatus.OUT_OF_BOUNDS;
+            assertEquals(expected, quote.result().status(), packet);
+            assertEquals(List.of(quote), ranking, packet);
+        }
+    }
+}
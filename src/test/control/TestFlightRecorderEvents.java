@@ -0,0 +1,218 @@
+package test.control;
+
+import control.Calculator;
+import data.Constants;
+import data.TariffCache;
+import data.TariffSource;
+import data.Exceptions.CSVWrongFormatException;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.text.ParseException;
+import java.util.List;
+import jdk.jfr.Configuration;
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * The {@code TestFlightRecorderEvents} class tests the flight recorder events of the tariff import and the calculator
+ * with the bundled settings file.
+ */
+class TestFlightRecorderEvents {
+
+    /**
+     * Temporary directory for the test
+     */
+    @TempDir
+    Path tempDir;
+
+    /**
+     * Records the events of an action with the settings of {@code misc/jfr/packagecalculator.jfc}.
+     *
+     * @param action the action to record
+     * @return the recorded events of the application
+     * @throws Exception if the settings cannot be read or the action fails
+     */
+    private List<RecordedEvent> record(RecordedAction action) throws Exception {
+        Path file = tempDir.resolve("recording.jfr");
+        Configuration configuration = Configuration.create(Path.of("misc/jfr/packagecalculator.jfc"));
+        try (Recording recording = new Recording(configuration)) {
+            recording.start();
+            action.run();
+            recording.stop();
+            recording.dump(file);
+        }
+        return RecordingFile.readAllEvents(file).stream()
+            .filter(event -> event.getEventType().getCategoryNames().contains(Constants.Events.CATEGORY))
+            .toList();
+    }
+
+    /**
+     * An action that is recorded.
+     */
+    private interface RecordedAction {
+        /**
+         * Runs the action.
+         *
+         * @throws Exception if the action fails
+         */
+        void run() throws Exception;
+    }
+
+    /**
+     * Test if the import, single quotes, batches and rejected packets are recorded
+     * @throws Exception
+     */
+    @Test
+    public void testEventsAreRecorded() throws Exception {
+        Path csv = tempDir.resolve("shippingCosts.csv");
+        Files.copy(Path.of("engine/src/data/shippingCosts.csv"), csv);
+
+        List<RecordedEvent> events = record(() -> {
+            try (TariffCache cache = new TariffCache(csv.toString())) {
+                Calculator calc = new Calculator(cache);
+                calc.quote(250, 300, 100, 500);
+                calc.quote(0, 300, 100, 500);
+                calc.calcShippingCosts(new int[] {250, 600, 1300}, new int[] {300, 300, 300}, new int[] {100, 150, 100},
+                    new int[] {500, 1000, 500}, new int[3], new long[3]);
+            }
+        });
+
+        RecordedEvent tariffImport = single(events, Constants.Events.TARIFF_IMPORT);
+        assertEquals(csv.toAbsolutePath().toString(), tariffImport.getString("file"));
+        assertEquals(Constants.Events.FORMAT_CSV, tariffImport.getString("format"));
+        assertEquals(Files.size(csv), tariffImport.getLong("bytes"));
+        assertTrue(tariffImport.getBoolean("success"));
+
+        List<RecordedEvent> quotes = all(events, Constants.Events.QUOTE);
+        assertEquals(2, quotes.size());
+        assertEquals(0, quotes.get(0).getInt("tier"));
+        assertEquals(Constants.Bulk.STATUS_NON_POSITIVE, quotes.get(1).getString("status"));
+
+        RecordedEvent batch = single(events, Constants.Events.BATCH_QUOTE);
+        assertEquals(3, batch.getInt("rows"));
+        assertEquals(2, batch.getInt("validRows"));
+        assertEquals(1, batch.getInt("outOfBoundsRows"));
+        assertEquals("0:1 1:1", batch.getString("tierMix"));
+
+        List<RecordedEvent> failures = all(events, Constants.Events.VALIDATION_FAILURE);
+        assertEquals(2, failures.size());
+        assertEquals(Constants.Bulk.STATUS_OUT_OF_BOUNDS, failures.get(1).getString("reason"));
+        assertEquals(1300, failures.get(1).getInt("length"));
+    }
+
+    /**
+     * Test if rejected packets and single quotes are not recorded with the default settings of the JDK,
+     * while the batch still counts the rejected rows
+     * @throws Exception
+     */
+    @Test
+    public void testRejectedPacketsAreNotRecordedByDefault() throws Exception {
+        Path csv = tempDir.resolve("shippingCosts.csv");
+        Files.copy(Path.of("engine/src/data/shippingCosts.csv"), csv);
+        Path file = tempDir.resolve("default.jfr");
+        try (TariffCache cache = new TariffCache(csv.toString());
+                Recording recording = new Recording(Configuration.getConfiguration("default"))) {
+            Calculator calc = new Calculator(cache);
+            calc.quote(250, 300, 100, 500);
+            recording.start();
+            calc.quote(0, 300, 100, 500);
+            calc.calcShippingCosts(new int[] {1300, 1300}, new int[] {300, 300}, new int[] {100, 100},
+                new int[] {500, 500}, new int[2], new long[2]);
+            recording.stop();
+            recording.dump(file);
+        }
+        List<RecordedEvent> events = RecordingFile.readAllEvents(file).stream()
+            .filter(event -> event.getEventType().getCategoryNames().contains(Constants.Events.CATEGORY))
+            .toList();
+
+        assertTrue(all(events, Constants.Events.VALIDATION_FAILURE).isEmpty());
+        assertTrue(all(events, Constants.Events.QUOTE).isEmpty());
+        assertEquals(2, single(events, Constants.Events.BATCH_QUOTE).getInt("outOfBoundsRows"));
+    }
+
+    /**
+     * Test if a failed import is recorded
+     * @throws Exception
+     */
+    @Test
+    public void testFailedImportIsRecorded() throws Exception {
+        Path csv = tempDir.resolve("broken.csv");
+        Files.writeString(csv, "3.89;4.39");
+
+        List<RecordedEvent> events = record(() -> {
+            try (TariffCache cache = new TariffCache(csv.toString())) {
+                assertThrows(CSVWrongFormatException.class, cache::getTariff);
+            }
+        });
+
+        RecordedEvent tariffImport = single(events, Constants.Events.TARIFF_IMPORT);
+        assertFalse(tariffImport.getBoolean("success"));
+        assertEquals(0, tariffImport.getInt("tiers"));
+    }
+
+    /**
+     * Test if the import of the default tariff from the classpath is recorded
+     * @throws Exception
+     */
+    @Test
+    public void testClasspathImportIsRecorded() throws Exception {
+        List<RecordedEvent> events = record(() -> {
+            try (TariffCache cache = new TariffCache(TariffSource.ofClasspath(Constants.FilePaths.SHIPPING_COSTS_RESOURCE))) {
+                cache.getTariff();
+            }
+        });
+
+        RecordedEvent tariffImport = single(events, Constants.Events.TARIFF_IMPORT);
+        assertEquals(Constants.FilePaths.SHIPPING_COSTS_RESOURCE, tariffImport.getString("file"));
+        assertEquals(Constants.Events.FORMAT_CSV, tariffImport.getString("format"));
+        assertEquals(Files.size(Path.of("engine/src/data/shippingCosts.csv")), tariffImport.getLong("bytes"));
+        assertEquals(5, tariffImport.getInt("tiers"));
+        assertTrue(tariffImport.getBoolean("success"));
+    }
+
+    /**
+     * Test if the settings file can be read
+     * @throws IOException
+     * @throws ParseException
+     */
+    @Test
+    public void testSettingsFile() throws IOException, ParseException {
+        Configuration configuration = Configuration.create(Path.of("misc/jfr/packagecalculator.jfc"));
+
+        assertEquals("0 ms", configuration.getSettings().get(Constants.Events.QUOTE + "#threshold"));
+        assertEquals("true", configuration.getSettings().get(Constants.Events.VALIDATION_FAILURE + "#enabled"));
+    }
+
+    /**
+     * Returns the recorded events of a type in the order they were recorded.
+     *
+     * @param events the recorded events
+     * @param name the name of the event type
+     * @return the events of the type
+     */
+    private static List<RecordedEvent> all(List<RecordedEvent> events, String name) {
+        return events.stream()
+            .filter(event -> event.getEventType().getName().equals(name))
+            .sorted((a, b) -> a.getStartTime().compareTo(b.getStartTime()))
+            .toList();
+    }
+
+    /**
+     * Returns the only recorded event of a type.
+     *
+     * @param events the recorded events
+     * @param name the name of the event type
+     * @return the event of the type
+     */
+    private static RecordedEvent single(List<RecordedEvent> events, String name) {
+        List<RecordedEvent> matching = all(events, name);
+        assertEquals(1, matching.size(), name);
+        return matching.get(0);
+    }
+}
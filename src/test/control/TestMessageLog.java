@@ -0,0 +1,155 @@
+package test.control;
+
+import control.MessageLog;
+
+import org.junit.jupiter.api.Test;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * The {@code TestMessageLog} class tests the {@link MessageLog} class: messages have to be drained in order,
+ * equal messages collapsed and overwritten messages counted, also with many producers.
+ */
+class TestMessageLog {
+
+    /**
+     * A sink that keeps the lines as a list would show them.
+     */
+    private static class Lines implements MessageLog.Sink {
+        /** the shown lines */
+        final List<String> lines = new ArrayList<>();
+
+        /**
+         * Adds a line.
+         * @param text the message
+         */
+        @Override
+        public void append(String text) {
+            lines.add(text);
+        }
+
+        /**
+         * Replaces the last line with the message and its count.
+         * @param text the repeated message
+         * @param count how often the message was added in a row
+         */
+        @Override
+        public void repeated(String text, long count) {
+            lines.set(lines.size() - 1, text + " x" + count);
+        }
+    }
+
+    /**
+     * Test if the messages are drained in the order they were added and only once
+     */
+    @Test
+    public void testMessagesAreDrainedInOrder() {
+        MessageLog log = new MessageLog(8);
+        Lines sink = new Lines();
+
+        log.add("a");
+        log.add("b");
+        assertTrue(log.drain(sink));
+        log.add("c");
+        assertTrue(log.drain(sink));
+        assertTrue(log.drain(sink));
+
+        assertEquals(List.of("a", "b", "c"), sink.lines);
+        assertEquals("c", log.getLast());
+        assertEquals(0, log.getDroppedCount());
+        assertEquals(0, log.getCollapsedCount());
+    }
+
+    /**
+     * Test if equal messages in a row are collapsed, also across drains
+     */
+    @Test
+    public void testRepeatedMessagesAreCollapsed() {
+        MessageLog log = new MessageLog(8);
+        Lines sink = new Lines();
+
+        log.add("a");
+        log.add("b");
+        log.add("b");
+        log.drain(sink);
+        log.add("b");
+        log.drain(sink);
+        log.add("a");
+        log.drain(sink);
+
+        assertEquals(List.of("a", "b x3", "a"), sink.lines);
+        assertEquals(2, log.getCollapsedCount());
+    }
+
+    /**
+     * Test if the oldest messages are dropped and counted if the consumer is too slow
+     */
+    @Test
+    public void testOverflowDropsOldestMessages() {
+        MessageLog log = new MessageLog(5);
+        Lines sink = new Lines();
+        assertEquals(8, log.getCapacity());
+
+        for (int i = 0; i < 20; i++) {
+            log.add(Integer.toString(i));
+        }
+        log.drain(sink);
+
+        assertEquals(List.of("12", "13", "14", "15", "16", "17", "18", "19"), sink.lines);
+        assertEquals(12, log.getDroppedCount());
+    }
+
+    /**
+     * Test if every message of many producers is either drained, collapsed or dropped
+     * @throws InterruptedException
+     */
+    @Test
+    public void testConcurrentProducers() throws InterruptedException {
+        MessageLog log = new MessageLog(1024);
+        int producers = 8;
+        int messages = 20_000;
+        CountDownLatch done = new CountDownLatch(producers);
+        for (int p = 0; p < producers; p++) {
+            String prefix = p + ":";
+            Thread.ofVirtual().start(() -> {
+                for (int i = 0; i < messages; i++) {
+                    // every message is added twice, so that some of them are collapsed
+                    log.add(prefix + i / 2);
+                }
+                done.countDown();
+            });
+        }
+
+        long[] appended = new long[1];
+        MessageLog.Sink counter = new MessageLog.Sink() {
+            @Override
+            public void append(String text) {
+                appended[0]++;
+            }
+
+            @Override
+            public void repeated(String text, long count) {
+                assertTrue(count >= 2);
+            }
+        };
+        while (done.getCount() > 0) {
+            log.drain(counter);
+        }
+        done.await();
+        while (!log.drain(counter)) {
+            Thread.onSpinWait();
+        }
+
+        assertEquals((long) producers * messages, appended[0] + log.getCollapsedCount() + log.getDroppedCount());
+    }
+
+    /**
+     * Test if an invalid capacity is rejected
+     */
+    @Test
+    public void testInvalidCapacity() {
+        assertThrows(IllegalArgumentException.class, () -> new MessageLog(0));
+    }
+}
@@ -0,0 +1,166 @@
+package test.control;
+
+import control.Calculator;
+import control.QuoteHttpServer;
+import control.QuoteMetrics;
+import data.TariffCache;
+import data.Exceptions.CSVWrongFormatException;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import java.io.IOException;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * The {@code TestQuoteHttpServer} class tests the {@link QuoteHttpServer} class with single and batch quotes
+ * over a local connection.
+ */
+class TestQuoteHttpServer {
+
+    /** the service under test */
+    private QuoteHttpServer server;
+
+    /** the client for the requests */
+    private HttpClient client;
+
+    @BeforeEach
+    void setUpBeforeEach() throws IOException, CSVWrongFormatException {
+        server = new QuoteHttpServer(new Calculator(), new InetSocketAddress(InetAddress.getLoopbackAddress(), 0));
+        server.start();
+        client = HttpClient.newHttpClient();
+    }
+
+    @AfterEach
+    void tearDownAfterEach() {
+        server.stop();
+    }
+
+    /**
+     * Sends a request to the quoting endpoint.
+     *
+     * @param query the query of the request or an empty string
+     * @param body the body of a POST request or null for a GET request
+     * @return the response
+     * @throws IOException if the request cannot be sent
+     * @throws InterruptedException if the request is interrupted
+     */
+    private HttpResponse<String> request(String query, String body) throws IOException, InterruptedException {
+        HttpRequest.Builder builder = HttpRequest.newBuilder(URI.create("http://127.0.0.1:" + server.getPort() + "/quote" + query));
+        if (body != null) {
+            builder.POST(HttpRequest.BodyPublishers.ofString(body));
+        }
+        return client.send(builder.build(), HttpResponse.BodyHandlers.ofString());
+    }
+
+    /**
+     * Test if a single quote returns the tier and the shipping costs
+     */
+    @Test
+    public void testSingleQuote() throws IOException, InterruptedException {
+        HttpResponse<String> response = request("?length=200&width=300&height=100&weight=500", null);
+
+        assertEquals(200, response.statusCode());
+        assertEquals("{\"tier\":0,\"costs\":3.89,\"status\":\"OK\"}", response.body());
+    }
+
+    /**
+     * Test if an invalid packet is answered with its status
+     */
+    @Test
+    public void testSingleQuoteInvalidPacket() throws IOException, InterruptedException {
+        HttpResponse<String> response = request("?length=1300&width=300&height=100&weight=500", null);
+
+        assertEquals(200, response.statusCode());
+        assertEquals("{\"tier\":null,\"costs\":null,\"status\":\"OUT_OF_BOUNDS\"}", response.body());
+    }
+
+    /**
+     * Test if a missing or non-numeric parameter is a bad request
+     */
+    @Test
+    public void testSingleQuoteMissingParameter() throws IOException, InterruptedException {
+        assertEquals(400, request("?length=200&width=300&height=100", null).statusCode());
+        assertEquals(400, request("?length=200&width=abc&height=100&weight=500", null).statusCode());
+        assertEquals(400, request("", null).statusCode());
+    }
+
+    /**
+     * Test if a batch returns one result per line in the same order, including lines that cannot be read
+     */
+    @Test
+    public void testBatchQuote() throws IOException, InterruptedException {
+        String body = """
+            {"id":"P1","length":200,"width":300,"height":100,"weight":500}
+            {"weight":1350, "height":120, "width":250, "length":550, "id":"P\\"2", "note":"fragile"}
+
+            {"id":"P3","length":0,"width":300,"height":100,"weight":500}
+            {"id":"P4","length":200,"width":300}
+            not json
+            """;
+
+        HttpResponse<String> response = request("", body);
+
+        assertEquals(200, response.statusCode());
+        assertEquals("""
+            {"id":"P1","tier":0,"costs":3.89,"status":"OK"}
+            {"id":"P\\"2","tier":1,"costs":4.39,"status":"OK"}
+            {"id":"P3","tier":null,"costs":null,"status":"NON_POSITIVE"}
+            {"id":"P4","tier":null,"costs":null,"status":"WRONG_FORMAT"}
+            {"tier":null,"costs":null,"status":"WRONG_FORMAT"}
+            """, response.body());
+    }
+
+    /**
+     * Test if lines that cannot be read are not quoted, even if they follow a valid line or are partly filled in
+     * @throws IOException
+     * @throws InterruptedException
+     * @throws CSVWrongFormatException
+     */
+    @Test
+    public void testBatchQuoteWrongFormatIsNotQuoted() throws IOException, InterruptedException, CSVWrongFormatException {
+        server.stop();
+        TariffCache cache = TariffCache.getDefault();
+        QuoteMetrics metrics = new QuoteMetrics(cache);
+        server = new QuoteHttpServer(new Calculator(cache, null, metrics), new InetSocketAddress(InetAddress.getLoopbackAddress(), 0));
+        server.start();
+        String body = """
+            {"id":"P1","length":200,"width":300,"height":100,"weight":500}
+            {"id":"P2","length":200,"width":300}
+            {"id":"P3","length":0,"width":300,"height":100,"weight":"x"}
+            """;
+
+        HttpResponse<String> response = request("", body);
+
+        assertEquals("""
+            {"id":"P1","tier":0,"costs":3.89,"status":"OK"}
+            {"id":"P2","tier":null,"costs":null,"status":"WRONG_FORMAT"}
+            {"id":"P3","tier":null,"costs":null,"status":"WRONG_FORMAT"}
+            """, response.body());
+        QuoteMetrics.Snapshot snapshot = metrics.snapshot();
+        assertEquals(1, snapshot.quoteCount());
+        assertEquals(1, snapshot.tierCounts()[0]);
+        assertEquals(0, snapshot.nonPositiveCount());
+
+        response = request("", "not json\n");
+        assertEquals("{\"tier\":null,\"costs\":null,\"status\":\"WRONG_FORMAT\"}\n", response.body());
+        assertEquals(1, metrics.snapshot().quoteCount());
+    }
+
+    /**
+     * Test if other methods are not allowed
+     */
+    @Test
+    public void testMethodNotAllowed() throws IOException, InterruptedException {
+        HttpRequest request = HttpRequest.newBuilder(URI.create("http://127.0.0.1:" + server.getPort() + "/quote"))
+            .DELETE().build();
+
+        assertEquals(405, client.send(request, HttpResponse.BodyHandlers.ofString()).statusCode());
+    }
+}
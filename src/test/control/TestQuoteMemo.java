@@ -0,0 +1,136 @@
+package test.control;
+
+import control.Calculator;
+import control.QuoteMemo;
+import control.Exceptions.PacketOutOfBoundsException;
+import data.ImmutablePacket;
+import data.TariffCache;
+import data.Exceptions.CSVWrongFormatException;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Random;
+import java.util.stream.IntStream;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * The {@code TestQuoteMemo} class tests the {@link QuoteMemo} class: the memoized results have to be the same as the
+ * calculated ones, also when entries are evicted, used by many threads or the tariff changes.
+ */
+class TestQuoteMemo {
+
+    /**
+     * Temporary directory for the test
+     */
+    @TempDir
+    Path tempDir;
+
+    /**
+     * Test if repeated packets are answered by the memo
+     * @throws CSVWrongFormatException
+     * @throws PacketOutOfBoundsException
+     */
+    @Test
+    public void testRepeatedPacketsAreHits() throws CSVWrongFormatException, PacketOutOfBoundsException {
+        QuoteMemo memo = new QuoteMemo(64);
+        Calculator calc = new Calculator(TariffCache.getDefault(), memo);
+        ImmutablePacket small = new ImmutablePacket(250, 250, 120, 750);
+        ImmutablePacket big = new ImmutablePacket(1000, 500, 500, 5000);
+
+        for (int i = 0; i < 50; i++) {
+            assertEquals(3.89, calc.calcShippingCosts(small));
+            assertEquals(5.89, calc.calcShippingCosts(big));
+        }
+
+        assertEquals(2, memo.getMisses());
+        assertEquals(98, memo.getHits());
+        assertEquals(0.98, memo.getHitRate(), 1e-9);
+        assertSame(memo, calc.getQuoteMemo());
+    }
+
+    /**
+     * Test if a small memo with many evictions returns the same tiers and costs as a calculator without memo,
+     * including invalid rows
+     * @throws CSVWrongFormatException
+     */
+    @Test
+    public void testMemoMatchesCalculation() throws CSVWrongFormatException {
+        QuoteMemo memo = new QuoteMemo(16);
+        Calculator memoized = new Calculator(TariffCache.getDefault(), memo);
+        Calculator calculated = new Calculator();
+        Random random = new Random(7);
+        int rows = 20000;
+        int[] lengths = new int[rows];
+        int[] widths = new int[rows];
+        int[] heights = new int[rows];
+        int[] weights = new int[rows];
+        for (int i = 0; i < rows; i++) {
+            // few shapes, so that there are hits, and some invalid values
+            lengths[i] = random.nextInt(20) * 70 - 10;
+            widths[i] = random.nextInt(10) * 70;
+            heights[i] = random.nextInt(10) * 70;
+            weights[i] = random.nextInt(10) * 3500;
+        }
+        int[] memoTiers = new int[rows];
+        long[] memoCosts = new long[rows];
+        int[] tiers = new int[rows];
+        long[] costs = new long[rows];
+
+        memoized.calcShippingCosts(lengths, widths, heights, weights, memoTiers, memoCosts);
+        calculated.calcShippingCosts(lengths, widths, heights, weights, tiers, costs);
+
+        assertArrayEquals(tiers, memoTiers, "Tiers are not correct");
+        assertArrayEquals(costs, memoCosts, "Shipping costs are not correct");
+        assertTrue(memo.getHits() > 0);
+        assertTrue(memo.getEvictions() > 0);
+    }
+
+    /**
+     * Test if many threads can use one memo at once
+     */
+    @Test
+    public void testConcurrentReaders() {
+        QuoteMemo memo = new QuoteMemo(32);
+        Calculator calc = new Calculator(TariffCache.getDefault(), memo);
+        Calculator calculated = new Calculator();
+
+        IntStream.range(0, 100000).parallel().forEach(i -> {
+            ImmutablePacket pack = new ImmutablePacket(100 + (i % 37) * 30, 100 + (i % 11) * 40, 50 + (i % 5) * 100, 500 + (i % 13) * 2000);
+            try {
+                assertEquals(calculated.calcShippingCosts(pack), calc.calcShippingCosts(pack));
+            } catch (CSVWrongFormatException | PacketOutOfBoundsException e) {
+                assertThrows(e.getClass(), () -> calc.calcShippingCosts(pack));
+            }
+        });
+        assertEquals(100000, memo.getHits() + memo.getMisses());
+    }
+
+    /**
+     * Test if the memo is invalidated when the tariff is reloaded
+     * @throws CSVWrongFormatException
+     * @throws PacketOutOfBoundsException
+     * @throws IOException
+     */
+    @Test
+    public void testTariffChangeInvalidates() throws CSVWrongFormatException, PacketOutOfBoundsException, IOException {
+        Path csv = tempDir.resolve("shippingCosts.csv");
+        Files.writeString(csv, "LIMITS;1200;600;600;31000\nTIER;300;300;150;1000;-;3.89\nTIER;1200;600;600;31000;-;9.99\n");
+        try (TariffCache cache = new TariffCache(csv.toString())) {
+            QuoteMemo memo = new QuoteMemo();
+            Calculator calc = new Calculator(cache, memo);
+            ImmutablePacket pack = new ImmutablePacket(550, 250, 120, 1350);
+            assertEquals(9.99, calc.calcShippingCosts(pack));
+            assertEquals(9.99, calc.calcShippingCosts(pack));
+
+            // add a tier in front of the packet's tier
+            Files.writeString(csv, "LIMITS;1200;600;600;31000\nTIER;600;300;150;2000;-;4.39\nTIER;1200;600;600;31000;-;9.99\n");
+            cache.reload();
+
+            assertEquals(4.39, calc.calcShippingCosts(pack));
+            assertEquals(2, memo.getMisses());
+        }
+    }
+}
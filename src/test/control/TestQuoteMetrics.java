@@ -0,0 +1,190 @@
+package test.control;
+
+import control.Calculator;
+import control.QuoteMetrics;
+import control.Exceptions.PacketOutOfBoundsException;
+import data.ImmutablePacket;
+import data.Tariff;
+import data.TariffCache;
+import data.TariffSource;
+import data.Exceptions.CSVWrongFormatException;
+
+import org.junit.jupiter.api.Test;
+import java.lang.management.ManagementFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+import java.util.stream.IntStream;
+import javax.management.JMException;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * The {@code TestQuoteMetrics} class tests the {@link QuoteMetrics} class: every quote has to be counted by its tier
+ * or reason of rejection, also from many threads, and the metrics have to be readable over JMX.
+ */
+class TestQuoteMetrics {
+
+    /**
+     * Test if single quotes are counted per tier and per reason and their latency is measured
+     * @throws CSVWrongFormatException
+     */
+    @Test
+    public void testSingleQuotesAreCounted() throws CSVWrongFormatException {
+        QuoteMetrics metrics = new QuoteMetrics(TariffCache.getDefault());
+        Calculator calc = new Calculator(TariffCache.getDefault(), null, metrics);
+
+        calc.quote(250, 300, 100, 500);
+        calc.quote(new ImmutablePacket(300, 250, 100, 750));
+        calc.quote(1000, 500, 500, 5000);
+        calc.quote(0, 300, 100, 500);
+        calc.quote(1300, 300, 100, 500);
+        assertThrows(PacketOutOfBoundsException.class, () -> calc.calcShippingCosts(new ImmutablePacket(300, 250, 100, -1)));
+
+        QuoteMetrics.Snapshot snapshot = metrics.snapshot();
+        assertArrayEquals(new long[] {2, 0, 1}, snapshot.tierCounts());
+        assertEquals(2, snapshot.nonPositiveCount());
+        assertEquals(1, snapshot.outOfBoundsCount());
+        assertEquals(0, snapshot.noTierCount());
+        assertEquals(6, snapshot.quoteCount());
+        assertEquals(6, snapshot.latencyCount());
+        assertTrue(snapshot.latencyPercentileNanos(50) <= snapshot.latencyMaxNanos());
+        assertEquals(snapshot.latencyMaxNanos(), snapshot.latencyPercentileNanos(100));
+        assertTrue(snapshot.reloadCount() >= 1);
+        assertSame(metrics, calc.getQuoteMetrics());
+    }
+
+    /**
+     * Test if the latency covers the whole quote, including getting the tariff, and not only the lookup of the tier
+     * @throws CSVWrongFormatException
+     */
+    @Test
+    public void testLatencyIncludesTariff() throws CSVWrongFormatException {
+        Tariff tariff = TariffSource.ofFile("engine/src/data/shippingCosts.csv").load();
+        TariffSource slowSource = new TariffSource() {
+            @Override
+            public Tariff load() {
+                long end = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(20);
+                for (long now = System.nanoTime(); now < end; now = System.nanoTime()) {
+                    LockSupport.parkNanos(end - now);
+                }
+                return tariff;
+            }
+
+            @Override
+            public String getName() {
+                return "slow";
+            }
+        };
+        TariffCache cache = new TariffCache(slowSource);
+        QuoteMetrics metrics = new QuoteMetrics(cache);
+        Calculator calc = new Calculator(cache, null, metrics);
+
+        // the first quote loads the tariff
+        calc.quote(250, 300, 100, 500);
+
+        assertTrue(metrics.snapshot().latencyMaxNanos() >= TimeUnit.MILLISECONDS.toNanos(20));
+    }
+
+    /**
+     * Test if the rows of a batch are counted without measuring their latency
+     * @throws CSVWrongFormatException
+     */
+    @Test
+    public void testBatchRowsAreCounted() throws CSVWrongFormatException {
+        QuoteMetrics metrics = new QuoteMetrics(TariffCache.getDefault());
+        Calculator calc = new Calculator(TariffCache.getDefault(), null, metrics);
+        int[] lengths = {250, 600, 0, 1300};
+        int[] widths = {300, 300, 300, 300};
+        int[] heights = {100, 150, 100, 100};
+        int[] weights = {500, 1000, 500, 500};
+
+        calc.calcShippingCosts(lengths, widths, heights, weights, new int[4], new long[4]);
+
+        QuoteMetrics.Snapshot snapshot = metrics.snapshot();
+        assertArrayEquals(new long[] {1, 1}, snapshot.tierCounts());
+        assertEquals(1, snapshot.nonPositiveCount());
+        assertEquals(1, snapshot.outOfBoundsCount());
+        assertEquals(0, snapshot.latencyCount());
+        assertEquals(0, snapshot.latencyPercentileNanos(99));
+    }
+
+    /**
+     * Test if quotes of many threads are all counted
+     * @throws CSVWrongFormatException
+     */
+    @Test
+    public void testConcurrentQuotes() throws CSVWrongFormatException {
+        QuoteMetrics metrics = new QuoteMetrics(TariffCache.getDefault());
+        Calculator calc = new Calculator(TariffCache.getDefault(), null, metrics);
+        calc.quote(250, 300, 100, 500);
+
+        IntStream.range(0, 100_000).parallel().forEach(i -> {
+            try {
+                calc.quote(250, 300, 100, 1 + i % 2000);
+            } catch (CSVWrongFormatException e) {
+                fail(e);
+            }
+        });
+
+        QuoteMetrics.Snapshot snapshot = metrics.snapshot();
+        assertEquals(100_001, snapshot.quoteCount());
+        assertEquals(100_001, snapshot.latencyCount());
+        assertEquals(100_001, snapshot.tierCounts()[0] + snapshot.tierCounts()[1]);
+    }
+
+    /**
+     * Test if the percentiles are the upper bounds of logarithmic buckets
+     * with at most an eighth of the value as error
+     */
+    @Test
+    public void testLatencyPercentiles() {
+        long[] counts = new long[QuoteMetrics.LATENCY_BUCKETS];
+        long[] latencies = {3, 100, 1_000, 1_000_000, Long.MAX_VALUE / 3};
+        for (long latency : latencies) {
+            int index = QuoteMetrics.bucketIndex(latency);
+            long upperBound = QuoteMetrics.bucketUpperBound(index);
+            assertTrue(upperBound >= latency);
+            assertTrue(upperBound - latency <= latency / 8);
+            if (index > 0) {
+                assertTrue(QuoteMetrics.bucketUpperBound(index - 1) < latency);
+            }
+            counts[index]++;
+        }
+        QuoteMetrics.Snapshot snapshot = new QuoteMetrics.Snapshot(new long[0], 0, 0, 0, 0, 0, 0, 0, counts, Long.MAX_VALUE / 3);
+
+        assertEquals(3, snapshot.latencyPercentileNanos(0));
+        assertEquals(3, snapshot.latencyPercentileNanos(20));
+        assertEquals(QuoteMetrics.bucketUpperBound(QuoteMetrics.bucketIndex(1_000)), snapshot.latencyPercentileNanos(50));
+        assertEquals(Long.MAX_VALUE / 3, snapshot.latencyPercentileNanos(99.9));
+    }
+
+    /**
+     * Test if the metrics can be read and reset over JMX
+     * @throws CSVWrongFormatException
+     * @throws JMException
+     */
+    @Test
+    public void testRegisteredMBean() throws CSVWrongFormatException, JMException {
+        QuoteMetrics metrics = new QuoteMetrics(TariffCache.getDefault());
+        Calculator calc = new Calculator(TariffCache.getDefault(), null, metrics);
+        calc.quote(250, 300, 100, 500);
+        calc.quote(0, 300, 100, 500);
+
+        MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+        ObjectName name = metrics.register("test");
+        try {
+            assertEquals(2L, server.getAttribute(name, "QuoteCount"));
+            assertEquals(1L, server.getAttribute(name, "NonPositiveCount"));
+            assertArrayEquals(new long[] {1}, (long[]) server.getAttribute(name, "TierCounts"));
+            assertThrows(JMException.class, () -> metrics.register("test"));
+
+            server.invoke(name, "reset", null, null);
+            assertEquals(0L, server.getAttribute(name, "QuoteCount"));
+            assertEquals(0L, server.getAttribute(name, "LatencyMaxNanos"));
+        } finally {
+            metrics.unregister("test");
+        }
+        assertFalse(server.isRegistered(name));
+    }
+}
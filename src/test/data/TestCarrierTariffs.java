@@ -0,0 +1,123 @@
+package test.data;
+
+import data.CarrierTariffs;
+import data.Tariff;
+import data.Exceptions.CSVWrongFormatException;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.util.List;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * The {@code TestCarrierTariffs} class tests the {@link CarrierTariffs} class: the carriers have to be loaded from
+ * a directory and the first matching tier of the cheapest carrier has to be found in one pass.
+ */
+class TestCarrierTariffs {
+
+    /**
+     * Temporary directory for the test
+     */
+    @TempDir
+    Path tempDir;
+
+    /**
+     * Test if every csv file of a directory is loaded as a carrier, sorted by name
+     * @throws CSVWrongFormatException
+     * @throws IOException
+     */
+    @Test
+    public void testLoadDirectory() throws CSVWrongFormatException, IOException {
+        Files.writeString(tempDir.resolve("slow.csv"), "LIMITS;1000;500;500;20000\nTIER;1000;500;500;20000;-;2.50");
+        Files.writeString(tempDir.resolve("fast.csv"), "3.89;4.39;5.89;7.99;14.99");
+        Files.writeString(tempDir.resolve("notes.txt"), "not a tariff");
+
+        CarrierTariffs carrierTariffs = CarrierTariffs.load(tempDir);
+
+        List<CarrierTariffs.Carrier> carriers = carrierTariffs.getCarriers();
+        assertEquals(List.of("fast", "slow"), carriers.stream().map(CarrierTariffs.Carrier::name).toList());
+        assertEquals(6, carrierTariffs.getRowCount());
+        assertEquals(1, carrierTariffs.getCarrier(5));
+        assertEquals(0, carrierTariffs.getTier(5));
+        assertEquals(250, carrierTariffs.getShippingCostsCents(5));
+    }
+
+    /**
+     * Test if a directory without csv files or a missing directory is rejected
+     * @throws IOException
+     */
+    @Test
+    public void testLoadWithoutCarriers() throws IOException {
+        Files.writeString(tempDir.resolve("notes.txt"), "not a tariff");
+
+        assertThrows(CSVWrongFormatException.class, () -> CarrierTariffs.load(tempDir));
+        CSVWrongFormatException missing = assertThrows(CSVWrongFormatException.class,
+            () -> CarrierTariffs.load(tempDir.resolve("missing")));
+        assertInstanceOf(NoSuchFileException.class, missing.getCause());
+    }
+
+    /**
+     * Test if the cheapest carrier is found and only the first matching tier of a carrier counts
+     * @throws CSVWrongFormatException
+     */
+    @Test
+    public void testFindCheapestRow() throws CSVWrongFormatException {
+        // the second tier of "a" is cheaper than its first one, but is never used for small packets
+        Tariff a = new Tariff(1000, 1000, 1000, 10000, List.of(
+            new Tariff.Tier(200, 200, 200, 1000, Tariff.NO_LIMIT, 500),
+            new Tariff.Tier(1000, 1000, 1000, 10000, Tariff.NO_LIMIT, 100)));
+        Tariff b = new Tariff(500, 500, 500, 5000, List.of(
+            new Tariff.Tier(500, 500, 500, 5000, Tariff.NO_LIMIT, 300)));
+        CarrierTariffs carrierTariffs = new CarrierTariffs(List.of(
+            new CarrierTariffs.Carrier("a", a), new CarrierTariffs.Carrier("b", b)));
+
+        // a: tier 0 for 500 cents, b: tier 0 for 300 cents
+        assertEquals(2, carrierTariffs.findCheapestRow(100, 100, 100, 500));
+        // a: tier 1 for 100 cents, b: tier 0 for 300 cents
+        assertEquals(1, carrierTariffs.findCheapestRow(400, 100, 100, 500));
+        // only a accepts the packet
+        assertEquals(1, carrierTariffs.findCheapestRow(800, 100, 100, 500));
+        // no carrier accepts the packet
+        assertEquals(-1, carrierTariffs.findCheapestRow(2000, 100, 100, 500));
+        assertEquals(-1, carrierTariffs.findCheapestRow(Integer.MAX_VALUE, Integer.MAX_VALUE, Integer.MAX_VALUE, 500));
+
+        int[] rows = new int[2];
+        assertEquals(2, carrierTariffs.findRows(100, 100, 100, 500, rows));
+        assertArrayEquals(new int[] {0, 2}, rows);
+        assertEquals(1, carrierTariffs.findRows(800, 100, 100, 500, rows));
+        assertEquals(1, rows[0]);
+    }
+
+    /**
+     * Test if carriers are checked for bounds separately
+     * @throws CSVWrongFormatException
+     */
+    @Test
+    public void testIsInBounds() throws CSVWrongFormatException {
+        List<Tariff.Tier> tiers = List.of(new Tariff.Tier(10, 10, 10, 10, Tariff.NO_LIMIT, 100));
+        CarrierTariffs carrierTariffs = new CarrierTariffs(List.of(
+            new CarrierTariffs.Carrier("long", new Tariff(2000, 100, 100, 1000, tiers)),
+            new CarrierTariffs.Carrier("heavy", new Tariff(100, 100, 100, 50000, tiers))));
+
+        assertTrue(carrierTariffs.isInBounds(2000, 100, 100, 1000));
+        assertTrue(carrierTariffs.isInBounds(100, 100, 100, 50000));
+        assertFalse(carrierTariffs.isInBounds(2000, 100, 100, 50000));
+    }
+
+    /**
+     * Test if no carrier and a name used twice are rejected
+     * @throws CSVWrongFormatException
+     */
+    @Test
+    public void testInvalidCarriers() throws CSVWrongFormatException {
+        Tariff tariff = Tariff.ofShippingCostsCents(389, 439, 589, 799, 1499);
+
+        assertThrows(IllegalArgumentException.class, () -> new CarrierTariffs(List.of()));
+        assertThrows(IllegalArgumentException.class, () -> new CarrierTariffs(List.of(
+            new CarrierTariffs.Carrier("a", tariff), new CarrierTariffs.Carrier("a", tariff))));
+    }
+}
@@ -0,0 +1,125 @@
+package test.data;
+
+import data.Constants;
+import data.CsvByteParser;
+import data.Exceptions.CSVWrongFormatException;
+
+import org.junit.jupiter.api.Test;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * The {@code TestCsvByteParser} class tests the {@link CsvByteParser} class: lines and fields have to be found in the
+ * bytes, integers and prices decoded without strings and errors reported with line and column.
+ */
+class TestCsvByteParser {
+
+    /**
+     * Returns a buffer with the UTF-8 bytes of a text.
+     * @param text the text
+     * @return the buffer
+     */
+    private static ByteBuffer bytes(String text) {
+        return ByteBuffer.wrap(text.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Test if lines and fields are walked through, including empty fields, blank lines and windows line breaks
+     * @throws CSVWrongFormatException
+     */
+    @Test
+    public void testLinesAndFields() throws CSVWrongFormatException {
+        CsvByteParser parser = new CsvByteParser(bytes("1;-22;\r\n \t\n333"));
+
+        assertTrue(parser.nextLine());
+        assertTrue(parser.nextField());
+        assertEquals(1, parser.parseInt());
+        assertTrue(parser.nextField());
+        assertEquals(-22, parser.parseInt());
+        assertEquals(3, parser.getColumn());
+        assertTrue(parser.nextField());
+        assertTrue(parser.fieldEquals(new byte[0]));
+        assertFalse(parser.nextField());
+        parser.expectLineEnd();
+
+        assertTrue(parser.nextLine());
+        assertTrue(parser.isBlankLine());
+
+        assertTrue(parser.nextLine());
+        assertEquals(3, parser.getLine());
+        parser.expectField();
+        assertEquals(333, parser.parseInt());
+        assertFalse(parser.nextLine());
+    }
+
+    /**
+     * Test if only the range between position and limit is read
+     * @throws CSVWrongFormatException
+     */
+    @Test
+    public void testBufferRange() throws CSVWrongFormatException {
+        ByteBuffer buffer = bytes("x12;34x");
+        buffer.position(1).limit(6);
+        CsvByteParser parser = new CsvByteParser(buffer);
+
+        assertTrue(parser.nextLine());
+        parser.expectField();
+        assertEquals(12, parser.parseInt());
+        parser.expectField();
+        assertEquals(34, parser.parseInt());
+        parser.expectLineEnd();
+        assertEquals(1, buffer.position());
+    }
+
+    /**
+     * Test if integers are decoded with sign and saturation and invalid values are marked
+     */
+    @Test
+    public void testDecodeInt() {
+        ByteBuffer buffer = bytes("0;-17;2147483647;99999999999;-99999999999;;-;1a;+1");
+
+        assertEquals(0, CsvByteParser.decodeInt(buffer, 0, 1));
+        assertEquals(-17, CsvByteParser.decodeInt(buffer, 2, 5));
+        assertEquals(Integer.MAX_VALUE, CsvByteParser.decodeInt(buffer, 6, 16));
+        assertEquals(CsvByteParser.SATURATED, CsvByteParser.decodeInt(buffer, 17, 28));
+        assertEquals(-CsvByteParser.SATURATED, CsvByteParser.decodeInt(buffer, 29, 41));
+        assertEquals(CsvByteParser.INVALID, CsvByteParser.decodeInt(buffer, 42, 42));
+        assertEquals(CsvByteParser.INVALID, CsvByteParser.decodeInt(buffer, 43, 44));
+        assertEquals(CsvByteParser.INVALID, CsvByteParser.decodeInt(buffer, 45, 47));
+        assertEquals(CsvByteParser.INVALID, CsvByteParser.decodeInt(buffer, 48, 50));
+    }
+
+    /**
+     * Test if prices are decoded into cents and other notations are marked as invalid
+     */
+    @Test
+    public void testDecodeCents() {
+        String[] valid = {"5", "4.5", "0.1", "7.99", "1234.05"};
+        long[] cents = {500, 450, 10, 799, 123405};
+        for (int i = 0; i < valid.length; i++) {
+            ByteBuffer buffer = bytes(valid[i]);
+            assertEquals(cents[i], CsvByteParser.decodeCents(buffer, 0, buffer.limit()), valid[i]);
+        }
+        for (String invalid : new String[] {"", "5.891", "1e2", ".5", "5.", "-5", "1234567890123456"}) {
+            ByteBuffer buffer = bytes(invalid);
+            assertEquals(CsvByteParser.INVALID, CsvByteParser.decodeCents(buffer, 0, buffer.limit()), invalid);
+        }
+    }
+
+    /**
+     * Test if errors name the line and the column of the field
+     */
+    @Test
+    public void testErrorPosition() {
+        CsvByteParser parser = new CsvByteParser(bytes("1;2\n10;x;3"));
+        parser.nextLine();
+        parser.nextLine();
+        parser.nextField();
+        parser.nextField();
+
+        CSVWrongFormatException e = assertThrows(CSVWrongFormatException.class, parser::parseInt);
+        assertEquals(String.format(Constants.Exceptions.CSV_WRONG_FORMAT_AT, 2, 4), e.getMessage());
+        assertThrows(CSVWrongFormatException.class, parser::expectLineEnd);
+    }
+}
@@ -1,11 +1,20 @@
 package test.data;
 
+import data.Constants;
 import data.Importer;
+import data.Tariff;
 import data.Exceptions.CSVWrongFormatException;
 
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.io.TempDir;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.io.StringReader;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
 import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
 import java.util.List;
 import static org.junit.jupiter.api.Assertions.*;
 
@@ -27,8 +36,7 @@ class TestImporter {
     @Test
     public void testImportShippingCostsSuccess() throws CSVWrongFormatException {
         
-        Importer.setPath("src/test/data/possibleCSVs/realShippingCosts.csv");
-        List<Double> shippingCosts = Importer.importShippingCosts();
+        List<Double> shippingCosts = Importer.importShippingCosts("src/test/data/possibleCSVs/realShippingCosts.csv");
 
         assertNotNull(shippingCosts);
         assertEquals(5, shippingCosts.size());
@@ -44,9 +52,9 @@ class TestImporter {
      */
     @Test
     public void testImportShippingCostsInvalidFormatTooManyValues() {
-        Importer.setPath("src/test/data/possibleCSVs/wrongFormatShippingCosts_tooManyValues.csv");
+        String path = "src/test/data/possibleCSVs/wrongFormatShippingCosts_tooManyValues.csv";
 
-        assertThrows(CSVWrongFormatException.class, Importer::importShippingCosts);
+        assertThrows(CSVWrongFormatException.class, () -> Importer.importShippingCosts(path));
     }
 
     /**
@@ -54,9 +62,9 @@ class TestImporter {
      */
     @Test
     public void testImportShippingCostsInvalidFormatNonNumericValues()   {
-        Importer.setPath("src/test/data/possibleCSVs/wrongFormatShippingCosts_noNumbers.csv");
+        String path = "src/test/data/possibleCSVs/wrongFormatShippingCosts_noNumbers.csv";
 
-        assertThrows(CSVWrongFormatException.class, Importer::importShippingCosts);
+        assertThrows(CSVWrongFormatException.class, () -> Importer.importShippingCosts(path));
     }
 
     /**
@@ -64,8 +72,154 @@ class TestImporter {
      */
     @Test
     public void testImportShippingCostsEmptyFile()    {
-        Importer.setPath("src/test/data/possibleCSVs/emptyShippingCosts.csv");
+        String path = "src/test/data/possibleCSVs/emptyShippingCosts.csv";
 
-        assertThrows(CSVWrongFormatException.class, Importer::importShippingCosts);
+        assertThrows(CSVWrongFormatException.class, () -> Importer.importShippingCosts(path));
+    }
+
+    /**
+     * Test if the method imports the limits, tiers and shipping costs of a rule table correctly
+     * @throws CSVWrongFormatException
+     */
+    @Test
+    public void testImportTariffRuleTable() throws CSVWrongFormatException {
+        Tariff tariff = Importer.importTariff("src/test/data/possibleCSVs/ruleTableShippingCosts.csv");
+
+        assertEquals(2000, tariff.getMaxLength());
+        assertEquals(800, tariff.getMaxWidth());
+        assertEquals(800, tariff.getMaxHeight());
+        assertEquals(40000, tariff.getMaxWeight());
+        assertEquals(6, tariff.getTiers().size());
+        assertEquals(new Tariff.Tier(250, 200, 100, 500, Tariff.NO_LIMIT, 299), tariff.getTiers().get(0));
+        assertEquals(new Tariff.Tier(1200, 600, 600, 5000, 3000, 589), tariff.getTiers().get(3));
+        assertEquals(List.of(2.99, 3.89, 4.39, 5.89, 7.99, 19.99), tariff.getShippingCosts());
+    }
+
+    /**
+     * Test if a csv file with only the shipping costs gets the default tiers
+     * @throws CSVWrongFormatException
+     */
+    @Test
+    public void testImportTariffShippingCostsOnly() throws CSVWrongFormatException {
+        Tariff tariff = Importer.importTariff("src/test/data/possibleCSVs/realShippingCosts.csv");
+
+        assertEquals(5, tariff.getTiers().size());
+        assertEquals(0, tariff.findTier(300, 300, 150, 1000));
+        assertEquals(1, tariff.findTier(600, 300, 150, 1000));
+        assertEquals(2, tariff.findTier(1200, 600, 300, 5000));
+        assertEquals(3, tariff.findTier(1200, 600, 300, 10000));
+        assertEquals(4, tariff.findTier(1200, 600, 600, 1000));
+    }
+
+    /**
+     * Test if the method throws an exception if a tier of the rule table has the wrong format
+     */
+    @Test
+    public void testImportTariffRuleTableInvalidFormat() {
+        String path = "src/test/data/possibleCSVs/wrongFormatShippingCosts_ruleTable.csv";
+
+        assertThrows(CSVWrongFormatException.class, () -> Importer.importTariff(path));
+    }
+
+    /**
+     * Test if the shipping costs are read exactly into euro cents and rendered with two decimals
+     * @throws CSVWrongFormatException
+     */
+    @Test
+    public void testImportTariffCents() throws CSVWrongFormatException {
+        Tariff tariff = Importer.importTariff(new StringReader("5;4.5;0.1;7.99;1234.05"));
+
+        assertEquals(500, tariff.getShippingCostsCents(0));
+        assertEquals(450, tariff.getShippingCostsCents(1));
+        assertEquals(10, tariff.getShippingCostsCents(2));
+        assertEquals(799, tariff.getShippingCostsCents(3));
+        assertEquals(123405, tariff.getShippingCostsCents(4));
+        assertEquals("5.00" + Constants.Symbols.EURO, tariff.getPriceText(0));
+        assertEquals("4.50" + Constants.Symbols.EURO, tariff.getPriceText(1));
+        assertEquals("0.10" + Constants.Symbols.EURO, tariff.getPriceText(2));
+        assertEquals("1234.05" + Constants.Symbols.EURO, tariff.getPriceText(4));
+        assertEquals(List.of(5.0, 4.5, 0.1, 7.99, 1234.05), tariff.getShippingCosts());
+    }
+
+    /**
+     * Test if shipping costs with more than two decimals or in another notation are rejected
+     */
+    @Test
+    public void testImportTariffInvalidCents() {
+        assertThrows(CSVWrongFormatException.class, () -> Importer.importTariff(new StringReader("3.89;4.39;5.891;7.99;14.99")));
+        assertThrows(CSVWrongFormatException.class, () -> Importer.importTariff(new StringReader("3.89;4.39;1e2;7.99;14.99")));
+        assertThrows(CSVWrongFormatException.class, () -> Importer.importTariff(new StringReader("3.89;4.39;.5;7.99;14.99")));
+        assertThrows(CSVWrongFormatException.class, () -> Importer.importTariff(new StringReader("3.89;4.39;5.;7.99;14.99")));
+        assertThrows(CSVWrongFormatException.class, () -> Importer.importTariff(new StringReader("3.89;4.39;-5;7.99;14.99")));
+    }
+
+    /**
+     * Test if a value that cannot be read is reported with its line and column
+     */
+    @Test
+    public void testImportTariffErrorPosition() {
+        CSVWrongFormatException e = assertThrows(CSVWrongFormatException.class,
+            () -> Importer.importTariff(new StringReader("LIMITS;1200;600;600;31000\r\nTIER;300;300;abc;1000;-;3.89\r\n")));
+        assertEquals(String.format(Constants.Exceptions.CSV_WRONG_FORMAT_AT, 2, 14), e.getMessage());
+
+        e = assertThrows(CSVWrongFormatException.class, () -> Importer.importTariff(new StringReader("3.89;4.39;5.89;7.99")));
+        assertEquals(String.format(Constants.Exceptions.CSV_WRONG_FORMAT_AT, 1, 20), e.getMessage());
+
+        e = assertThrows(CSVWrongFormatException.class,
+            () -> Importer.importTariff(new StringReader("LIMITS;1200;600;600;31000\nTIER;300;300;150;1000;-;3.89;1")));
+        assertEquals(String.format(Constants.Exceptions.CSV_WRONG_FORMAT_AT, 2, 30), e.getMessage());
+    }
+
+    /**
+     * Test if a byte order mark and windows line breaks are accepted, also from a buffer
+     * @throws CSVWrongFormatException
+     */
+    @Test
+    public void testImportTariffFromBytes() throws CSVWrongFormatException {
+        byte[] content = "\uFEFFLIMITS;1200;600;600;31000\r\nTIER;1200;600;600;31000;-;4.99\r\n".getBytes(StandardCharsets.UTF_8);
+
+        Tariff tariff = Importer.importTariff(ByteBuffer.wrap(content));
+
+        assertEquals(1200, tariff.getMaxLength());
+        assertEquals(List.of(4.99), tariff.getShippingCosts());
+    }
+
+    /**
+     * Test if a small file, which is read, and a large file, which is mapped, give the same tariff
+     * and the small file can be replaced right after the import
+     * @throws CSVWrongFormatException
+     * @throws IOException
+     */
+    @Test
+    public void testImportTariffSmallAndLargeFile() throws CSVWrongFormatException, IOException {
+        String content = "LIMITS;1200;600;600;31000\nTIER;300;300;150;1000;-;3.89\nTIER;1200;600;600;31000;-;9.99\n";
+        Path small = tempDir.resolve("small.csv");
+        Path large = tempDir.resolve("large.csv");
+        Files.writeString(small, content);
+        // blank rows are skipped, they only make the file large enough to be mapped
+        Files.writeString(large, content + "\n".repeat(1 << 20));
+
+        Tariff smallTariff = Importer.importTariff(small.toString());
+        Files.move(large, small, StandardCopyOption.REPLACE_EXISTING);
+        Tariff largeTariff = Importer.importTariff(small.toString());
+
+        assertEquals(smallTariff.getTiers(), largeTariff.getTiers());
+        assertEquals(List.of(3.89, 9.99), largeTariff.getShippingCosts());
+    }
+
+    /**
+     * Test if a file that is larger than a buffer can hold throws an exception instead of being mapped
+     * @throws IOException
+     */
+    @Test
+    public void testImportTariffTooLargeFile() throws IOException {
+        Path file = tempDir.resolve("huge.csv");
+        // the file is sparse, so no disk space is used
+        try (RandomAccessFile raf = new RandomAccessFile(file.toFile(), "rw")) {
+            raf.setLength(Integer.MAX_VALUE + 1L);
+        }
+
+        CSVWrongFormatException e = assertThrows(CSVWrongFormatException.class, () -> Importer.importTariff(file.toString()));
+        assertEquals(Constants.Exceptions.CSV_FILE_TOO_LARGE + file, e.getMessage());
     }
 }
@@ -0,0 +1,149 @@
+package test.data;
+
+import data.Constants;
+import data.Importer;
+import data.RateCard;
+import data.RateCardReader;
+import data.Exceptions.CSVWrongFormatException;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Set;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * The {@code TestRateCard} class tests the {@link RateCardReader} and the {@link RateCard}: rows have to be streamed
+ * and validated one by one, also across the read buffer, and the price of a weight found in its band.
+ */
+class TestRateCard {
+
+    /**
+     * Temporary directory for the test
+     */
+    @TempDir
+    Path tempDir;
+
+    /**
+     * Writes a rate card with the given number of zones, services and weight bands.
+     * @param zones the number of zones
+     * @param bands the number of weight bands per zone and service (1 kg each)
+     * @return the path of the rate card
+     * @throws IOException
+     */
+    private Path writeRateCard(int zones, int bands) throws IOException {
+        Path file = tempDir.resolve("rateCard.csv");
+        try (BufferedWriter writer = Files.newBufferedWriter(file)) {
+            writer.write("ZONE;SERVICE;MAX_WEIGHT;PRICE\r\n");
+            for (int zone = 1; zone <= zones; zone++) {
+                for (String service : new String[] {"standard", "express"}) {
+                    for (int band = 1; band <= bands; band++) {
+                        long cents = zone * 100L + band * 10L + (service.equals("express") ? 500 : 0);
+                        writer.write(String.format("Z%d;%s;%d;%d.%02d\r\n", zone, service, band * 1000, cents / 100, cents % 100));
+                    }
+                }
+            }
+        }
+        return file;
+    }
+
+    /**
+     * Test if the rows are streamed in order with their line numbers, skipping the header and blank rows
+     * @throws CSVWrongFormatException
+     * @throws IOException
+     */
+    @Test
+    public void testReadRows() throws CSVWrongFormatException, IOException {
+        Path file = tempDir.resolve("small.csv");
+        Files.writeString(file, "ZONE;SERVICE;MAX_WEIGHT;PRICE\nDE;standard;1000;3.89\n\nEU;express;2000;12.5");
+
+        try (RateCardReader reader = Importer.openRateCard(file.toString())) {
+            assertEquals(new RateCardReader.Row(2, "DE", "standard", 1000, 389), reader.next());
+            assertEquals(new RateCardReader.Row(4, "EU", "express", 2000, 1250), reader.next());
+            assertNull(reader.next());
+            assertNull(reader.next());
+        }
+    }
+
+    /**
+     * Test if a large rate card is read across the read buffer and every price is found in its band
+     * @throws CSVWrongFormatException
+     * @throws IOException
+     */
+    @Test
+    public void testLargeRateCard() throws CSVWrongFormatException, IOException {
+        int zones = 50;
+        int bands = 100;
+        Path file = writeRateCard(zones, bands);
+        // the rate card is larger than the read buffer of 64 KiB
+        assertTrue(Files.size(file) > 2 * (1 << 16));
+
+        RateCard rateCard = RateCard.load(file.toString());
+
+        assertEquals(zones * 2 * bands, rateCard.getRowCount());
+        assertEquals(zones, rateCard.getZones().size());
+        assertEquals(Set.of("standard", "express"), rateCard.getServices("Z7"));
+        assertEquals(710, rateCard.getPriceCents("Z7", "standard", 1));
+        assertEquals(710, rateCard.getPriceCents("Z7", "standard", 1000));
+        assertEquals(720, rateCard.getPriceCents("Z7", "standard", 1001));
+        assertEquals(5000 + 1000 + 500, rateCard.getPriceCents("Z50", "express", 100_000));
+        assertEquals(RateCard.NO_PRICE, rateCard.getPriceCents("Z50", "express", 100_001));
+        assertEquals(RateCard.NO_PRICE, rateCard.getPriceCents("Z51", "express", 1000));
+        assertEquals(RateCard.NO_PRICE, rateCard.getPriceCents("Z1", "overnight", 1000));
+        assertEquals(Set.of(), rateCard.getServices("Z51"));
+    }
+
+    /**
+     * Test if an invalid row far into the rate card is reported with its line and column
+     * @throws IOException
+     */
+    @Test
+    public void testInvalidRowPosition() throws IOException {
+        Path file = writeRateCard(20, 100);
+        // row 3001 of the rate card follows the header, so it is line 3002
+        Files.writeString(file, "Z99;standard;-5;1.00\n", StandardOpenOption.APPEND);
+        Files.writeString(file, "Z99;standard;1000;1.00\n", StandardOpenOption.APPEND);
+
+        CSVWrongFormatException e = assertThrows(CSVWrongFormatException.class, () -> RateCard.load(file.toString()));
+        assertEquals(String.format(Constants.Exceptions.CSV_WRONG_FORMAT_AT, 20 * 2 * 100 + 2, 14), e.getMessage());
+    }
+
+    /**
+     * Test if rows with missing values, empty names and descending weight bands are rejected
+     * @throws IOException
+     */
+    @Test
+    public void testInvalidRows() throws IOException {
+        Path file = tempDir.resolve("invalid.csv");
+
+        Files.writeString(file, "DE;standard;1000");
+        assertThrows(CSVWrongFormatException.class, () -> RateCard.load(file.toString()));
+        Files.writeString(file, ";standard;1000;3.89");
+        assertThrows(CSVWrongFormatException.class, () -> RateCard.load(file.toString()));
+        Files.writeString(file, "DE;standard;1000;3.89;1");
+        assertThrows(CSVWrongFormatException.class, () -> RateCard.load(file.toString()));
+
+        Files.writeString(file, "DE;standard;2000;4.39\nEU;standard;1000;5.89\nDE;standard;1000;3.89\n");
+        CSVWrongFormatException e = assertThrows(CSVWrongFormatException.class, () -> RateCard.load(file.toString()));
+        assertEquals(String.format(Constants.Exceptions.RATE_CARD_WEIGHT_ORDER, 3), e.getMessage());
+
+        assertThrows(CSVWrongFormatException.class, () -> RateCard.load(tempDir.resolve("missing.csv").toString()));
+    }
+
+    /**
+     * Test if a line that does not fit into the read buffer is rejected with its line
+     * @throws IOException
+     */
+    @Test
+    public void testLineTooLong() throws IOException {
+        Path file = tempDir.resolve("long.csv");
+        Files.writeString(file, "DE;standard;1000;3.89\n" + "X".repeat(1 << 17) + ";standard;1000;3.89\n");
+
+        CSVWrongFormatException e = assertThrows(CSVWrongFormatException.class, () -> RateCard.load(file.toString()));
+        assertEquals(String.format(Constants.Exceptions.RATE_CARD_LINE_TOO_LONG, 2), e.getMessage());
+    }
+}
@@ -0,0 +1,181 @@
+package test.data;
+
+import data.Tariff;
+import data.TariffCache;
+import data.Exceptions.CSVWrongFormatException;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * The {@code TestTariffCache} class tests the {@link TariffCache} class, especially that the csv file is only read once
+ * and that a broken file does not replace a loaded table.
+ */
+class TestTariffCache {
+
+    /**
+     * Temporary directory for the test
+     */
+    @TempDir
+    Path tempDir;
+
+    /**
+     * Test if the cache returns the same table for every call without reading the file again
+     * @throws CSVWrongFormatException
+     */
+    @Test
+    public void testShippingCostsAreCached() throws CSVWrongFormatException {
+        try (TariffCache cache = new TariffCache("src/test/data/possibleCSVs/realShippingCosts.csv")) {
+            List<Double> first = cache.getShippingCosts();
+            List<Double> second = cache.getShippingCosts();
+
+            assertEquals(List.of(3.89, 4.39, 5.89, 7.99, 14.99), first);
+            assertSame(first, second);
+        }
+    }
+
+    /**
+     * Test if a reload replaces the table with the new values of the file
+     * @throws CSVWrongFormatException
+     * @throws IOException
+     */
+    @Test
+    public void testReloadReplacesTable() throws CSVWrongFormatException, IOException {
+        Path csv = tempDir.resolve("shippingCosts.csv");
+        Files.writeString(csv, "3.89;4.39;5.89;7.99;14.99");
+        try (TariffCache cache = new TariffCache(csv.toString())) {
+            assertEquals(3.89, cache.getShippingCosts().get(0));
+
+            Files.writeString(csv, "1.0;2.0;3.0;4.0;5.0");
+            cache.reload();
+
+            assertEquals(List.of(1.0, 2.0, 3.0, 4.0, 5.0), cache.getShippingCosts());
+        }
+    }
+
+    /**
+     * Test if a broken file keeps the previously loaded table
+     * @throws CSVWrongFormatException
+     * @throws IOException
+     */
+    @Test
+    public void testBrokenFileKeepsPreviousTable() throws CSVWrongFormatException, IOException {
+        Path csv = tempDir.resolve("shippingCosts.csv");
+        Files.writeString(csv, "3.89;4.39;5.89;7.99;14.99");
+        try (TariffCache cache = new TariffCache(csv.toString())) {
+            List<Double> loaded = cache.getShippingCosts();
+
+            Files.writeString(csv, "3.89;4.39");
+
+            assertThrows(CSVWrongFormatException.class, cache::reload);
+            assertSame(loaded, cache.getShippingCosts());
+            // the watcher may load the changed file as well
+            assertTrue(cache.getReloadCount() >= 1);
+            assertTrue(cache.getReloadFailureCount() >= 1);
+            assertTrue(cache.getLastReloadNanos() > 0);
+            assertTrue(cache.getTotalReloadNanos() >= cache.getLastReloadNanos());
+        }
+    }
+
+    /**
+     * Test if the listeners are notified with every loaded tariff, but not after a failed load or after being removed
+     * @throws CSVWrongFormatException
+     * @throws IOException
+     */
+    @Test
+    public void testListenersAreNotified() throws CSVWrongFormatException, IOException {
+        Path csv = tempDir.resolve("shippingCosts.csv");
+        Files.writeString(csv, "3.89;4.39;5.89;7.99;14.99");
+        try (TariffCache cache = new TariffCache(csv.toString())) {
+            List<Tariff> notified = new CopyOnWriteArrayList<>();
+            Consumer<Tariff> listener = notified::add;
+            cache.addListener(listener);
+
+            Tariff first = cache.getTariff();
+            Files.writeString(csv, "3.89;4.39");
+            assertThrows(CSVWrongFormatException.class, cache::reload);
+            Files.writeString(csv, "1.0;2.0;3.0;4.0;5.0");
+            Tariff second = cache.reload();
+            cache.removeListener(listener);
+            cache.reload();
+
+            // the watcher may load the changed file as well, but only loaded tariffs are passed
+            assertSame(first, notified.get(0));
+            assertTrue(notified.contains(second));
+            assertFalse(notified.contains(cache.getTariff()));
+        }
+    }
+
+    /**
+     * Test if the cache throws an exception if the file does not exist
+     */
+    @Test
+    public void testMissingFile() {
+        try (TariffCache cache = new TariffCache(tempDir.resolve("missing.csv").toString())) {
+            assertThrows(CSVWrongFormatException.class, cache::getShippingCosts);
+        }
+    }
+
+    /**
+     * Test if the watcher loads a changed file that keeps its size, so that only the content tells the change
+     * @throws CSVWrongFormatException
+     * @throws IOException
+     * @throws InterruptedException
+     */
+    @Test
+    public void testWatcherReloadsSameSizeChange() throws CSVWrongFormatException, IOException, InterruptedException {
+        Path csv = tempDir.resolve("shippingCosts.csv");
+        Files.writeString(csv, "3.89;4.39;5.89;7.99;14.99");
+        try (TariffCache cache = new TariffCache(csv.toString())) {
+            assertEquals(3.89, cache.getShippingCosts().get(0));
+
+            Files.writeString(csv, "3.98;4.39;5.89;7.99;14.99");
+
+            long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(30);
+            while (cache.getShippingCosts().get(0) != 3.98 && System.nanoTime() < deadline) {
+                Thread.sleep(10);
+            }
+            assertEquals(3.98, cache.getShippingCosts().get(0));
+        }
+    }
+
+    /**
+     * Test if closing the cache stops the watcher thread and keeps the loaded tariff
+     * @throws CSVWrongFormatException
+     * @throws IOException
+     */
+    @Test
+    public void testCloseStopsWatcher() throws CSVWrongFormatException, IOException {
+        Path csv = tempDir.resolve("closed.csv");
+        Files.writeString(csv, "3.89;4.39;5.89;7.99;14.99");
+        TariffCache cache = new TariffCache(csv.toString());
+        List<Double> loaded = cache.getShippingCosts();
+        assertTrue(isWatcherAlive("closed.csv"));
+
+        cache.close();
+
+        assertFalse(isWatcherAlive("closed.csv"));
+        assertSame(loaded, cache.getShippingCosts());
+        cache.close();
+    }
+
+    /**
+     * Checks if the watcher thread of a file is running.
+     *
+     * @param fileName the name of the watched file
+     * @return true if a thread watches the file
+     */
+    private static boolean isWatcherAlive(String fileName) {
+        return Thread.getAllStackTraces().keySet().stream()
+            .anyMatch(thread -> thread.getName().startsWith("tariff-watcher-") && thread.getName().endsWith(fileName)
+                && thread.isAlive());
+    }
+}
@@ -0,0 +1,120 @@
+package test.data;
+
+import data.Constants;
+import data.Importer;
+import data.Tariff;
+import data.TariffCache;
+import data.TariffSnapshot;
+import data.Exceptions.CSVWrongFormatException;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * The {@code TestTariffSnapshot} class tests the {@link TariffSnapshot} class: a compiled tariff has to be read back
+ * unchanged and damaged snapshots have to be rejected.
+ */
+class TestTariffSnapshot {
+
+    /**
+     * Temporary directory for the test
+     */
+    @TempDir
+    Path tempDir;
+
+    /**
+     * Test if a compiled csv file is read back with the same limits, tiers and shipping costs
+     * @throws CSVWrongFormatException
+     * @throws IOException
+     */
+    @Test
+    public void testCompiledTariffIsEqual() throws CSVWrongFormatException, IOException {
+        Tariff tariff = Importer.importTariff("src/test/data/possibleCSVs/ruleTableShippingCosts.csv");
+        Path snapshot = tempDir.resolve("tariff.snapshot");
+
+        TariffSnapshot.write(tariff, snapshot);
+        Tariff loaded = TariffSnapshot.read(snapshot);
+
+        assertTrue(TariffSnapshot.isSnapshot(snapshot));
+        assertEquals(tariff.getMaxLength(), loaded.getMaxLength());
+        assertEquals(tariff.getMaxWidth(), loaded.getMaxWidth());
+        assertEquals(tariff.getMaxHeight(), loaded.getMaxHeight());
+        assertEquals(tariff.getMaxWeight(), loaded.getMaxWeight());
+        assertEquals(tariff.getTiers(), loaded.getTiers());
+        assertEquals(tariff.getShippingCosts(), loaded.getShippingCosts());
+    }
+
+    /**
+     * Test if a cache loads a snapshot file like a csv file
+     * @throws CSVWrongFormatException
+     * @throws IOException
+     */
+    @Test
+    public void testCacheLoadsSnapshot() throws CSVWrongFormatException, IOException {
+        Path snapshot = tempDir.resolve("shippingCosts.csv");
+        TariffSnapshot.write(Importer.importTariff("engine/src/data/shippingCosts.csv"), snapshot);
+
+        try (TariffCache cache = new TariffCache(snapshot.toString())) {
+            assertEquals(List.of(3.89, 4.39, 5.89, 7.99, 14.99), cache.getShippingCosts());
+        }
+        assertFalse(TariffSnapshot.isSnapshot(Path.of("engine/src/data/shippingCosts.csv")));
+    }
+
+    /**
+     * Test if a tariff with the maximum number of tiers can be compiled
+     * @throws CSVWrongFormatException
+     */
+    @Test
+    public void testMaximumTiers() throws CSVWrongFormatException {
+        List<Tariff.Tier> tiers = new ArrayList<>();
+        for (int i = 1; i <= Tariff.MAX_TIERS; i++) {
+            tiers.add(new Tariff.Tier(1200, 600, 600, i * 100, Tariff.NO_LIMIT, i));
+        }
+        Tariff tariff = new Tariff(1200, 600, 600, Tariff.MAX_TIERS * 100, tiers);
+
+        Tariff loaded = TariffSnapshot.read(TariffSnapshot.toBuffer(tariff));
+
+        assertEquals(tariff.getTiers(), loaded.getTiers());
+        assertEquals(Tariff.MAX_TIERS - 1, loaded.findTier(1000, 500, 500, Tariff.MAX_TIERS * 100));
+    }
+
+    /**
+     * Test if damaged, truncated or unknown snapshots are rejected
+     * @throws CSVWrongFormatException
+     */
+    @Test
+    public void testDamagedSnapshot() throws CSVWrongFormatException {
+        ByteBuffer snapshot = TariffSnapshot.toBuffer(Importer.importTariff("engine/src/data/shippingCosts.csv"));
+
+        // a changed shipping cost
+        ByteBuffer damaged = ByteBuffer.allocate(snapshot.remaining()).put(snapshot.duplicate()).flip();
+        damaged.put(damaged.limit() - 8, (byte) 1);
+        assertThrows(CSVWrongFormatException.class, () -> TariffSnapshot.read(damaged));
+
+        // a truncated file
+        assertThrows(CSVWrongFormatException.class, () -> TariffSnapshot.read(snapshot.duplicate().limit(snapshot.limit() - 1)));
+
+        // an unknown version
+        ByteBuffer version = ByteBuffer.allocate(snapshot.remaining()).put(snapshot.duplicate()).flip();
+        version.putInt(4, TariffSnapshot.VERSION + 1);
+        assertThrows(CSVWrongFormatException.class, () -> TariffSnapshot.read(version));
+
+        // a missing file
+        CSVWrongFormatException missing = assertThrows(CSVWrongFormatException.class,
+            () -> TariffSnapshot.read(tempDir.resolve("missing.snapshot")));
+        assertEquals(Constants.Exceptions.CSV_FILE_NOT_FOUND, missing.getMessage());
+        assertInstanceOf(NoSuchFileException.class, missing.getCause());
+
+        // a file that cannot be read is not reported as missing
+        CSVWrongFormatException unreadable = assertThrows(CSVWrongFormatException.class, () -> TariffSnapshot.read(tempDir));
+        assertEquals(Constants.Exceptions.FILE_NOT_READABLE + tempDir, unreadable.getMessage());
+        assertInstanceOf(IOException.class, unreadable.getCause());
+    }
+}
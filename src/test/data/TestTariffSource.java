@@ -0,0 +1,126 @@
+package test.data;
+
+import data.TariffCache;
+import data.TariffSource;
+import data.Exceptions.CSVWrongFormatException;
+
+import org.junit.jupiter.api.Test;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.ArrayList;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * The {@code TestTariffSource} class tests the different {@link TariffSource} implementations and that several tariffs
+ * can be used concurrently.
+ */
+class TestTariffSource {
+
+    /**
+     * Test if a file source loads the shipping costs of the file
+     * @throws CSVWrongFormatException
+     */
+    @Test
+    public void testFileSource() throws CSVWrongFormatException {
+        TariffSource source = TariffSource.ofFile("src/test/data/possibleCSVs/realShippingCosts.csv");
+
+        assertEquals(List.of(3.89, 4.39, 5.89, 7.99, 14.99), source.load().getShippingCosts());
+        assertEquals("realShippingCosts.csv", source.getName());
+        assertNotNull(source.getWatchPath());
+    }
+
+    /**
+     * Test if a classpath source loads the shipping costs of the resource
+     * @throws CSVWrongFormatException
+     */
+    @Test
+    public void testClasspathSource() throws CSVWrongFormatException {
+        TariffSource source = TariffSource.ofClasspath("test/data/possibleCSVs/realShippingCosts.csv");
+
+        assertEquals(List.of(3.89, 4.39, 5.89, 7.99, 14.99), source.load().getShippingCosts());
+        assertNull(source.getWatchPath());
+    }
+
+    /**
+     * Test if a classpath source loads a resource of the engine, like the default tariff
+     * @throws CSVWrongFormatException
+     */
+    @Test
+    public void testClasspathSourceOfEngine() throws CSVWrongFormatException {
+        TariffSource source = TariffSource.ofClasspath("data/shippingCosts.csv");
+
+        assertEquals(TariffSource.ofFile("engine/src/data/shippingCosts.csv").load().getTiers(), source.load().getTiers());
+    }
+
+    /**
+     * Test if a classpath source loads a resource of the module of a given class
+     * @throws CSVWrongFormatException
+     */
+    @Test
+    public void testClasspathSourceOfCaller() throws CSVWrongFormatException {
+        TariffSource source = TariffSource.ofClasspath(TestTariffSource.class, "test/data/possibleCSVs/realShippingCosts.csv");
+
+        assertEquals(List.of(3.89, 4.39, 5.89, 7.99, 14.99), source.load().getShippingCosts());
+    }
+
+    /**
+     * Test if a classpath source throws an exception if the resource does not exist or has the wrong format
+     */
+    @Test
+    public void testClasspathSourceInvalid() {
+        assertThrows(CSVWrongFormatException.class, () -> TariffSource.ofClasspath("test/data/missing.csv").load());
+        assertThrows(CSVWrongFormatException.class,
+            () -> TariffSource.ofClasspath("test/data/possibleCSVs/wrongFormatShippingCosts_noNumbers.csv").load());
+    }
+
+    /**
+     * Test if an in-memory source returns its values and rejects the wrong number of values
+     * @throws CSVWrongFormatException
+     */
+    @Test
+    public void testInMemorySource() throws CSVWrongFormatException {
+        assertEquals(List.of(1.0, 2.0, 3.0, 4.0, 5.0), TariffSource.ofValues(1, 2, 3, 4, 5).load().getShippingCosts());
+        assertThrows(CSVWrongFormatException.class, () -> TariffSource.ofValues(1, 2, 3).load());
+    }
+
+    /**
+     * Test if several tariffs can be loaded and used by many threads at once without mixing up their values
+     * @throws Exception
+     */
+    @Test
+    public void testConcurrentTariffs() throws Exception {
+        TariffCache real = new TariffCache(TariffSource.ofFile("src/test/data/possibleCSVs/realShippingCosts.csv"));
+        TariffCache memory = new TariffCache(TariffSource.ofValues(1, 2, 3, 4, 5));
+        TariffCache wrong = new TariffCache(TariffSource.ofFile("src/test/data/possibleCSVs/wrongFormatShippingCosts_tooManyValues.csv"));
+
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        try {
+            List<Future<Boolean>> results = new ArrayList<>();
+            for (int i = 0; i < 300; i++) {
+                Callable<Boolean> task = switch (i % 3) {
+                    case 0 -> () -> real.getShippingCosts().get(0) == 3.89;
+                    case 1 -> () -> memory.getShippingCosts().get(0) == 1.0;
+                    default -> () -> {
+                        try {
+                            wrong.getShippingCosts();
+                            return false;
+                        } catch (CSVWrongFormatException e) {
+                            return true;
+                        }
+                    };
+                };
+                results.add(executor.submit(task));
+            }
+            for (Future<Boolean> result : results) {
+                assertTrue(result.get());
+            }
+        } finally {
+            executor.shutdown();
+            real.close();
+            wrong.close();
+        }
+    }
+}
@@ -0,0 +1,136 @@
+package test.data;
+
+import data.Tariff;
+import data.TariffVersions;
+import data.Exceptions.CSVWrongFormatException;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicBoolean;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * The {@code TestTariffVersions} class tests the {@link TariffVersions} class: a shipment date has to resolve the
+ * version that applied at that time, old versions have to stay available and publishing must not disturb readers.
+ */
+class TestTariffVersions {
+
+    /**
+     * Temporary directory for the test
+     */
+    @TempDir
+    Path tempDir;
+
+    /**
+     * Test if the latest version that is not after the instant is returned, also if versions are published out of order
+     * @throws CSVWrongFormatException
+     */
+    @Test
+    public void testVersionAtInstant() throws CSVWrongFormatException {
+        Tariff first = Tariff.ofShippingCostsCents(389, 439, 589, 799, 1499);
+        Tariff second = Tariff.ofShippingCostsCents(399, 449, 599, 849, 1599);
+        Tariff third = Tariff.ofShippingCostsCents(409, 459, 609, 899, 1699);
+        Instant jan = Instant.parse("2026-01-01T00:00:00Z");
+        Instant feb = Instant.parse("2026-02-01T00:00:00Z");
+        Instant mar = Instant.parse("2026-03-01T00:00:00Z");
+        TariffVersions versions = new TariffVersions();
+        versions.publish(feb, second);
+        versions.publish(mar, third);
+        versions.publish(jan, first);
+
+        assertSame(first, versions.getTariff(jan));
+        assertSame(first, versions.getTariff(feb.minusNanos(1)));
+        assertSame(second, versions.getTariff(feb));
+        assertSame(third, versions.getTariff(Instant.parse("2030-01-01T00:00:00Z")));
+        assertThrows(IllegalArgumentException.class, () -> versions.getTariff(jan.minusNanos(1)));
+        assertEquals(List.of(jan, feb, mar), versions.getVersions().stream().map(TariffVersions.Version::effectiveFrom).toList());
+    }
+
+    /**
+     * Test if a version cannot be replaced, so that past shipments keep their prices
+     * @throws CSVWrongFormatException
+     */
+    @Test
+    public void testDuplicateVersion() throws CSVWrongFormatException {
+        Tariff tariff = Tariff.ofShippingCostsCents(389, 439, 589, 799, 1499);
+        Instant jan = Instant.parse("2026-01-01T00:00:00Z");
+        TariffVersions versions = new TariffVersions();
+        versions.publish(jan, tariff);
+
+        assertThrows(IllegalArgumentException.class, () -> versions.publish(jan, tariff));
+        assertEquals(1, versions.getVersions().size());
+    }
+
+    /**
+     * Test if the versions of a directory take effect at the start of their day in the given time zone
+     * @throws CSVWrongFormatException
+     * @throws IOException
+     */
+    @Test
+    public void testLoadDirectory() throws CSVWrongFormatException, IOException {
+        Files.writeString(tempDir.resolve("2026-01-01.csv"), "3.89;4.39;5.89;7.99;14.99");
+        Files.writeString(tempDir.resolve("2026-07-01.csv"), "3.99;4.49;5.99;8.49;15.99");
+        Files.writeString(tempDir.resolve("notes.txt"), "not a tariff");
+        ZoneId berlin = ZoneId.of("Europe/Berlin");
+
+        TariffVersions versions = TariffVersions.load(tempDir, berlin);
+
+        assertEquals(2, versions.getVersions().size());
+        assertEquals(3.89, versions.getTariff(Instant.parse("2026-06-30T21:59:59Z")).getShippingCosts().get(0));
+        assertEquals(3.99, versions.getTariff(Instant.parse("2026-06-30T22:00:00Z")).getShippingCosts().get(0));
+
+        Files.writeString(tempDir.resolve("july.csv"), "3.99;4.49;5.99;8.49;15.99");
+        assertThrows(CSVWrongFormatException.class, () -> TariffVersions.load(tempDir, berlin));
+        CSVWrongFormatException missing = assertThrows(CSVWrongFormatException.class,
+            () -> TariffVersions.load(tempDir.resolve("missing"), berlin));
+        assertInstanceOf(NoSuchFileException.class, missing.getCause());
+    }
+
+    /**
+     * Test if concurrent publishers lose no version and readers always see a complete index
+     * @throws InterruptedException
+     * @throws CSVWrongFormatException
+     */
+    @Test
+    public void testConcurrentPublish() throws InterruptedException, CSVWrongFormatException {
+        TariffVersions versions = new TariffVersions();
+        Instant start = Instant.parse("2026-01-01T00:00:00Z");
+        Tariff first = Tariff.ofShippingCostsCents(389, 439, 589, 799, 1499);
+        Tariff later = Tariff.ofShippingCostsCents(400, 500, 600, 700, 800);
+        versions.publish(start, first);
+        int publishers = 4;
+        int perPublisher = 250;
+        CountDownLatch done = new CountDownLatch(publishers);
+        for (int p = 0; p < publishers; p++) {
+            int publisher = p;
+            Thread.ofVirtual().start(() -> {
+                for (int i = 1; i <= perPublisher; i++) {
+                    versions.publish(start.plusSeconds((long) i * publishers + publisher), later);
+                }
+                done.countDown();
+            });
+        }
+
+        AtomicBoolean wrong = new AtomicBoolean();
+        while (done.getCount() > 0) {
+            // the first version always applies at its own instant
+            wrong.compareAndSet(false, versions.getTariff(start) != first);
+        }
+        done.await();
+
+        assertFalse(wrong.get());
+        List<TariffVersions.Version> all = versions.getVersions();
+        assertEquals(1 + publishers * perPublisher, all.size());
+        for (int i = 1; i < all.size(); i++) {
+            assertTrue(all.get(i - 1).effectiveFrom().isBefore(all.get(i).effectiveFrom()));
+        }
+    }
+}